@@ -0,0 +1,135 @@
+package agilementor;
+
+import agilementor.backlog.entity.Backlog;
+import agilementor.backlog.entity.Priority;
+import agilementor.backlog.entity.Status;
+import agilementor.backlog.entity.Story;
+import agilementor.backlog.repository.BacklogRepository;
+import agilementor.backlog.repository.StoryRepository;
+import agilementor.member.entity.Member;
+import agilementor.member.repository.MemberRepository;
+import agilementor.project.entity.Project;
+import agilementor.project.entity.ProjectMember;
+import agilementor.project.repository.ProjectMemberRepository;
+import agilementor.project.repository.ProjectRespository;
+import agilementor.sprint.entity.BurndownSnapshot;
+import agilementor.sprint.entity.Sprint;
+import agilementor.sprint.repository.BurndownSnapshotRepository;
+import agilementor.sprint.repository.SprintRepository;
+import java.util.ArrayList;
+import java.util.List;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+// 벤치마크용 내장 H2 데이터 세트
+// 웹 서버 없이 애플리케이션 컨텍스트를 띄우고, 프로젝트 하나에 backlogCount개의 백로그를
+// 스프린트(완료 SPRINT_COUNT - 1개, 진행 중 1개)와 스토리에 고르게 나누어 저장
+// 완료된 스프린트에는 스프린트 완료 시처럼 번다운 스냅샷을 기록
+@State(Scope.Benchmark)
+public class H2DataSet {
+
+    private static final int SPRINT_COUNT = 20;
+    private static final int STORY_COUNT = 100;
+    private static final int CHUNK_SIZE = 1000;
+
+    @Param({"1000", "10000", "100000"})
+    private int backlogCount;
+
+    private ConfigurableApplicationContext context;
+    private Long memberId;
+    private Long projectId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(AgilementorApplication.class)
+            .web(WebApplicationType.NONE)
+            .bannerMode(Banner.Mode.OFF)
+            .properties(
+                "spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                "spring.jpa.open-in-view=false",
+                "logging.level.root=WARN")
+            .run();
+        seed();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    private void seed() {
+        Member member = getBean(MemberRepository.class)
+            .save(new Member("benchmark@email.com", "benchmark", "pic.jpg"));
+        Project project = getBean(ProjectRespository.class).save(new Project("benchmark"));
+        getBean(ProjectMemberRepository.class).save(new ProjectMember(project, member, true));
+
+        List<Sprint> sprints = new ArrayList<>();
+        for (int i = 0; i < SPRINT_COUNT; i++) {
+            Sprint sprint = new Sprint(project, "sprint" + i);
+            sprint.start();
+            if (i < SPRINT_COUNT - 1) {
+                sprint.complete();
+            }
+            sprints.add(sprint);
+        }
+        sprints = getBean(SprintRepository.class).saveAll(sprints);
+
+        List<Story> stories = new ArrayList<>();
+        for (int i = 0; i < STORY_COUNT; i++) {
+            stories.add(new Story(project, "story" + i, "desc"));
+        }
+        stories = getBean(StoryRepository.class).saveAll(stories);
+
+        // 영속성 컨텍스트가 커지지 않도록 CHUNK_SIZE개씩 별도 트랜잭션으로 저장
+        BacklogRepository backlogRepository = getBean(BacklogRepository.class);
+        Status[] statuses = Status.values();
+        Priority[] priorities = Priority.values();
+        for (int start = 0; start < backlogCount; start += CHUNK_SIZE) {
+            List<Backlog> backlogs = new ArrayList<>();
+            for (int i = start; i < Math.min(start + CHUNK_SIZE, backlogCount); i++) {
+                Sprint sprint = sprints.get(i % SPRINT_COUNT);
+                Story story = stories.get(i % STORY_COUNT);
+                Priority priority = priorities[i % priorities.length];
+                Backlog backlog = new Backlog("backlog" + i, "desc", priority, project, sprint,
+                    story, member);
+                backlog.update("backlog" + i, "desc", statuses[i % statuses.length], priority,
+                    sprint, story, member);
+                backlogs.add(backlog);
+            }
+            backlogRepository.saveAll(backlogs);
+        }
+
+        // 스프린트 완료 시 기록하는 번다운 스냅샷 (스프린트의 DONE 백로그 수)
+        List<BurndownSnapshot> snapshots = new ArrayList<>();
+        for (Sprint sprint : sprints) {
+            if (sprint.isDone()) {
+                snapshots.add(new BurndownSnapshot(project, sprint,
+                    backlogRepository.countBySprint_IdAndStatus(sprint.getId(), Status.DONE)));
+            }
+        }
+        getBean(BurndownSnapshotRepository.class).saveAll(snapshots);
+
+        memberId = member.getMemberId();
+        projectId = project.getProjectId();
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+}
@@ -0,0 +1,42 @@
+package agilementor.backlog;
+
+import agilementor.H2DataSet;
+import agilementor.backlog.dto.response.BacklogGetResponse;
+import agilementor.backlog.entity.Backlog;
+import agilementor.backlog.repository.BacklogRepository;
+import agilementor.backlog.service.BacklogService;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// 백로그 목록 조회: 엔티티 -> 응답 DTO 변환과 H2를 거치는 서비스 전체 경로
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BacklogBenchmark {
+
+    private BacklogService backlogService;
+    private List<Backlog> backlogs;
+
+    @Setup
+    public void setUp(H2DataSet dataSet) {
+        backlogService = dataSet.getBean(BacklogService.class);
+        backlogs = dataSet.getBean(BacklogRepository.class).findAll();
+    }
+
+    @Benchmark
+    public List<BacklogGetResponse> fromEntities() {
+        return backlogs.stream().map(BacklogGetResponse::from).toList();
+    }
+
+    @Benchmark
+    public List<BacklogGetResponse> getBacklogList(H2DataSet dataSet) {
+        return backlogService.getBacklogList(dataSet.getMemberId(), dataSet.getProjectId());
+    }
+}
@@ -0,0 +1,130 @@
+package agilementor.backlog;
+
+import agilementor.AgilementorApplication;
+import agilementor.backlog.dto.response.BacklogGetResponse;
+import agilementor.backlog.entity.Backlog;
+import agilementor.backlog.entity.Priority;
+import agilementor.backlog.repository.BacklogRepository;
+import agilementor.backlog.service.BacklogService;
+import agilementor.member.entity.Member;
+import agilementor.member.repository.MemberRepository;
+import agilementor.project.entity.Project;
+import agilementor.project.entity.ProjectMember;
+import agilementor.project.repository.ProjectMemberRepository;
+import agilementor.project.repository.ProjectRespository;
+import agilementor.sprint.entity.Sprint;
+import agilementor.sprint.repository.SprintRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+// 할당된 작업 목록 조회: 프로젝트마다 스프린트와 백로그를 조회하던 1 + 2N 쿼리 경로와
+// 활성 스프린트의 백로그를 한 번에 DTO로 조회하는 경로 비교
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TaskBenchmark {
+
+    @Benchmark
+    public List<BacklogGetResponse> perProject(TaskDataSet dataSet) {
+        Member member = dataSet.memberRepository.findById(dataSet.memberId).orElseThrow();
+
+        return dataSet.projectMemberRepository.findByMemberId(dataSet.memberId).stream()
+            .map(projectMember -> dataSet.sprintRepository
+                .findByProjectAndIsActivateTrue(projectMember.getProject()))
+            .filter(Optional::isPresent)
+            .map(Optional::get)
+            .map(sprint -> dataSet.backlogRepository.findByAssigneeAndSprint(member, sprint))
+            .flatMap(List::stream)
+            .map(BacklogGetResponse::from)
+            .toList();
+    }
+
+    @Benchmark
+    public List<BacklogGetResponse> singleQuery(TaskDataSet dataSet) {
+        return dataSet.backlogService.getTasks(dataSet.memberId);
+    }
+
+    // 회원 한 명이 projectCount개의 프로젝트에 참여하고, 프로젝트마다 활성 스프린트에
+    // 할당된 백로그 TASKS_PER_PROJECT개와 다른 스프린트의 백로그를 함께 저장
+    @State(Scope.Benchmark)
+    public static class TaskDataSet {
+
+        private static final int TASKS_PER_PROJECT = 10;
+
+        @Param({"50", "200"})
+        private int projectCount;
+
+        private ConfigurableApplicationContext context;
+        private MemberRepository memberRepository;
+        private ProjectMemberRepository projectMemberRepository;
+        private SprintRepository sprintRepository;
+        private BacklogRepository backlogRepository;
+        private BacklogService backlogService;
+        private Long memberId;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            context = new SpringApplicationBuilder(AgilementorApplication.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .properties(
+                    "spring.datasource.url=jdbc:h2:mem:task-benchmark;DB_CLOSE_DELAY=-1",
+                    "spring.jpa.open-in-view=false",
+                    "logging.level.root=WARN")
+                .run();
+            memberRepository = context.getBean(MemberRepository.class);
+            projectMemberRepository = context.getBean(ProjectMemberRepository.class);
+            sprintRepository = context.getBean(SprintRepository.class);
+            backlogRepository = context.getBean(BacklogRepository.class);
+            backlogService = context.getBean(BacklogService.class);
+            seed();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            context.close();
+        }
+
+        private void seed() {
+            Member member = memberRepository
+                .save(new Member("benchmark@email.com", "benchmark", "pic.jpg"));
+            ProjectRespository projectRespository = context.getBean(ProjectRespository.class);
+
+            for (int i = 0; i < projectCount; i++) {
+                Project project = projectRespository.save(new Project("project" + i));
+                projectMemberRepository.save(new ProjectMember(project, member, i == 0));
+
+                Sprint activeSprint = new Sprint(project, "active");
+                activeSprint.start();
+                activeSprint = sprintRepository.save(activeSprint);
+                Sprint nextSprint = sprintRepository.save(new Sprint(project, "next"));
+
+                List<Backlog> backlogs = new ArrayList<>();
+                for (int j = 0; j < TASKS_PER_PROJECT; j++) {
+                    backlogs.add(new Backlog("task" + j, "desc", Priority.MEDIUM, project,
+                        activeSprint, null, member));
+                    backlogs.add(new Backlog("next" + j, "desc", Priority.LOW, project,
+                        nextSprint, null, member));
+                }
+                backlogRepository.saveAll(backlogs);
+            }
+
+            memberId = member.getMemberId();
+        }
+    }
+}
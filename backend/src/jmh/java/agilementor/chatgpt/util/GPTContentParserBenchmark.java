@@ -0,0 +1,79 @@
+package agilementor.chatgpt.util;
+
+import agilementor.chatgpt.dto.GPTResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// 기존 파싱(정규식 코드 블록 제거 -> 요청마다 ObjectMapper 생성 -> JsonNode 트리 -> convertValue 두 번)과
+// GPTContentParser의 한 번에 바인딩하는 파싱 비교
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GPTContentParserBenchmark {
+
+    @Param({"5", "50"})
+    private int storyCount;
+
+    private String content;
+
+    @Setup
+    public void setUp() {
+        StringBuilder json = new StringBuilder("```json\n{\"stories\": [");
+        for (int story = 1; story <= storyCount; story++) {
+            json.append(story == 1 ? "" : ",")
+                .append("{\"id\": ").append(story)
+                .append(", \"title\": \"스토리 ").append(story)
+                .append("\", \"description\": \"사용자가 원하는 기능을 제공\", \"tasks\": [");
+            for (int task = 1; task <= 8; task++) {
+                json.append(task == 1 ? "" : ",")
+                    .append("{\"title\": \"작업 ").append(task)
+                    .append("\", \"description\": \"작업 설명\", \"priority\": \"HIGH\",")
+                    .append(" \"sprintId\": ").append(task % 4 + 1).append("}");
+            }
+            json.append("]}");
+        }
+        json.append("], \"sprints\": [");
+        for (int sprint = 1; sprint <= 4; sprint++) {
+            json.append(sprint == 1 ? "" : ",")
+                .append("{\"id\": ").append(sprint)
+                .append(", \"title\": \"스프린트\", \"goal\": \"목표\"}");
+        }
+        content = json.append("]}\n```").toString();
+    }
+
+    @Benchmark
+    public GPTResponse singlePass() {
+        return GPTContentParser.parse(content, new GPTResponse());
+    }
+
+    @Benchmark
+    public GPTResponse legacy() throws Exception {
+        GPTResponse gptResponse = new GPTResponse();
+        String sanitizedResponse = content.replaceAll("^```json|```$", "").trim();
+        String jsonResponse = sanitizedResponse.trim();
+        if (jsonResponse.startsWith("```") && jsonResponse.endsWith("```")) {
+            jsonResponse = jsonResponse.substring(3, jsonResponse.length() - 3).trim();
+        }
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        JsonNode rootNode = objectMapper.readTree(jsonResponse);
+        gptResponse.setStories(objectMapper.convertValue(rootNode.get("stories"),
+            new TypeReference<List<GPTResponse.StoryDTO>>() {
+            }));
+        gptResponse.setSprints(objectMapper.convertValue(rootNode.get("sprints"),
+            new TypeReference<List<GPTResponse.SprintDTO>>() {
+            }));
+        return gptResponse;
+    }
+}
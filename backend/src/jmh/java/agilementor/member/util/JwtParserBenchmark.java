@@ -0,0 +1,74 @@
+package agilementor.member.util;
+
+import agilementor.member.client.GoogleJwkSetClient;
+import agilementor.member.dto.ParsedIdToken;
+import agilementor.member.properties.GoogleClientProperties;
+import agilementor.member.properties.GoogleIdTokenProperties;
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.web.client.RestClient;
+
+// 구글 로그인 시 id 토큰의 서명을 검증하고 사용자 정보를 꺼내는 비용 (공개키는 캐시된 상태)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtParserBenchmark {
+
+    private JwtParser jwtParser;
+    private String idToken;
+
+    @Setup
+    public void setUp() throws NoSuchAlgorithmException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keyPair = generator.generateKeyPair();
+        RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
+
+        GoogleIdTokenProperties properties = new GoogleIdTokenProperties(
+            "https://www.googleapis.com/oauth2/v3/certs", Set.of("https://accounts.google.com"),
+            Duration.ofHours(1), Duration.ofDays(1), Duration.ofMinutes(1),
+            Duration.ofSeconds(60), false);
+        GoogleJwkSetClient jwkSetClient = new GoogleJwkSetClient(properties,
+            RestClient.create()) {
+            @Override
+            public Map<String, RSAPublicKey> fetchKeys() {
+                return Map.of("kid", publicKey);
+            }
+        };
+        jwtParser = new JwtParser(jwkSetClient, properties,
+            new GoogleClientProperties("client-id", "client-secret", "redirect-uri", Set.of()));
+
+        idToken = JWT.create()
+            .withKeyId("kid")
+            .withIssuer("https://accounts.google.com")
+            .withAudience("client-id")
+            .withSubject("1234567890")
+            .withExpiresAt(Instant.now().plus(Duration.ofDays(1)))
+            .withPayload(Map.of("email", "email@email.com", "name", "name",
+                "picture", "https://lh3.googleusercontent.com/picture.jpg"))
+            .sign(Algorithm.RSA256(publicKey, (RSAPrivateKey) keyPair.getPrivate()));
+        jwtParser.parseIdToken(idToken);
+    }
+
+    @Benchmark
+    public ParsedIdToken parseIdToken() {
+        return jwtParser.parseIdToken(idToken);
+    }
+}
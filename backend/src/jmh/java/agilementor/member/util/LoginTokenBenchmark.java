@@ -0,0 +1,86 @@
+package agilementor.member.util;
+
+import agilementor.common.properties.SessionNearCacheProperties;
+import agilementor.common.session.NearCacheSessionRepository;
+import agilementor.member.properties.LoginTokenProperties;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
+import org.springframework.session.jdbc.JdbcIndexedSessionRepository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 요청마다 로그인한 회원을 확인하는 비용
+// 로그인 토큰 서명 검증 / 세션 로컬 캐시 조회 / 세션 저장소(JDBC) 조회
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LoginTokenBenchmark {
+
+    private final LoginTokenProvider loginTokenProvider = new LoginTokenProvider(
+        new LoginTokenProperties(true, "login-token-secret-for-benchmark-0123456789",
+            Duration.ofHours(1)));
+
+    private EmbeddedDatabase database;
+    private SessionRepository<Session> jdbcSessionRepository;
+    private NearCacheSessionRepository nearCacheSessionRepository;
+    private String token;
+    private String sessionId;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.H2)
+            .addScript("org/springframework/session/jdbc/schema-h2.sql")
+            .build();
+        SessionRepository<?> repository = new JdbcIndexedSessionRepository(
+            new JdbcTemplate(database),
+            new TransactionTemplate(new DataSourceTransactionManager(database)));
+        jdbcSessionRepository = (SessionRepository<Session>) repository;
+        nearCacheSessionRepository = new NearCacheSessionRepository(jdbcSessionRepository,
+            new SessionNearCacheProperties(10000, Duration.ofMinutes(10), Duration.ofMinutes(1)));
+
+        Session session = jdbcSessionRepository.createSession();
+        session.setAttribute("memberId", 1L);
+        jdbcSessionRepository.save(session);
+        sessionId = session.getId();
+        nearCacheSessionRepository.findById(sessionId);
+
+        token = loginTokenProvider.issue(1L);
+    }
+
+    @TearDown
+    public void tearDown() {
+        database.shutdown();
+    }
+
+    @Benchmark
+    public Optional<Long> verifyToken() {
+        return loginTokenProvider.verify(token);
+    }
+
+    @Benchmark
+    public Object findSessionNearCache() {
+        return nearCacheSessionRepository.findById(sessionId).getAttribute("memberId");
+    }
+
+    @Benchmark
+    public Object findSessionJdbc() {
+        return jdbcSessionRepository.findById(sessionId).getAttribute("memberId");
+    }
+}
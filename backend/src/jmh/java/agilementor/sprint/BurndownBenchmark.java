@@ -0,0 +1,61 @@
+package agilementor.sprint;
+
+import agilementor.H2DataSet;
+import agilementor.backlog.repository.BacklogRepository;
+import agilementor.sprint.dto.CompletedSprintData;
+import agilementor.sprint.dto.SprintBacklogCount;
+import agilementor.sprint.repository.BurndownSnapshotRepository;
+import agilementor.sprint.service.SprintService;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// 번다운 차트 계산: 스냅샷을 사용하는 조회 경로와, 스냅샷이 없을 때(스냅샷 도입 전에 완료된 스프린트)
+// 집계 쿼리로 계산하는 조회 경로, 그리고 스프린트/상태별 집계 쿼리
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BurndownBenchmark {
+
+    private SprintService sprintService;
+    private BacklogRepository backlogRepository;
+
+    @Setup
+    public void setUp(H2DataSet dataSet) {
+        sprintService = dataSet.getBean(SprintService.class);
+        backlogRepository = dataSet.getBean(BacklogRepository.class);
+    }
+
+    @Benchmark
+    public List<CompletedSprintData> getBurndownData(H2DataSet dataSet) {
+        return sprintService.getBurndownData(dataSet.getMemberId(), dataSet.getProjectId());
+    }
+
+    @Benchmark
+    public List<CompletedSprintData> getBurndownDataWithoutSnapshots(
+        WithoutSnapshots withoutSnapshots, H2DataSet dataSet) {
+        return sprintService.getBurndownData(dataSet.getMemberId(), dataSet.getProjectId());
+    }
+
+    @Benchmark
+    public List<SprintBacklogCount> countBySprintAndStatus(H2DataSet dataSet) {
+        return backlogRepository.countBySprintAndStatus(dataSet.getProjectId());
+    }
+
+    // 데이터 세트의 번다운 스냅샷을 지워 집계 쿼리로 계산하는 경로를 측정
+    // (벤치마크마다 데이터 세트를 새로 만들므로 다른 벤치마크에는 영향이 없음)
+    @State(Scope.Benchmark)
+    public static class WithoutSnapshots {
+
+        @Setup
+        public void setUp(H2DataSet dataSet) {
+            dataSet.getBean(BurndownSnapshotRepository.class).deleteAllInBatch();
+        }
+    }
+}
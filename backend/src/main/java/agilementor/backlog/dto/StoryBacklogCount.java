@@ -0,0 +1,20 @@
+package agilementor.backlog.dto;
+
+import agilementor.backlog.entity.Status;
+
+// 스토리별 전체, 완료된 백로그 개수 집계 결과
+public record StoryBacklogCount(
+    Long storyId,
+    Long totalCount,
+    Long doneCount
+) {
+
+    // 백로그가 하나 이상 있고 모두 완료되었으면 DONE, 그 외에는 IN_PROGRESS
+    public Status toStoryStatus() {
+        if (totalCount > 0 && totalCount.equals(doneCount)) {
+            return Status.DONE;
+        }
+
+        return Status.IN_PROGRESS;
+    }
+}
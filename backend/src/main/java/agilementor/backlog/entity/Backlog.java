@@ -7,32 +7,43 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.SequenceGenerator;
 
 @Entity
+@NamedEntityGraph(name = "backlog.detail", attributeNodes = {
+    @NamedAttributeNode("sprint"),
+    @NamedAttributeNode("story"),
+    @NamedAttributeNode("assignee")
+})
 public class Backlog {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // JDBC 배치 INSERT가 가능하도록 IDENTITY 대신 시퀀스로 ID를 미리 할당
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "backlog_seq")
+    @SequenceGenerator(name = "backlog_seq", sequenceName = "backlog_seq", allocationSize = 50)
     private Long backlogId;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "project_id", nullable = false)
     private Project project;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "sprint_id")
     private Sprint sprint;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "story_id")
     private Story story;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_id")
     private Member assignee;
 
@@ -1,14 +1,23 @@
 package agilementor.backlog.repository;
 
+import agilementor.backlog.dto.StoryBacklogCount;
+import agilementor.backlog.dto.response.BacklogGetResponse;
 import agilementor.backlog.entity.Backlog;
 import agilementor.backlog.entity.Status;
 import agilementor.backlog.entity.Story;
 import agilementor.member.entity.Member;
 import agilementor.project.entity.Project;
+import agilementor.sprint.dto.SprintBacklogCount;
 import agilementor.sprint.entity.Sprint;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface BacklogRepository extends JpaRepository<Backlog, Long> {
 
@@ -16,16 +25,63 @@ public interface BacklogRepository extends JpaRepository<Backlog, Long> {
 
     List<Backlog> findBySprint(Sprint activeSprint);
 
+    // 백로그 목록 조회용 DTO 프로젝션 (연관 엔티티 로딩 없이 외래키 컬럼만 사용)
+    // 완료된 백로그는 종료되지 않은 스프린트에 속한 경우에만 조회
+    @Query("SELECT new agilementor.backlog.dto.response.BacklogGetResponse(b.backlogId, b.project.projectId, s.id, b.story.storyId, b.assignee.memberId, b.title, b.description, b.status, b.priority) FROM Backlog b LEFT JOIN b.sprint s WHERE b.project.projectId = :projectId AND (b.status <> agilementor.backlog.entity.Status.DONE OR s.isDone = false)")
+    List<BacklogGetResponse> findBacklogResponsesByProjectId(@Param("projectId") Long projectId);
+
+    @Query("SELECT new agilementor.backlog.dto.response.BacklogGetResponse(b.backlogId, b.project.projectId, b.sprint.id, b.story.storyId, b.assignee.memberId, b.title, b.description, b.status, b.priority) FROM Backlog b WHERE b.sprint.id = :sprintId")
+    List<BacklogGetResponse> findBacklogResponsesBySprintId(@Param("sprintId") Long sprintId);
+
     List<Backlog> findByStory(Story story);
 
     List<Backlog> findByAssigneeAndSprint(Member member, Sprint sprint);
 
+    // 회원이 참여 중인 모든 프로젝트의 활성 스프린트에서 회원에게 할당된 백로그를 DTO로 조회
+    // 프로젝트 참여 순서, 같은 프로젝트 안에서는 백로그 생성 순서로 정렬
+    @Query("SELECT new agilementor.backlog.dto.response.BacklogGetResponse(b.backlogId, b.project.projectId, s.id, b.story.storyId, b.assignee.memberId, b.title, b.description, b.status, b.priority) FROM Backlog b JOIN b.sprint s JOIN ProjectMember pm ON pm.project.projectId = b.project.projectId WHERE pm.member.memberId = :memberId AND b.assignee.memberId = :memberId AND s.isActivate = true ORDER BY pm.projectMemberId, b.backlogId")
+    List<BacklogGetResponse> findTaskResponsesByMemberId(@Param("memberId") Long memberId);
+
     List<Backlog> findByAssigneeAndProject(Member member, Project project);
 
+    @EntityGraph("backlog.detail")
     Optional<Backlog> findByBacklogIdAndProject(Long backlogId, Project project);
 
     // 스프린트 ID로 조회하고 상태가 특정 값이 아닌 백로그 반환
     List<Backlog> findBySprint_IdAndStatusNot(Long sprintId, Status status);
 
-    void deleteByProject(Project project);
+    // 스프린트의 완료되지 않은 백로그를 한 번의 UPDATE로 백로그 목록으로 이동하고 변경된 행 수 반환
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Backlog b SET b.sprint = null WHERE b.sprint.id = :sprintId AND b.status <> agilementor.backlog.entity.Status.DONE")
+    int moveUnfinishedToProductBacklog(@Param("sprintId") Long sprintId);
+
+    // 스프린트의 모든 백로그를 한 번의 UPDATE로 백로그 목록으로 이동하고 변경된 행 수 반환
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Backlog b SET b.sprint = null WHERE b.sprint.id = :sprintId")
+    int moveAllToProductBacklog(@Param("sprintId") Long sprintId);
+
+    long countByProject(Project project);
+
+    long countBySprint_IdAndStatus(Long sprintId, Status status);
+
+    // 프로젝트의 백로그 개수를 스프린트, 상태별로 집계 (번다운 차트 계산용)
+    @Query("SELECT new agilementor.sprint.dto.SprintBacklogCount(s.id, b.status, COUNT(b)) FROM Backlog b LEFT JOIN b.sprint s WHERE b.project.projectId = :projectId GROUP BY s.id, b.status")
+    List<SprintBacklogCount> countBySprintAndStatus(@Param("projectId") Long projectId);
+
+    // 프로젝트의 스토리별 전체, 완료된 백로그 수 집계
+    @Query("SELECT new agilementor.backlog.dto.StoryBacklogCount(b.story.storyId, COUNT(b), SUM(CASE WHEN b.status = agilementor.backlog.entity.Status.DONE THEN 1 ELSE 0 END)) FROM Backlog b WHERE b.project.projectId = :projectId AND b.story IS NOT NULL GROUP BY b.story.storyId")
+    List<StoryBacklogCount> countByStoryOfProject(@Param("projectId") Long projectId);
+
+    // 특정 스토리들의 전체, 완료된 백로그 수 집계
+    @Query("SELECT new agilementor.backlog.dto.StoryBacklogCount(b.story.storyId, COUNT(b), SUM(CASE WHEN b.status = agilementor.backlog.entity.Status.DONE THEN 1 ELSE 0 END)) FROM Backlog b WHERE b.story.storyId IN :storyIds GROUP BY b.story.storyId")
+    List<StoryBacklogCount> countByStoryIds(@Param("storyIds") Collection<Long> storyIds);
+
+    // 프로젝트의 백로그 ID를 최대 limit개 조회 (chunk 단위 삭제용)
+    @Query("SELECT b.backlogId FROM Backlog b WHERE b.project.projectId = :projectId")
+    List<Long> findIdsByProjectId(@Param("projectId") Long projectId, Limit limit);
+
+    // 프로젝트의 백로그를 한 번의 DELETE로 삭제하고 삭제된 행 수 반환
+    @Modifying
+    @Query("DELETE FROM Backlog b WHERE b.project.projectId = :projectId")
+    int deleteAllByProjectId(@Param("projectId") Long projectId);
 }
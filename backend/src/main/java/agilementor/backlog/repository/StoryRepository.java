@@ -5,6 +5,9 @@ import agilementor.project.entity.Project;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface StoryRepository extends JpaRepository<Story, Long> {
 
@@ -12,5 +15,7 @@ public interface StoryRepository extends JpaRepository<Story, Long> {
 
     Optional<Story> findByStoryIdAndProject(Long storyId, Project project);
 
-    void deleteByProject(Project project);
+    @Modifying
+    @Query("DELETE FROM Story s WHERE s.project.projectId = :projectId")
+    int deleteAllByProjectId(@Param("projectId") Long projectId);
 }
@@ -11,6 +11,7 @@ import agilementor.backlog.entity.Status;
 import agilementor.backlog.entity.Story;
 import agilementor.backlog.repository.BacklogRepository;
 import agilementor.backlog.repository.StoryRepository;
+import agilementor.common.config.MetricsConfig;
 import agilementor.common.exception.BacklogNotFoundException;
 import agilementor.common.exception.MemberNotFoundException;
 import agilementor.common.exception.ProjectNotFoundException;
@@ -19,35 +20,39 @@ import agilementor.common.exception.StoryNotFoundException;
 import agilementor.member.entity.Member;
 import agilementor.member.repository.MemberRepository;
 import agilementor.project.entity.Project;
-import agilementor.project.entity.ProjectMember;
-import agilementor.project.repository.ProjectMemberRepository;
+import agilementor.project.service.ProjectMembershipCache;
+import agilementor.sprint.entity.BurndownSnapshot;
 import agilementor.sprint.entity.Sprint;
+import agilementor.sprint.repository.BurndownSnapshotRepository;
 import agilementor.sprint.repository.SprintRepository;
+import io.micrometer.core.annotation.Timed;
 import jakarta.transaction.Transactional;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Stream;
+import java.util.Objects;
 import org.springframework.stereotype.Service;
 
+@Timed(MetricsConfig.SERVICE_TIMER)
 @Service
 @Transactional
 public class BacklogService {
 
     private final MemberRepository memberRepository;
-    private final ProjectMemberRepository projectMemberRepository;
+    private final ProjectMembershipCache projectMembershipCache;
     private final SprintRepository sprintRepository;
     private final BacklogRepository backlogRepository;
     private final StoryRepository storyRepository;
+    private final BurndownSnapshotRepository burndownSnapshotRepository;
 
     public BacklogService(MemberRepository memberRepository,
-        ProjectMemberRepository projectMemberRepository,
+        ProjectMembershipCache projectMembershipCache,
         SprintRepository sprintRepository, BacklogRepository backlogRepository,
-        StoryRepository storyRepository) {
+        StoryRepository storyRepository, BurndownSnapshotRepository burndownSnapshotRepository) {
         this.memberRepository = memberRepository;
-        this.projectMemberRepository = projectMemberRepository;
+        this.projectMembershipCache = projectMembershipCache;
         this.sprintRepository = sprintRepository;
         this.backlogRepository = backlogRepository;
         this.storyRepository = storyRepository;
+        this.burndownSnapshotRepository = burndownSnapshotRepository;
     }
 
     public BacklogCreateResponse createBacklog(Long memberId, Long projectId,
@@ -77,10 +82,9 @@ public class BacklogService {
         }
 
         if (assigneeId != null) {
-            ProjectMember projectMember = projectMemberRepository.findByMemberIdAndProjectId(
-                    assigneeId, projectId)
-                .orElseThrow(MemberNotFoundException::new);
-            assignee = projectMember.getMember();
+            assignee = projectMembershipCache.find(assigneeId, projectId)
+                .orElseThrow(MemberNotFoundException::new)
+                .member();
         }
 
         Backlog backlog = new Backlog(title, description, priority, project, sprint, story,
@@ -92,20 +96,9 @@ public class BacklogService {
 
     public List<BacklogGetResponse> getBacklogList(Long memberId, Long projectId) {
 
-        Project project = findProject(memberId, projectId);
+        findProject(memberId, projectId);
 
-        List<Backlog> backlogList = backlogRepository.findByProject(project);
-
-        return backlogList.stream()
-            .filter(backlog -> {
-                if (backlog.isDone()) {
-                    Sprint sprint = backlog.getSprint();
-                    return sprint != null && !sprint.isDone();
-                }
-                return true;
-            })
-            .map(BacklogGetResponse::from)
-            .toList();
+        return backlogRepository.findBacklogResponsesByProjectId(projectId);
     }
 
     public BacklogGetResponse getBacklog(Long memberId, Long projectId, Long backlogId) {
@@ -148,14 +141,18 @@ public class BacklogService {
         }
 
         if (assigneeId != null) {
-            ProjectMember projectMember = projectMemberRepository.findByMemberIdAndProjectId(
-                    assigneeId, projectId)
-                .orElseThrow(MemberNotFoundException::new);
-            assignee = projectMember.getMember();
+            assignee = projectMembershipCache.find(assigneeId, projectId)
+                .orElseThrow(MemberNotFoundException::new)
+                .member();
         }
 
+        Sprint previousSprint = backlog.getSprint();
+        boolean wasDone = backlog.isDone();
+
         backlog.update(title, description, status, priority, sprint, story, assignee);
 
+        updateBurndownSnapshot(previousSprint, wasDone, backlog);
+
         return BacklogUpdateResponse.from(backlog);
     }
 
@@ -165,6 +162,8 @@ public class BacklogService {
         Backlog backlog = backlogRepository.findByBacklogIdAndProject(backlogId, project)
             .orElseThrow(BacklogNotFoundException::new);
 
+        updateBurndownSnapshot(backlog.getSprint(), backlog.isDone(), null);
+
         backlogRepository.delete(backlog);
     }
 
@@ -175,37 +174,47 @@ public class BacklogService {
         Sprint activeSprint = sprintRepository.findByProjectAndIsActivateTrue(project)
             .orElseThrow(SprintNotFoundException::new);
 
-        List<Backlog> backlogList = backlogRepository.findBySprint(activeSprint);
-
-        return backlogList.stream()
-            .map(BacklogGetResponse::from)
-            .toList();
+        return backlogRepository.findBacklogResponsesBySprintId(activeSprint.getId());
     }
 
     public List<BacklogGetResponse> getTasks(Long memberId) {
 
-        Member member = memberRepository.findById(memberId)
-            .orElseThrow(MemberNotFoundException::new);
+        if (!memberRepository.existsById(memberId)) {
+            throw new MemberNotFoundException();
+        }
 
-        List<ProjectMember> projectMemberList = projectMemberRepository.findByMemberId(memberId);
+        // 참여 중인 모든 프로젝트의 활성 스프린트에서 할당된 백로그를 한 번의 쿼리로 조회
+        return backlogRepository.findTaskResponsesByMemberId(memberId);
+    }
 
-        Stream<Sprint> activeSprints = projectMemberList.stream()
-            .map(projectMember -> sprintRepository
-                .findByProjectAndIsActivateTrue(projectMember.getProject()))
-            .filter(Optional::isPresent)
-            .map(Optional::get);
+    private Project findProject(Long memberId, Long projectId) {
+        return projectMembershipCache.find(memberId, projectId)
+            .orElseThrow(ProjectNotFoundException::new)
+            .project();
+    }
+
+    // 완료된 스프린트에 속한 백로그의 완료 여부가 바뀌면 번다운 스냅샷을 갱신 (삭제 시 backlog는 null)
+    private void updateBurndownSnapshot(Sprint previousSprint, boolean wasDone, Backlog backlog) {
+        Sprint currentSprint = backlog == null ? null : backlog.getSprint();
+        boolean isDone = backlog != null && backlog.isDone();
+
+        if (Objects.equals(getSprintId(previousSprint), getSprintId(currentSprint))
+            && wasDone == isDone) {
+            return;
+        }
 
-        return activeSprints
-            .map(sprint -> backlogRepository.findByAssigneeAndSprint(member, sprint))
-            .flatMap(List::stream)
-            .map(BacklogGetResponse::from)
-            .toList();
+        if (wasDone && previousSprint != null && previousSprint.isDone()) {
+            burndownSnapshotRepository.findBySprint(previousSprint)
+                .ifPresent(BurndownSnapshot::decreaseCompletedBacklogs);
+        }
+
+        if (isDone && currentSprint != null && currentSprint.isDone()) {
+            burndownSnapshotRepository.findBySprint(currentSprint)
+                .ifPresent(BurndownSnapshot::increaseCompletedBacklogs);
+        }
     }
 
-    private Project findProject(Long memberId, Long projectId) {
-        ProjectMember projectMember = projectMemberRepository
-            .findByMemberIdAndProjectId(memberId, projectId)
-            .orElseThrow(ProjectNotFoundException::new);
-        return projectMember.getProject();
+    private static Long getSprintId(Sprint sprint) {
+        return sprint == null ? null : sprint.getId();
     }
 }
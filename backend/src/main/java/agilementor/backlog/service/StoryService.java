@@ -1,5 +1,6 @@
 package agilementor.backlog.service;
 
+import agilementor.backlog.dto.StoryBacklogCount;
 import agilementor.backlog.dto.request.StoryCreateRequest;
 import agilementor.backlog.dto.request.StoryUpdateRequest;
 import agilementor.backlog.dto.response.StoryCreateResponse;
@@ -10,27 +11,31 @@ import agilementor.backlog.entity.Status;
 import agilementor.backlog.entity.Story;
 import agilementor.backlog.repository.BacklogRepository;
 import agilementor.backlog.repository.StoryRepository;
+import agilementor.common.config.MetricsConfig;
 import agilementor.common.exception.ProjectNotFoundException;
 import agilementor.common.exception.StoryNotFoundException;
 import agilementor.project.entity.Project;
-import agilementor.project.entity.ProjectMember;
-import agilementor.project.repository.ProjectMemberRepository;
+import agilementor.project.service.ProjectMembershipCache;
+import io.micrometer.core.annotation.Timed;
 import jakarta.transaction.Transactional;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
 
+@Timed(MetricsConfig.SERVICE_TIMER)
 @Service
 @Transactional
 public class StoryService {
 
-    private final ProjectMemberRepository projectMemberRepository;
+    private final ProjectMembershipCache projectMembershipCache;
     private final StoryRepository storyRepository;
     private final BacklogRepository backlogRepository;
 
-    public StoryService(ProjectMemberRepository projectMemberRepository,
+    public StoryService(ProjectMembershipCache projectMembershipCache,
         StoryRepository storyRepository,
         BacklogRepository backlogRepository) {
-        this.projectMemberRepository = projectMemberRepository;
+        this.projectMembershipCache = projectMembershipCache;
         this.storyRepository = storyRepository;
         this.backlogRepository = backlogRepository;
     }
@@ -48,9 +53,12 @@ public class StoryService {
 
         Project project = getProject(memberId, projectId);
         List<Story> storyList = storyRepository.findByProject(project);
+        Map<Long, Status> storyStatuses = resolveStoryStatuses(
+            backlogRepository.countByStoryOfProject(projectId));
 
         return storyList.stream()
-            .map(story -> StoryGetResponse.from(story, calculateStoryStatus(story)))
+            .map(story -> StoryGetResponse.from(story,
+                storyStatuses.getOrDefault(story.getStoryId(), Status.IN_PROGRESS)))
             .toList();
     }
 
@@ -60,7 +68,7 @@ public class StoryService {
         Story story = storyRepository.findByStoryIdAndProject(storyId, project)
             .orElseThrow(StoryNotFoundException::new);
 
-        return StoryGetResponse.from(story, calculateStoryStatus(story));
+        return StoryGetResponse.from(story, resolveStoryStatus(story));
     }
 
     public StoryUpdateResponse updateStory(Long memberId, Long projectId, Long storyId,
@@ -72,7 +80,7 @@ public class StoryService {
 
         story.update(storyUpdateRequest.title(), storyUpdateRequest.description());
 
-        return StoryUpdateResponse.from(story, calculateStoryStatus(story));
+        return StoryUpdateResponse.from(story, resolveStoryStatus(story));
     }
 
     public void deleteStory(Long memberId, Long projectId, Long storyId) {
@@ -91,24 +99,23 @@ public class StoryService {
     }
 
     private Project getProject(Long memberId, Long projectId) {
-        ProjectMember projectMember = projectMemberRepository
-            .findByMemberIdAndProjectId(memberId, projectId)
-            .orElseThrow(ProjectNotFoundException::new);
-
-        return projectMember.getProject();
+        return projectMembershipCache.find(memberId, projectId)
+            .orElseThrow(ProjectNotFoundException::new)
+            .project();
     }
 
-    private Status calculateStoryStatus(Story story) {
-        List<Backlog> backlogList = backlogRepository.findByStory(story);
-
-        boolean isDone = backlogList.stream()
-            .allMatch(Backlog::isDone);
+    private Status resolveStoryStatus(Story story) {
+        Long storyId = story.getStoryId();
 
-        if (!backlogList.isEmpty() && isDone) {
-            return Status.DONE;
-        }
+        return resolveStoryStatuses(backlogRepository.countByStoryIds(List.of(storyId)))
+            .getOrDefault(storyId, Status.IN_PROGRESS);
+    }
 
-        return Status.IN_PROGRESS;
+    // 스토리별 백로그 집계 결과로 스토리 상태 계산 (백로그가 없는 스토리는 결과에 포함되지 않음)
+    private Map<Long, Status> resolveStoryStatuses(List<StoryBacklogCount> storyBacklogCounts) {
+        return storyBacklogCounts.stream()
+            .collect(Collectors.toMap(StoryBacklogCount::storyId,
+                StoryBacklogCount::toStoryStatus));
     }
 
 }
@@ -0,0 +1,64 @@
+package agilementor.chatgpt.client;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+// 연속으로 실패하면 회로를 열어 OpenAI 장애가 요청 대기로 번지지 않도록 즉시 실패시킴
+// 열린 뒤 openDuration이 지나면 한 요청만 시험 삼아 보내고, 성공하면 회로를 닫음
+public class OpenAICircuitBreaker {
+
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final Clock clock;
+    private State state = State.CLOSED;
+    private int failures;
+    private Instant openedAt;
+
+    public OpenAICircuitBreaker(int failureThreshold, Duration openDuration, Clock clock) {
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+        this.clock = clock;
+    }
+
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.CLOSED) {
+            return true;
+        }
+        if (state == State.OPEN && !clock.instant().isBefore(openedAt.plus(openDuration))) {
+            state = State.HALF_OPEN;
+            return true;
+        }
+
+        // 회로가 열려 있거나 시험 요청이 진행 중
+        return false;
+    }
+
+    public synchronized void onSuccess() {
+        state = State.CLOSED;
+        failures = 0;
+    }
+
+    public synchronized void onFailure() {
+        failures++;
+        if (state == State.HALF_OPEN || failures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = clock.instant();
+        }
+    }
+
+    // 시험 요청이 결과 없이 취소되면 다음 요청이 다시 시험할 수 있도록 되돌림
+    public synchronized void onCancel() {
+        if (state == State.HALF_OPEN) {
+            state = State.OPEN;
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+}
@@ -0,0 +1,211 @@
+package agilementor.chatgpt.client;
+
+import agilementor.chatgpt.dto.GPTResponse;
+import agilementor.chatgpt.properties.OpenAIClientProperties;
+import agilementor.chatgpt.util.GPTMetrics;
+import agilementor.common.exception.ExternalServerErrorException;
+import agilementor.common.exception.GPTUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClient.Builder;
+import org.springframework.web.reactive.function.client.WebClientException;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.util.retry.Retry;
+
+// OpenAI Chat Completions API 호출 전용 클라이언트
+// 연결/응답 제한 시간, 429/5xx/네트워크 오류 재시도, 회로 차단을 한곳에서 처리
+@Component
+public class OpenAIClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(OpenAIClient.class);
+    private static final String CHAT_COMPLETIONS_URI = "/chat/completions";
+    private final WebClient webClient;
+    private final OpenAIClientProperties properties;
+    private final OpenAICircuitBreaker circuitBreaker;
+    private final MeterRegistry meterRegistry;
+    private final GPTMetrics gptMetrics;
+
+    public OpenAIClient(Builder webClientBuilder, OpenAIClientProperties properties,
+        MeterRegistry meterRegistry, GPTMetrics gptMetrics,
+        @Value("${openai.api.url:https://api.openai.com/v1}") String apiUrl,
+        @Value("${openai.api.key:@null}") String apiKey) {
+        HttpClient httpClient = HttpClient.create()
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS,
+                (int) properties.connectTimeout().toMillis())
+            .responseTimeout(properties.readTimeout());
+
+        this.webClient = webClientBuilder
+            .baseUrl(apiUrl)
+            .clientConnector(new ReactorClientHttpConnector(httpClient))
+            .defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey)
+            .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+            .build();
+        this.properties = properties;
+        this.circuitBreaker = new OpenAICircuitBreaker(properties.failureThreshold(),
+            properties.openDuration(), Clock.systemUTC());
+        this.meterRegistry = meterRegistry;
+        this.gptMetrics = gptMetrics;
+    }
+
+    public Mono<GPTResponse> requestChatCompletion(Map<String, Object> requestPayload) {
+        return withResilience("completion", webClient.post()
+            .uri(CHAT_COMPLETIONS_URI)
+            .bodyValue(requestPayload)
+            .retrieve()
+            .bodyToFlux(GPTResponse.class))
+            .singleOrEmpty();
+    }
+
+    public Flux<ServerSentEvent<String>> streamChatCompletion(Map<String, Object> requestPayload) {
+        return withResilience("stream", webClient.post()
+            .uri(CHAT_COMPLETIONS_URI)
+            .bodyValue(requestPayload)
+            .retrieve()
+            .bodyToFlux(new ParameterizedTypeReference<ServerSentEvent<String>>() {
+            }));
+    }
+
+    public OpenAICircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    private <T> Flux<T> withResilience(String type, Flux<T> call) {
+        return Flux.defer(() -> {
+            if (!circuitBreaker.tryAcquirePermission()) {
+                gptMetrics.recordFailure("circuit_open");
+                return Flux.error(new GPTUnavailableException());
+            }
+
+            // 첫 응답 데이터를 받으면 호출 결과를 확정하고, 이후에는 재시도하지 않음
+            // (스트리밍 도중 재시도하면 이미 전달한 응답 조각이 중복되기 때문)
+            AtomicBoolean settled = new AtomicBoolean();
+            AtomicBoolean received = new AtomicBoolean();
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return call
+                .doOnNext(value -> settle(settled, circuitBreaker::onSuccess))
+                .retryWhen(retryPolicy(settled))
+                .doOnNext(value -> received.set(true))
+                .doOnComplete(() -> settle(settled, circuitBreaker::onSuccess))
+                .doOnError(e -> settle(settled,
+                    isRetryable(e) ? circuitBreaker::onFailure : circuitBreaker::onSuccess))
+                .doOnCancel(() -> settle(settled, circuitBreaker::onCancel))
+                .doOnComplete(() -> recordCall(sample, type, "success"))
+                .doOnError(e -> {
+                    gptMetrics.recordFailure("upstream_error");
+                    recordCall(sample, type, "error");
+                })
+                // 스트리밍은 응답을 받은 뒤 구독을 끊는 경우가 있으므로 받은 데이터가 있으면 성공으로 기록
+                .doOnCancel(() -> recordCall(sample, type,
+                    received.get() ? "success" : "cancelled"))
+                .onErrorMap(e -> e instanceof WebClientException
+                        || e instanceof ReadTimeoutException,
+                    e -> new ExternalServerErrorException());
+        });
+    }
+
+    // 재시도를 포함한 호출 전체 시간
+    private void recordCall(Timer.Sample sample, String type, String outcome) {
+        sample.stop(Timer.builder("openai.requests")
+            .description("OpenAI API 호출 시간")
+            .tags("type", type, "outcome", outcome)
+            .register(meterRegistry));
+    }
+
+    private void settle(AtomicBoolean settled, Runnable outcome) {
+        if (settled.compareAndSet(false, true)) {
+            outcome.run();
+        }
+    }
+
+    private Retry retryPolicy(AtomicBoolean settled) {
+        return Retry.from(signals -> signals.concatMap(signal -> {
+            Throwable failure = signal.failure();
+            if (settled.get() || !isRetryable(failure)
+                || signal.totalRetries() >= properties.maxRetries()) {
+                return Mono.error(failure);
+            }
+
+            Duration delay = backoff(signal.totalRetries(), failure);
+            logger.warn("OpenAI request failed ({}), retrying in {} ms", failure.getMessage(),
+                delay.toMillis());
+            return Mono.delay(delay);
+        }));
+    }
+
+    // 요청 한도 초과(429), 서버 오류(5xx), 연결 실패와 응답 제한 시간 초과만 재시도
+    private boolean isRetryable(Throwable e) {
+        if (e instanceof WebClientResponseException responseException) {
+            return responseException.getStatusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS)
+                || responseException.getStatusCode().is5xxServerError();
+        }
+        return e instanceof WebClientRequestException || e instanceof ReadTimeoutException;
+    }
+
+    // Retry-After 헤더가 있으면 그만큼 대기하고, 없으면 지수적으로 늘어나는 시간의 절반~전체 중 무작위로 대기
+    // 여러 요청이 동시에 실패해도 재시도 시점이 겹치지 않도록 분산, 대기 시간은 maxBackoff를 넘지 않음
+    Duration backoff(long attempt, Throwable failure) {
+        long maxMillis = properties.maxBackoff().toMillis();
+
+        Optional<Duration> retryAfter = parseRetryAfter(failure);
+        if (retryAfter.isPresent()) {
+            return Duration.ofMillis(Math.min(retryAfter.get().toMillis(), maxMillis));
+        }
+
+        long exponential = Math.min(maxMillis,
+            properties.initialBackoff().toMillis() << Math.min(attempt, 30));
+        long half = exponential / 2;
+        return Duration.ofMillis(half + ThreadLocalRandom.current().nextLong(half + 1));
+    }
+
+    // Retry-After는 초 단위 숫자 또는 HTTP 날짜 형식
+    private Optional<Duration> parseRetryAfter(Throwable failure) {
+        if (!(failure instanceof WebClientResponseException responseException)) {
+            return Optional.empty();
+        }
+
+        String retryAfter = responseException.getHeaders().getFirst(HttpHeaders.RETRY_AFTER);
+        if (retryAfter == null) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(Duration.ofSeconds(Math.max(Long.parseLong(retryAfter.trim()), 0)));
+        } catch (NumberFormatException e) {
+            try {
+                Instant retryAt = ZonedDateTime.parse(retryAfter,
+                    DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+                Duration delay = Duration.between(Instant.now(), retryAt);
+                return Optional.of(delay.isNegative() ? Duration.ZERO : delay);
+            } catch (DateTimeParseException ex) {
+                return Optional.empty();
+            }
+        }
+    }
+}
@@ -1,25 +1,32 @@
 package agilementor.chatgpt.controller;
 
+import agilementor.chatgpt.dto.GPTJobResponse;
 import agilementor.chatgpt.dto.GPTRequest;
 import agilementor.chatgpt.dto.GPTResponse;
 import agilementor.chatgpt.dto.ProjectResponseDTO;
+import agilementor.chatgpt.service.GPTJobService;
 import agilementor.chatgpt.service.GPTService;
+import agilementor.chatgpt.service.GPTStreamService;
 import agilementor.common.annotation.LoginMemberId;
 import agilementor.common.exception.ProjectNotFoundException;
 import agilementor.project.entity.Project;
-import agilementor.project.repository.ProjectMemberRepository;
-import agilementor.project.repository.ProjectRespository;
+import agilementor.project.service.ProjectMembershipCache;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.net.URI;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
 
 @Tag(name = "스프린트", description = "스프린트 관련 api입니다.")
 @RestController
@@ -27,14 +34,16 @@ import org.springframework.web.bind.annotation.RestController;
 public class GPTController {
 
     private final GPTService gptService;
-    private final ProjectRespository projectRepository;
-    private final ProjectMemberRepository projectMemberRepository;
+    private final GPTJobService gptJobService;
+    private final GPTStreamService gptStreamService;
+    private final ProjectMembershipCache projectMembershipCache;
 
-    public GPTController(GPTService gptService, ProjectRespository projectRepository,
-        ProjectMemberRepository projectMemberRepository) {
+    public GPTController(GPTService gptService, GPTJobService gptJobService,
+        GPTStreamService gptStreamService, ProjectMembershipCache projectMembershipCache) {
         this.gptService = gptService;
-        this.projectRepository = projectRepository;
-        this.projectMemberRepository = projectMemberRepository;
+        this.gptJobService = gptJobService;
+        this.gptStreamService = gptStreamService;
+        this.projectMembershipCache = projectMembershipCache;
     }
 
     @PostMapping("/generate-task")
@@ -44,18 +53,12 @@ public class GPTController {
         @PathVariable Long projectId, @RequestBody GPTRequest request)
         throws JsonProcessingException {
 
-        // 프로젝트 멤버인지 검증
-        projectMemberRepository.findByMemberIdAndProjectId(memberId, projectId)
-            .orElseThrow(ProjectNotFoundException::new);
-
-        // Project 조회
-        Project project;
-        project = projectRepository.findById(projectId)
-            .orElseThrow(ProjectNotFoundException::new);
+        // 프로젝트 멤버인지 검증하고 Project 조회
+        Project project = findProject(memberId, projectId);
 
         // GPT API 호출
         GPTResponse gptResponse;
-        gptResponse = gptService.fetchGPTResponse(request);
+        gptResponse = gptService.fetchGPTResponse(request, projectId);
 
         // GPT 응답 저장
         ProjectResponseDTO responseDTO;
@@ -63,4 +66,55 @@ public class GPTController {
 
         return ResponseEntity.status(HttpStatus.CREATED).body(responseDTO);
     }
-}
\ No newline at end of file
+
+    @PostMapping("/generate-task/jobs")
+    @Operation(summary = "AI 자동 생성 작업 등록", description = "AI 자동 생성 작업을 등록하고 작업 ID를 바로 반환합니다. 생성 결과는 작업 조회 api로 확인합니다.")
+    @ApiResponse(responseCode = "202", description = "AI 자동 생성 작업 등록 성공")
+    public ResponseEntity<GPTJobResponse> submitGenerateTasks(@LoginMemberId Long memberId,
+        @PathVariable Long projectId, @RequestBody GPTRequest request) {
+
+        // 프로젝트 멤버인지 검증
+        Project project = findProject(memberId, projectId);
+
+        GPTJobResponse job = gptJobService.submit(request, project);
+
+        return ResponseEntity
+            .accepted()
+            .location(URI.create(
+                "/api/projects/%d/ai/generate-task/jobs/%s".formatted(projectId, job.jobId())))
+            .body(job);
+    }
+
+    @GetMapping("/generate-task/jobs/{jobId}")
+    @Operation(summary = "AI 자동 생성 작업 조회", description = "등록한 AI 자동 생성 작업의 상태를 조회합니다. 완료된 경우 생성 결과를 함께 반환합니다.")
+    @ApiResponse(responseCode = "200", description = "AI 자동 생성 작업 조회 성공")
+    public ResponseEntity<GPTJobResponse> getGenerateTasksJob(@LoginMemberId Long memberId,
+        @PathVariable Long projectId, @PathVariable String jobId) {
+
+        // 프로젝트 멤버인지 검증
+        findProject(memberId, projectId);
+
+        GPTJobResponse job = gptJobService.getJob(projectId, jobId);
+
+        return ResponseEntity.ok(job);
+    }
+
+    @PostMapping(value = "/generate-task/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "AI 자동 생성 스트리밍", description = "AI 자동 생성 결과를 Server-Sent Events로 전송합니다. 스토리(story)와 스프린트(sprint)는 생성되는 대로 전송하고, 저장이 끝나면 저장된 결과(complete)를 전송합니다.")
+    @ApiResponse(responseCode = "200", description = "AI 자동 생성 스트리밍 시작")
+    public Flux<ServerSentEvent<Object>> streamGenerateTasks(@LoginMemberId Long memberId,
+        @PathVariable Long projectId, @RequestBody GPTRequest request) {
+
+        // 프로젝트 멤버인지 검증
+        Project project = findProject(memberId, projectId);
+
+        return gptStreamService.streamGeneration(request, project)
+            .map(event -> ServerSentEvent.builder(event.data()).event(event.name()).build());
+    }
+
+    private Project findProject(Long memberId, Long projectId) {
+        return projectMembershipCache.find(memberId, projectId)
+            .orElseThrow(ProjectNotFoundException::new)
+            .project();
+    }
+}
@@ -0,0 +1,21 @@
+package agilementor.chatgpt.dto;
+
+import agilementor.chatgpt.job.GPTJob;
+import agilementor.chatgpt.job.GPTJobStatus;
+
+public record GPTJobResponse(
+    String jobId,
+    GPTJobStatus status,
+    ProjectResponseDTO result,
+    String errorMessage
+) {
+
+    public static GPTJobResponse from(GPTJob job, ProjectResponseDTO result) {
+        return new GPTJobResponse(
+            job.getJobId(),
+            job.getStatus(),
+            result,
+            job.getErrorMessage()
+        );
+    }
+}
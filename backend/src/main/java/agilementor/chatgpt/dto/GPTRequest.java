@@ -11,6 +11,7 @@ public class GPTRequest {
     private Integer storyCount; // 유저 스토리 개수
     @NotNull
     private Integer sprintCount; // 스프린트 개수
+    private Boolean useCache; // 같은 요청의 캐시된 응답 사용 여부 (기본값 true)
 
     // 기본 생성자 (필수)
     public GPTRequest() {
@@ -36,6 +37,10 @@ public class GPTRequest {
         return sprintCount;
     }
 
+    public boolean isUseCache() {
+        return useCache == null || useCache;
+    }
+
     public void setProjectDescription(String projectDescription) {
         this.projectDescription = projectDescription;
     }
@@ -47,4 +52,8 @@ public class GPTRequest {
     public void setSprintCount(Integer sprintCount) {
         this.sprintCount = sprintCount;
     }
+
+    public void setUseCache(Boolean useCache) {
+        this.useCache = useCache;
+    }
 }
\ No newline at end of file
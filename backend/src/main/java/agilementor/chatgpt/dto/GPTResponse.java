@@ -2,6 +2,7 @@ package agilementor.chatgpt.dto;
 
 import agilementor.backlog.entity.Priority;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.List;
 
 @JsonIgnoreProperties(ignoreUnknown = true)
@@ -11,6 +12,7 @@ public class GPTResponse {
     private List<StoryDTO> stories;
     private List<SprintDTO> sprints;
     private Choice[] choices;
+    private Usage usage;
 
     public GPTResponse() {
 
@@ -28,6 +30,14 @@ public class GPTResponse {
         return choices;
     }
 
+    public Usage getUsage() {
+        return usage;
+    }
+
+    public void setUsage(Usage usage) {
+        this.usage = usage;
+    }
+
     public void setChoices(Choice[] choices) {
         this.choices = choices;
 
@@ -149,4 +159,23 @@ public class GPTResponse {
             this.content = content;
         }
     }
+
+    // OpenAI 응답의 토큰 사용량
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Usage {
+
+        @JsonProperty("prompt_tokens")
+        private long promptTokens;
+
+        @JsonProperty("completion_tokens")
+        private long completionTokens;
+
+        public long getPromptTokens() {
+            return promptTokens;
+        }
+
+        public long getCompletionTokens() {
+            return completionTokens;
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package agilementor.chatgpt.dto;
+
+// AI 자동 생성 스트림으로 전송하는 이벤트 (name: SSE 이벤트 이름)
+public record GPTStreamEvent(
+    String name,
+    Object data
+) {
+
+    public static GPTStreamEvent story(GPTResponse.StoryDTO story) {
+        return new GPTStreamEvent("story", story);
+    }
+
+    public static GPTStreamEvent sprint(GPTResponse.SprintDTO sprint) {
+        return new GPTStreamEvent("sprint", sprint);
+    }
+
+    public static GPTStreamEvent complete(ProjectResponseDTO projectResponse) {
+        return new GPTStreamEvent("complete", projectResponse);
+    }
+}
@@ -0,0 +1,103 @@
+package agilementor.chatgpt.job;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+// 비동기 AI 자동 생성 작업의 진행 상태와 결과
+// 작업을 처리하지 않은 인스턴스에서도 조회할 수 있도록 DB에 저장
+@Entity
+@Table(name = "gpt_job")
+public class GPTJob {
+
+    private static final int ERROR_MESSAGE_LENGTH = 500;
+
+    @Id
+    @Column(name = "gpt_job_id", length = 36)
+    private String jobId;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private GPTJobStatus status;
+
+    // 생성 결과(ProjectResponseDTO)의 JSON
+    @Lob
+    @Column(name = "result_json")
+    private String resultJson;
+
+    @Column(length = ERROR_MESSAGE_LENGTH)
+    private String errorMessage;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    private Instant finishedAt;
+
+    protected GPTJob() {
+    }
+
+    public GPTJob(Long projectId) {
+        this.jobId = UUID.randomUUID().toString();
+        this.projectId = projectId;
+        this.status = GPTJobStatus.PENDING;
+        this.createdAt = Instant.now();
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public GPTJobStatus getStatus() {
+        return status;
+    }
+
+    public String getResultJson() {
+        return resultJson;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public boolean isExpired(Instant now, Duration ttl) {
+        return finishedAt != null && finishedAt.plus(ttl).isBefore(now);
+    }
+
+    // 처리하던 인스턴스가 종료되어 끝나지 않은 채 남은 작업
+    public boolean isAbandoned(Instant now, Duration maxProcessingTime) {
+        return finishedAt == null && createdAt.plus(maxProcessingTime).isBefore(now);
+    }
+
+    public void start() {
+        this.status = GPTJobStatus.RUNNING;
+    }
+
+    public void complete(String resultJson) {
+        this.resultJson = resultJson;
+        this.finishedAt = Instant.now();
+        this.status = GPTJobStatus.COMPLETED;
+    }
+
+    public void fail(String errorMessage) {
+        if (errorMessage != null && errorMessage.length() > ERROR_MESSAGE_LENGTH) {
+            errorMessage = errorMessage.substring(0, ERROR_MESSAGE_LENGTH);
+        }
+        this.errorMessage = errorMessage;
+        this.finishedAt = Instant.now();
+        this.status = GPTJobStatus.FAILED;
+    }
+}
@@ -0,0 +1,5 @@
+package agilementor.chatgpt.job;
+
+public enum GPTJobStatus {
+    PENDING, RUNNING, COMPLETED, FAILED
+}
@@ -0,0 +1,14 @@
+package agilementor.chatgpt.properties;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+// maxSize: 캐시에 보관할 GPT 응답 수, ttl: 저장 후 응답을 보관하는 시간
+@ConfigurationProperties(prefix = "gpt.cache")
+public record GPTCacheProperties(
+    @DefaultValue("100") long maxSize,
+    @DefaultValue("1h") Duration ttl
+) {
+
+}
@@ -0,0 +1,16 @@
+package agilementor.chatgpt.properties;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+// maxConcurrency: 동시에 OpenAI를 호출하는 작업 수, queueCapacity: 대기할 수 있는 작업 수
+@ConfigurationProperties(prefix = "gpt.job")
+public record GPTJobProperties(
+    @DefaultValue("4") int maxConcurrency,
+    @DefaultValue("32") int queueCapacity,
+    @DefaultValue("3m") Duration timeout,
+    @DefaultValue("10m") Duration resultTtl
+) {
+
+}
@@ -0,0 +1,13 @@
+package agilementor.chatgpt.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+// global: 서버 전체에서 동시에 보내는 OpenAI 요청 수, perProject: 프로젝트 하나가 동시에 보내는 요청 수
+@ConfigurationProperties(prefix = "gpt.limit")
+public record GPTLimitProperties(
+    @DefaultValue("8") int global,
+    @DefaultValue("2") int perProject
+) {
+
+}
@@ -0,0 +1,21 @@
+package agilementor.chatgpt.properties;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+// connectTimeout: 연결 제한 시간, readTimeout: 응답 데이터 사이의 최대 대기 시간
+// maxRetries: 429/5xx/네트워크 오류 시 재시도 횟수, initialBackoff ~ maxBackoff: 재시도 대기 시간 범위
+// failureThreshold: 회로를 여는 연속 실패 수, openDuration: 회로가 열린 뒤 다시 시도하기까지의 시간
+@ConfigurationProperties(prefix = "openai.client")
+public record OpenAIClientProperties(
+    @DefaultValue("5s") Duration connectTimeout,
+    @DefaultValue("60s") Duration readTimeout,
+    @DefaultValue("2") int maxRetries,
+    @DefaultValue("1s") Duration initialBackoff,
+    @DefaultValue("20s") Duration maxBackoff,
+    @DefaultValue("5") int failureThreshold,
+    @DefaultValue("30s") Duration openDuration
+) {
+
+}
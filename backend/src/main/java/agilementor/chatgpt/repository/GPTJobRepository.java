@@ -0,0 +1,24 @@
+package agilementor.chatgpt.repository;
+
+import agilementor.chatgpt.job.GPTJob;
+import jakarta.transaction.Transactional;
+import java.time.Instant;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface GPTJobRepository extends JpaRepository<GPTJob, String> {
+
+    // 결과 보관 시간이 지난 작업과, 처리하던 인스턴스가 종료되어 끝나지 않은 채 남은 작업을 삭제
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM GPTJob j WHERE j.finishedAt < :finishedBefore "
+        + "OR (j.finishedAt IS NULL AND j.createdAt < :createdBefore)")
+    int deleteExpired(@Param("finishedBefore") Instant finishedBefore,
+        @Param("createdBefore") Instant createdBefore);
+
+    @Modifying
+    @Query("DELETE FROM GPTJob j WHERE j.projectId = :projectId")
+    int deleteAllByProjectId(@Param("projectId") Long projectId);
+}
@@ -0,0 +1,162 @@
+package agilementor.chatgpt.service;
+
+import agilementor.chatgpt.dto.GPTJobResponse;
+import agilementor.chatgpt.dto.GPTRequest;
+import agilementor.chatgpt.dto.ProjectResponseDTO;
+import agilementor.chatgpt.job.GPTJob;
+import agilementor.chatgpt.properties.GPTJobProperties;
+import agilementor.chatgpt.repository.GPTJobRepository;
+import agilementor.common.exception.GPTJobNotFoundException;
+import agilementor.common.exception.TooManyGPTJobsException;
+import agilementor.project.entity.Project;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ArrayBlockingQueue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.publisher.Sinks.EmitResult;
+import reactor.core.scheduler.Schedulers;
+
+// AI 자동 생성 요청을 작업 큐에 등록하고, 서블릿 스레드를 막지 않고 처리
+// 작업은 등록한 인스턴스에서 처리하고, 상태와 결과는 DB에 저장하여 어느 인스턴스에서든 조회
+@Service
+public class GPTJobService {
+
+    private static final Logger logger = LoggerFactory.getLogger(GPTJobService.class);
+    private static final String ABANDONED_MESSAGE = "작업을 처리하던 서버가 종료되었습니다. 다시 요청해주세요.";
+
+    private final GPTService gptService;
+    private final GPTJobRepository gptJobRepository;
+    private final ObjectMapper objectMapper;
+    private final GPTJobProperties properties;
+    // 큐에서 기다린 시간을 포함하여 작업이 끝나기까지 걸릴 수 있는 최대 시간
+    private final Duration maxProcessingTime;
+    private final Sinks.Many<GPTJobTask> queue;
+    private final Disposable pipeline;
+
+    public GPTJobService(GPTService gptService, GPTJobRepository gptJobRepository,
+        ObjectMapper objectMapper, GPTJobProperties properties) {
+
+        this.gptService = gptService;
+        this.gptJobRepository = gptJobRepository;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.maxProcessingTime = properties.timeout()
+            .multipliedBy(properties.queueCapacity() / properties.maxConcurrency() + 1L);
+
+        // 큐가 가득 차면 새 작업을 거절하고, 최대 maxConcurrency 개의 작업만 동시에 처리
+        this.queue = Sinks.many().unicast()
+            .onBackpressureBuffer(new ArrayBlockingQueue<>(properties.queueCapacity()));
+        this.pipeline = queue.asFlux()
+            .flatMap(this::process, properties.maxConcurrency())
+            .subscribe();
+    }
+
+    public GPTJobResponse submit(GPTRequest request, Project project) {
+        removeExpiredJobs();
+
+        GPTJob job = gptJobRepository.save(new GPTJob(project.getProjectId()));
+
+        EmitResult result;
+        synchronized (queue) {
+            result = queue.tryEmitNext(new GPTJobTask(job, request, project));
+        }
+        if (result.isFailure()) {
+            gptJobRepository.delete(job);
+            throw new TooManyGPTJobsException();
+        }
+        return GPTJobResponse.from(job, null);
+    }
+
+    public GPTJobResponse getJob(Long projectId, String jobId) {
+        // 다른 프로젝트의 작업은 조회할 수 없음
+        GPTJob job = gptJobRepository.findById(jobId)
+            .filter(found -> found.getProjectId().equals(projectId))
+            .orElseThrow(GPTJobNotFoundException::new);
+
+        Instant now = Instant.now();
+        // 결과 보관 시간이 지난 작업은 조회할 때 삭제
+        if (job.isExpired(now, properties.resultTtl())) {
+            gptJobRepository.delete(job);
+            throw new GPTJobNotFoundException();
+        }
+        // 처리하던 인스턴스가 재시작되어 끝나지 않은 작업은 실패로 기록
+        if (job.isAbandoned(now, maxProcessingTime)) {
+            job.fail(ABANDONED_MESSAGE);
+            job = gptJobRepository.save(job);
+        }
+        return GPTJobResponse.from(job, readResult(job));
+    }
+
+    private Mono<Void> process(GPTJobTask task) {
+        GPTJob job = task.job();
+
+        // 상태 저장은 블로킹 JDBC 호출이므로 이벤트 루프가 아닌 별도 스레드에서 수행
+        return Mono.fromRunnable(() -> {
+                job.start();
+                gptJobRepository.save(job);
+            })
+            .subscribeOn(Schedulers.boundedElastic())
+            .then(Mono.defer(() -> gptService
+                .requestGPTResponse(task.request(), task.project().getProjectId())
+                .timeout(properties.timeout())))
+            .publishOn(Schedulers.boundedElastic())
+            .map(gptResponse -> gptService.saveGPTResponse(gptResponse, task.project()))
+            .doOnNext(projectResponse -> {
+                job.complete(writeResult(projectResponse));
+                gptJobRepository.save(job);
+            })
+            .then()
+            .onErrorResume(e -> {
+                logger.warn("GPT job {} failed", job.getJobId(), e);
+                job.fail(e.getMessage());
+                return Mono.fromRunnable(() -> gptJobRepository.save(job))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .doOnError(saveError -> logger.warn("GPT job {} status not saved",
+                        job.getJobId(), saveError))
+                    .onErrorResume(saveError -> Mono.empty())
+                    .then();
+            });
+    }
+
+    private String writeResult(ProjectResponseDTO projectResponse) {
+        try {
+            return objectMapper.writeValueAsString(projectResponse);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private ProjectResponseDTO readResult(GPTJob job) {
+        if (job.getResultJson() == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(job.getResultJson(), ProjectResponseDTO.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void removeExpiredJobs() {
+        Instant now = Instant.now();
+        gptJobRepository.deleteExpired(now.minus(properties.resultTtl()),
+            now.minus(maxProcessingTime));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pipeline.dispose();
+    }
+
+    private record GPTJobTask(GPTJob job, GPTRequest request, Project project) {
+
+    }
+}
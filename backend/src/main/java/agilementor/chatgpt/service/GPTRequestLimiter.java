@@ -0,0 +1,142 @@
+package agilementor.chatgpt.service;
+
+import agilementor.chatgpt.properties.GPTLimitProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+// OpenAI 요청 수를 서버 전체, 프로젝트별로 제한하는 비동기 게이트
+// 허용량을 넘는 요청은 스레드를 막지 않고 도착 순서대로 대기하며, 대기 중인 요청 수를 메트릭으로 노출
+@Component
+public class GPTRequestLimiter implements MeterBinder {
+
+    private final int globalLimit;
+    private final int projectLimit;
+    private final Map<Long, Integer> activeByProject = new HashMap<>();
+    private final LinkedList<Waiter> waiters = new LinkedList<>();
+    private int active;
+
+    public GPTRequestLimiter(GPTLimitProperties properties) {
+        this.globalLimit = properties.global();
+        this.projectLimit = properties.perProject();
+    }
+
+    // 빈으로 등록된 게이트만 애플리케이션의 MeterRegistry에 연결
+    // (전역 레지스트리에 직접 등록하면 먼저 만들어진 다른 인스턴스가 게이지를 차지함)
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("gpt.requests.queued", this, GPTRequestLimiter::getQueueDepth)
+            .description("OpenAI 요청 허용을 기다리는 요청 수")
+            .register(registry);
+        Gauge.builder("gpt.requests.active", this, GPTRequestLimiter::getActiveCount)
+            .description("진행 중인 OpenAI 요청 수")
+            .register(registry);
+    }
+
+    public <T> Mono<T> limit(Long projectId, Mono<T> call) {
+        return acquire(projectId)
+            .flatMap(permit -> call.doFinally(signal -> permit.release()));
+    }
+
+    public <T> Flux<T> limit(Long projectId, Flux<T> call) {
+        return acquire(projectId)
+            .flatMapMany(permit -> call.doFinally(signal -> permit.release()));
+    }
+
+    public synchronized int getQueueDepth() {
+        return waiters.size();
+    }
+
+    public synchronized int getActiveCount() {
+        return active;
+    }
+
+    private Mono<Permit> acquire(Long projectId) {
+        return Mono.<Permit>create(sink -> {
+                Waiter waiter = new Waiter(projectId, sink);
+
+                // 대기 중에 취소되면 대기열에서 제거
+                sink.onCancel(() -> {
+                    synchronized (this) {
+                        waiters.remove(waiter);
+                    }
+                });
+
+                boolean acquired;
+                synchronized (this) {
+                    acquired = tryAcquire(projectId);
+                    if (!acquired) {
+                        waiters.add(waiter);
+                    }
+                }
+                if (acquired) {
+                    sink.success(new Permit(projectId));
+                }
+            })
+            // 허용과 동시에 취소되어 전달되지 못한 허가는 반납
+            .doOnDiscard(Permit.class, Permit::release);
+    }
+
+    private boolean tryAcquire(Long projectId) {
+        int projectActive = activeByProject.getOrDefault(projectId, 0);
+        if (active >= globalLimit || projectActive >= projectLimit) {
+            return false;
+        }
+        active++;
+        activeByProject.put(projectId, projectActive + 1);
+        return true;
+    }
+
+    private void release(Long projectId) {
+        List<Waiter> granted = new ArrayList<>();
+
+        synchronized (this) {
+            active--;
+            activeByProject.computeIfPresent(projectId,
+                (key, count) -> count > 1 ? count - 1 : null);
+
+            // 먼저 도착한 요청부터, 프로젝트 제한에 걸리지 않는 요청을 허용
+            Iterator<Waiter> iterator = waiters.iterator();
+            while (iterator.hasNext() && active < globalLimit) {
+                Waiter waiter = iterator.next();
+                if (tryAcquire(waiter.projectId())) {
+                    iterator.remove();
+                    granted.add(waiter);
+                }
+            }
+        }
+
+        granted.forEach(waiter -> waiter.sink().success(new Permit(waiter.projectId())));
+    }
+
+    private record Waiter(Long projectId, MonoSink<Permit> sink) {
+
+    }
+
+    private final class Permit {
+
+        private final Long projectId;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(Long projectId) {
+            this.projectId = projectId;
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                GPTRequestLimiter.this.release(projectId);
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package agilementor.chatgpt.service;
+
+import agilementor.chatgpt.dto.GPTResponse;
+import agilementor.chatgpt.properties.GPTCacheProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import org.springframework.stereotype.Component;
+
+// 프롬프트와 모델 파라미터의 해시를 키로 파싱된 GPT 응답을 보관하는 캐시
+@Component
+public class GPTResponseCache {
+
+    private final Cache<String, GPTResponse> cache;
+
+    public GPTResponseCache(GPTCacheProperties properties) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(properties.maxSize())
+            .expireAfterWrite(properties.ttl())
+            .build();
+    }
+
+    public Optional<GPTResponse> get(String key) {
+        return Optional.ofNullable(cache.getIfPresent(key));
+    }
+
+    public void put(String key, GPTResponse gptResponse) {
+        cache.put(key, gptResponse);
+    }
+
+    // 요청 내용이 같으면 같은 키가 생성되도록 각 값을 구분자로 이어 SHA-256 해시
+    public static String createKey(Object... values) {
+        StringBuilder source = new StringBuilder();
+        for (Object value : values) {
+            source.append(value).append('\0');
+        }
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of()
+                .formatHex(digest.digest(source.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -4,13 +4,17 @@ import agilementor.backlog.entity.Backlog;
 import agilementor.backlog.entity.Story;
 import agilementor.backlog.repository.BacklogRepository;
 import agilementor.backlog.repository.StoryRepository;
+import agilementor.chatgpt.client.OpenAIClient;
 import agilementor.chatgpt.dto.BacklogResponseDTO;
 import agilementor.chatgpt.dto.GPTRequest;
 import agilementor.chatgpt.dto.GPTResponse;
-import agilementor.chatgpt.dto.GPTResponse.StoryDTO;
 import agilementor.chatgpt.dto.ProjectResponseDTO;
 import agilementor.chatgpt.dto.SprintResponseDTO;
 import agilementor.chatgpt.dto.StoryResponseDTO;
+import agilementor.chatgpt.util.GPTContentParser;
+import agilementor.chatgpt.util.GPTMetrics;
+import agilementor.common.config.MetricsConfig;
+import agilementor.common.exception.FailedToParseException;
 import agilementor.common.exception.NotJsonResponseException;
 import agilementor.common.exception.SprintNotFoundException;
 import agilementor.common.exception.StoryNotFoundException;
@@ -18,111 +22,180 @@ import agilementor.project.entity.Project;
 import agilementor.sprint.entity.Sprint;
 import agilementor.sprint.repository.SprintRepository;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
 import jakarta.transaction.Transactional;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
-import org.springframework.web.reactive.function.client.WebClient.Builder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 @Service
 public class GPTService {
 
     private static final Logger logger = LoggerFactory.getLogger(GPTService.class);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final String MODEL = "gpt-4o-mini";
+    private static final int MAX_TOKENS = 16000;
+    private static final double TEMPERATURE = 0.7;
+    private static final String SYSTEM_MESSAGE =
+        "You are a helpful assistant for agile project management.";
     private final StoryRepository storyRepository;
     private final BacklogRepository backlogRepository;
     private final SprintRepository sprintRepository;
-    private final WebClient webClient;
-
-    @Value("${openai.api.key:@null}")
-    private String apiKey;
+    private final GPTResponseCache gptResponseCache;
+    private final GPTRequestLimiter gptRequestLimiter;
+    private final Map<String, Mono<GPTResponse>> inFlightRequests = new ConcurrentHashMap<>();
+    private final OpenAIClient openAIClient;
+    private final GPTMetrics gptMetrics;
 
     public GPTService(StoryRepository storyRepository, BacklogRepository backlogRepository,
-        SprintRepository sprintRepository, Builder webClientBuilder) {
+        SprintRepository sprintRepository, GPTResponseCache gptResponseCache,
+        GPTRequestLimiter gptRequestLimiter, OpenAIClient openAIClient, GPTMetrics gptMetrics) {
         this.storyRepository = storyRepository;
         this.backlogRepository = backlogRepository;
         this.sprintRepository = sprintRepository;
-        this.webClient = webClientBuilder.baseUrl("https://api.openai.com/v1/completions").build();
+        this.gptResponseCache = gptResponseCache;
+        this.gptRequestLimiter = gptRequestLimiter;
+        this.openAIClient = openAIClient;
+        this.gptMetrics = gptMetrics;
+    }
+
+    @Timed(MetricsConfig.SERVICE_TIMER)
+    public GPTResponse fetchGPTResponse(GPTRequest gptRequest, Long projectId)
+        throws JsonProcessingException {
+        return requestGPTResponse(gptRequest, projectId).block();
+    }
+
+    // 호출 스레드를 막지 않고 GPT 응답을 받아 파싱하는 Mono 반환
+    public Mono<GPTResponse> requestGPTResponse(GPTRequest gptRequest, Long projectId) {
+        return Mono.defer(() -> {
+
+            // 같은 요청의 응답이 캐시에 있으면 OpenAI를 호출하지 않음
+            Optional<GPTResponse> cachedResponse = findCachedGPTResponse(gptRequest);
+            if (cachedResponse.isPresent()) {
+                return Mono.just(cachedResponse.get());
+            }
+
+            // 같은 요청이 이미 진행 중이면 새로 호출하지 않고 진행 중인 호출의 결과를 함께 받음
+            // 결과를 전달하기 전에 진행 중 목록에서 제거하여, 이후 요청이 끝난 호출을 재사용하지 않도록 함
+            String cacheKey = createCacheKey(gptRequest);
+            return inFlightRequests.computeIfAbsent(cacheKey, key ->
+                gptRequestLimiter.limit(projectId, callGPT(gptRequest))
+                    .doOnNext(gptResponse -> gptResponseCache.put(key, gptResponse))
+                    .doOnTerminate(() -> inFlightRequests.remove(key))
+                    .cache());
+        });
+    }
+
+    private Mono<GPTResponse> callGPT(GPTRequest gptRequest) {
+        return openAIClient.requestChatCompletion(createRequestPayload(gptRequest, false))
+            .map(this::parseGPTResponse);
+    }
+
+    // 요청이 캐시 사용을 원하지 않으면 캐시를 조회하지 않음
+    public Optional<GPTResponse> findCachedGPTResponse(GPTRequest gptRequest) {
+        if (!gptRequest.isUseCache()) {
+            return Optional.empty();
+        }
+
+        Optional<GPTResponse> cachedResponse = gptResponseCache.get(createCacheKey(gptRequest));
+        cachedResponse.ifPresent(response -> logger.info("GPT response cache hit"));
+        return cachedResponse;
+    }
+
+    // 파싱에 성공한 응답만 저장 (캐시를 사용하지 않은 요청의 응답도 최신 응답으로 저장)
+    public void cacheGPTResponse(GPTRequest gptRequest, GPTResponse gptResponse) {
+        gptResponseCache.put(createCacheKey(gptRequest), gptResponse);
+    }
+
+    private String createCacheKey(GPTRequest gptRequest) {
+        return GPTResponseCache.createKey(MODEL, MAX_TOKENS, TEMPERATURE, SYSTEM_MESSAGE,
+            generatePrompt(gptRequest));
     }
 
-    public GPTResponse fetchGPTResponse(GPTRequest gptRequest) throws JsonProcessingException {
+    // stream 옵션으로 OpenAI를 호출하고, 생성되는 응답 조각(content)을 도착하는 대로 반환
+    public Flux<String> streamGPTContent(GPTRequest gptRequest, Long projectId) {
+        Flux<ServerSentEvent<String>> events = Flux.defer(() ->
+            openAIClient.streamChatCompletion(createRequestPayload(gptRequest, true)));
+
+        // 스트림이 끝날 때까지 요청 허용량을 차지
+        return gptRequestLimiter.limit(projectId, events)
+            .mapNotNull(ServerSentEvent::data)
+            .takeWhile(data -> !"[DONE]".equals(data))
+            .mapNotNull(this::extractDeltaContent);
+    }
+
+    private Map<String, Object> createRequestPayload(GPTRequest gptRequest, boolean stream) {
         String userMessage = generatePrompt(gptRequest);
 
         // OpenAI API 요청 메시지
-        Map<String, Object> requestPayload = Map.of(
-            "model", "gpt-4o-mini",
+        Map<String, Object> requestPayload = new HashMap<>(Map.of(
+            "model", MODEL,
             "messages", List.of(
-                Map.of("role", "system", "content",
-                    "You are a helpful assistant for agile project management."),
+                Map.of("role", "system", "content", SYSTEM_MESSAGE),
                 Map.of("role", "user", "content", userMessage)
             ),
-            "max_tokens", 16000,
-            "temperature", 0.7
-        );
+            "max_tokens", MAX_TOKENS,
+            "temperature", TEMPERATURE
+        ));
+        if (stream) {
+            requestPayload.put("stream", true);
+
+            // 스트림 마지막 조각으로 토큰 사용량을 받음
+            requestPayload.put("stream_options", Map.of("include_usage", true));
+        }
 
         // 요청 로그
         logger.info("Sending GPT API Request: {}", requestPayload);
+        return requestPayload;
+    }
+
+    // 스트리밍 응답 조각 {"choices":[{"delta":{"content":"..."}}]} 에서 content 추출
+    private String extractDeltaContent(String data) {
+        try {
+            JsonNode chunk = OBJECT_MAPPER.readTree(data);
+            JsonNode usage = chunk.path("usage");
+            if (usage.isObject()) {
+                gptMetrics.recordTokens(usage.path("prompt_tokens").asLong(),
+                    usage.path("completion_tokens").asLong());
+            }
+
+            JsonNode content = chunk.path("choices").path(0).path("delta").path("content");
+            return content.isTextual() ? content.asText() : null;
+        } catch (JsonProcessingException e) {
+            throw new FailedToParseException();
+        }
+    }
 
-        // WebClient로 API 호출
-        GPTResponse gptResponse = webClient.post()
-            .uri("https://api.openai.com/v1/chat/completions")
-            .header("Authorization", "Bearer " + apiKey)
-            .header("Content-Type", "application/json")
-            .bodyValue(requestPayload)
-            .retrieve()
-            .bodyToMono(GPTResponse.class)
-            .block();
+    private GPTResponse parseGPTResponse(GPTResponse gptResponse) {
 
         // 응답 로그
         logger.info("Received GPT API Response: {}", gptResponse);
 
-        String content = gptResponse.getChoices()[0].getMessage().getContent();
-
-        // ```json과 ```를 제거
-        String sanitizedResponse = content.replaceAll("^```json|```$", "").trim();
-        // 백틱(```) 제거
-        String jsonResponse = sanitizedResponse.trim();
-        if (jsonResponse.startsWith("```") && jsonResponse.endsWith("```")) {
-            jsonResponse = jsonResponse.substring(3, jsonResponse.length() - 3).trim();
+        GPTResponse.Usage usage = gptResponse.getUsage();
+        if (usage != null) {
+            gptMetrics.recordTokens(usage.getPromptTokens(), usage.getCompletionTokens());
         }
 
-        if (!(jsonResponse.startsWith("{") || jsonResponse.startsWith("["))) {
-            throw new NotJsonResponseException();
-        }
+        String content = gptResponse.getChoices()[0].getMessage().getContent();
 
-        // JSON 문자열을 DTO로 매핑
-        ObjectMapper objectMapper = new ObjectMapper();
-        JsonNode rootNode = null;
+        // content를 한 번에 읽어 stories와 sprints를 DTO로 바인딩
         try {
-            rootNode = objectMapper.readTree(jsonResponse);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException(e);
+            return GPTContentParser.parse(content, gptResponse);
+        } catch (NotJsonResponseException | FailedToParseException e) {
+            gptMetrics.recordParseError(e);
+            throw e;
         }
-
-// stories와 sprints를 개별적으로 매핑
-        List<GPTResponse.StoryDTO> stories = objectMapper.convertValue(
-            rootNode.get("stories"),
-            new TypeReference<List<StoryDTO>>() {
-            }
-        );
-
-        List<GPTResponse.SprintDTO> sprints = objectMapper.convertValue(
-            rootNode.get("sprints"),
-            new TypeReference<List<GPTResponse.SprintDTO>>() {
-            }
-        );
-
-        // DTO에 데이터 설정
-        gptResponse.setStories(stories);
-        gptResponse.setSprints(sprints);
-        return gptResponse;
     }
 
     private String generatePrompt(GPTRequest gptRequest) {
@@ -183,132 +256,72 @@ public class GPTService {
                 gptRequest.getSprintCount());
     }
 
-    /**
-     * Retrieves a Sprint by its ID.
-     *
-     * @param sprintId the ID of the Sprint.
-     * @return the Sprint entity.
-     * @throws IllegalArgumentException if no Sprint is found with the given ID.
-     */
-    Sprint getSprintById(Long sprintId) {
-        return sprintRepository.findById(sprintId)
-            .orElseThrow(SprintNotFoundException::new);
-    }
-
-    /**
-     * Retrieves a Story by its ID.
-     *
-     * @param storyId the ID of the Story.
-     * @return the Story entity.
-     * @throws IllegalArgumentException if no Story is found with the given ID.
-     */
-    Story getStoryById(Long storyId) {
-        return storyRepository.findById(storyId)
-            .orElseThrow(StoryNotFoundException::new);
-    }
-
+    @Timed(MetricsConfig.SERVICE_TIMER)
     @Transactional
     public ProjectResponseDTO saveGPTResponse(GPTResponse gptResponse, Project project) {
 
-        // Sprint 저장 및 매핑 생성
-        Map<Long, Long> sprintIdMapping = saveSprintsAndMapIds(gptResponse, project);
+        // Sprint 저장 및 GPT가 부여한 ID -> 저장된 Sprint 매핑 생성
+        Map<Long, Sprint> sprintMapping = saveSprints(gptResponse, project);
 
-        // Story 저장 및 매핑 생성
-        Map<Long, Long> storyIdMapping = saveStoriesAndMapIds(gptResponse, project);
+        // Story 저장 및 GPT가 부여한 ID -> 저장된 Story 매핑 생성
+        Map<Long, Story> storyMapping = saveStories(gptResponse, project);
 
-        List<SprintResponseDTO> sprintResponses = saveSprints(gptResponse, project,
-            sprintIdMapping);
-        List<StoryResponseDTO> storyResponses = saveStories(gptResponse, project, storyIdMapping);
-        List<BacklogResponseDTO> backlogResponses = saveBacklogs(gptResponse, project,
-            sprintIdMapping, storyIdMapping);
-
-        return new ProjectResponseDTO(storyResponses, sprintResponses, backlogResponses);
-    }
+        List<Backlog> backlogs = saveBacklogs(gptResponse, project, sprintMapping, storyMapping);
 
-    Map<Long, Long> saveSprintsAndMapIds(GPTResponse gptResponse, Project project) {
-        Map<Long, Long> sprintIdMapping = new HashMap<>();
-
-        gptResponse.getSprints().forEach(sprintDTO -> {
-            Sprint sprint = sprintRepository.save(
-                new Sprint(project, sprintDTO.getTitle(), sprintDTO.getGoal(), null, null, false,
-                    false));
-            sprintIdMapping.put(sprintDTO.getId(), sprint.getId());
-        });
-
-        return sprintIdMapping;
-    }
-
-    Map<Long, Long> saveStoriesAndMapIds(GPTResponse gptResponse, Project project) {
-        Map<Long, Long> storyIdMapping = new HashMap<>();
-
-        gptResponse.getStories().forEach(storyDTO -> {
-            Story story = storyRepository.save(
-                new Story(project, storyDTO.getTitle(), storyDTO.getDescription()));
-            storyIdMapping.put(storyDTO.getId(), story.getStoryId());
-        });
-
-        return storyIdMapping;
+        // 저장한 엔티티로 응답을 만들어 다시 조회하지 않음
+        return new ProjectResponseDTO(
+            storyMapping.values().stream().map(StoryResponseDTO::from).toList(),
+            sprintMapping.values().stream().map(SprintResponseDTO::from).toList(),
+            backlogs.stream().map(BacklogResponseDTO::from).toList()
+        );
     }
 
-    private List<SprintResponseDTO> saveSprints(GPTResponse gptResponse, Project project,
-        Map<Long, Long> sprintIdMapping) {
-        return gptResponse.getSprints().stream().map(sprintDTO -> {
-            Long databaseSprintId = sprintIdMapping.get(sprintDTO.getId());
+    Map<Long, Sprint> saveSprints(GPTResponse gptResponse, Project project) {
+        List<Sprint> sprints = sprintRepository.saveAll(gptResponse.getSprints().stream()
+            .map(sprintDTO -> new Sprint(project, sprintDTO.getTitle(), sprintDTO.getGoal(),
+                null, null, false, false))
+            .toList());
 
-            if (databaseSprintId == null) {
-                throw new SprintNotFoundException();
-            }
-
-            Sprint sprint = sprintRepository.findById(databaseSprintId)
-                .orElseThrow(SprintNotFoundException::new);
-
-            return SprintResponseDTO.from(sprint);
-        }).toList();
+        Map<Long, Sprint> sprintMapping = new LinkedHashMap<>();
+        for (int i = 0; i < sprints.size(); i++) {
+            sprintMapping.put(gptResponse.getSprints().get(i).getId(), sprints.get(i));
+        }
+        return sprintMapping;
     }
 
-    private List<StoryResponseDTO> saveStories(GPTResponse gptResponse, Project project,
-        Map<Long, Long> storyIdMapping) {
-        return gptResponse.getStories().stream().map(storyDTO -> {
-            Long databaseStoryId = storyIdMapping.get(storyDTO.getId());
+    Map<Long, Story> saveStories(GPTResponse gptResponse, Project project) {
+        List<Story> stories = storyRepository.saveAll(gptResponse.getStories().stream()
+            .map(storyDTO -> new Story(project, storyDTO.getTitle(), storyDTO.getDescription()))
+            .toList());
 
-            if (databaseStoryId == null) {
-                throw new StoryNotFoundException();
-            }
-
-            Story story = storyRepository.findById(databaseStoryId)
-                .orElseThrow(StoryNotFoundException::new);
-
-            return StoryResponseDTO.from(story);
-        }).toList();
+        Map<Long, Story> storyMapping = new LinkedHashMap<>();
+        for (int i = 0; i < stories.size(); i++) {
+            storyMapping.put(gptResponse.getStories().get(i).getId(), stories.get(i));
+        }
+        return storyMapping;
     }
 
-    List<BacklogResponseDTO> saveBacklogs(GPTResponse gptResponse, Project project,
-        Map<Long, Long> sprintIdMapping, Map<Long, Long> storyIdMapping) {
-        return gptResponse.getStories().stream()
+    List<Backlog> saveBacklogs(GPTResponse gptResponse, Project project,
+        Map<Long, Sprint> sprintMapping, Map<Long, Story> storyMapping) {
+        List<Backlog> backlogs = gptResponse.getStories().stream()
             .flatMap(storyDTO -> storyDTO.getTasks().stream().map(taskDTO -> {
-                Long databaseStoryId = storyIdMapping.get(storyDTO.getId());
+                Story story = storyMapping.get(storyDTO.getId());
 
-                if (databaseStoryId == null) {
+                if (story == null) {
                     throw new StoryNotFoundException();
                 }
 
-                Story story = getStoryById(databaseStoryId);
+                Sprint sprint = sprintMapping.get(taskDTO.getSprintId());
 
-                Long databaseSprintId = sprintIdMapping.get(taskDTO.getSprintId());
-
-                if (databaseSprintId == null) {
+                if (sprint == null) {
                     throw new SprintNotFoundException();
                 }
 
-                Sprint sprint = getSprintById(databaseSprintId);
-
-                Backlog backlog = backlogRepository.save(
-                    new Backlog(taskDTO.getTitle(),
-                        taskDTO.getDescription(), taskDTO.getPriority(), project, sprint, story,
-                        null));
-
-                return BacklogResponseDTO.from(backlog);
+                return new Backlog(taskDTO.getTitle(), taskDTO.getDescription(),
+                    taskDTO.getPriority(), project, sprint, story, null);
             }))
             .toList();
+
+        return backlogRepository.saveAll(backlogs);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,66 @@
+package agilementor.chatgpt.service;
+
+import agilementor.chatgpt.dto.GPTRequest;
+import agilementor.chatgpt.dto.GPTResponse;
+import agilementor.chatgpt.dto.GPTStreamEvent;
+import agilementor.chatgpt.util.GPTMetrics;
+import agilementor.chatgpt.util.GPTStreamParser;
+import agilementor.common.exception.FailedToParseException;
+import agilementor.common.exception.NotJsonResponseException;
+import agilementor.project.entity.Project;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Optional;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+// GPT 응답을 스트리밍으로 받아, 스토리와 스프린트가 완성될 때마다 이벤트로 전달하고 마지막에 저장
+@Service
+public class GPTStreamService {
+
+    private final GPTService gptService;
+    private final ObjectMapper objectMapper;
+    private final GPTMetrics gptMetrics;
+
+    public GPTStreamService(GPTService gptService, ObjectMapper objectMapper,
+        GPTMetrics gptMetrics) {
+        this.gptService = gptService;
+        this.objectMapper = objectMapper;
+        this.gptMetrics = gptMetrics;
+    }
+
+    public Flux<GPTStreamEvent> streamGeneration(GPTRequest request, Project project) {
+        return Flux.defer(() -> {
+
+            // 같은 요청의 응답이 캐시에 있으면 OpenAI를 호출하지 않고 캐시된 응답을 전달
+            Optional<GPTResponse> cachedResponse = gptService.findCachedGPTResponse(request);
+            if (cachedResponse.isPresent()) {
+                GPTResponse gptResponse = cachedResponse.get();
+                return Flux.concat(
+                    Flux.fromIterable(gptResponse.getStories()).map(GPTStreamEvent::story),
+                    Flux.fromIterable(gptResponse.getSprints()).map(GPTStreamEvent::sprint),
+                    save(gptResponse, project));
+            }
+
+            GPTStreamParser parser = new GPTStreamParser(objectMapper);
+
+            // 스트림이 끝나면 파싱한 결과를 캐시하고 저장한 뒤, 저장된 결과를 마지막 이벤트로 전달
+            return gptService.streamGPTContent(request, project.getProjectId())
+                .concatMapIterable(parser::feed)
+                .concatWith(Mono.defer(() -> {
+                    GPTResponse gptResponse = parser.toGPTResponse();
+                    gptService.cacheGPTResponse(request, gptResponse);
+                    return save(gptResponse, project);
+                }))
+                .doOnError(e -> e instanceof NotJsonResponseException
+                    || e instanceof FailedToParseException, gptMetrics::recordParseError);
+        });
+    }
+
+    private Mono<GPTStreamEvent> save(GPTResponse gptResponse, Project project) {
+        return Mono.fromCallable(() -> gptService.saveGPTResponse(gptResponse, project))
+            .subscribeOn(Schedulers.boundedElastic())
+            .map(GPTStreamEvent::complete);
+    }
+}
@@ -0,0 +1,60 @@
+package agilementor.chatgpt.util;
+
+import agilementor.chatgpt.dto.GPTResponse;
+import agilementor.common.exception.FailedToParseException;
+import agilementor.common.exception.NotJsonResponseException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.IOException;
+import java.io.StringReader;
+
+// GPT 응답 content(```json 코드 블록으로 감싸질 수 있음)를 한 번에 읽어 stories와 sprints로 바인딩
+// 코드 블록은 정규식이나 substring 없이 시작 위치만 찾아 건너뛰고, 중간 JsonNode 트리를 만들지 않음
+public final class GPTContentParser {
+
+    private static final String FENCE = "```";
+
+    // 스레드 안전하므로 모든 요청이 공유 (루트 객체가 끝나면 읽기를 멈추므로 닫는 ```는 무시됨)
+    private static final ObjectReader READER = new ObjectMapper()
+        .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+        .readerFor(GPTResponse.class);
+
+    private GPTContentParser() {
+    }
+
+    // content를 파싱하여 gptResponse의 stories와 sprints를 채움
+    public static GPTResponse parse(String content, GPTResponse gptResponse) {
+        int start = findJsonStart(content);
+        if (start == content.length() || content.charAt(start) != '{') {
+            throw new NotJsonResponseException();
+        }
+
+        try (StringReader reader = new StringReader(content)) {
+            reader.skip(start);
+            return READER.withValueToUpdate(gptResponse).readValue(reader);
+        } catch (IOException e) {
+            throw new FailedToParseException();
+        }
+    }
+
+    // 앞쪽 공백과 ```json 같은 코드 블록 시작 줄을 건너뛴 위치 반환
+    static int findJsonStart(String content) {
+        int index = skipWhitespace(content, 0);
+        if (content.startsWith(FENCE, index)) {
+            index += FENCE.length();
+            while (index < content.length() && Character.isLetter(content.charAt(index))) {
+                index++;
+            }
+            index = skipWhitespace(content, index);
+        }
+        return index;
+    }
+
+    private static int skipWhitespace(String content, int index) {
+        while (index < content.length() && Character.isWhitespace(content.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+}
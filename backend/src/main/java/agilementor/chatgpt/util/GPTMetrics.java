@@ -0,0 +1,32 @@
+package agilementor.chatgpt.util;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+// GPT 자동 생성 관련 메트릭 (애플리케이션의 MeterRegistry에 등록하여 /actuator/prometheus 로 노출)
+@Component
+public class GPTMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    public GPTMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    // OpenAI 응답의 usage에 담긴 토큰 사용량
+    public void recordTokens(long promptTokens, long completionTokens) {
+        meterRegistry.counter("gpt.tokens", "type", "prompt").increment(promptTokens);
+        meterRegistry.counter("gpt.tokens", "type", "completion").increment(completionTokens);
+    }
+
+    // OpenAI 호출 실패 (reason: circuit_open, upstream_error)
+    public void recordFailure(String reason) {
+        meterRegistry.counter("gpt.failures", "reason", reason).increment();
+    }
+
+    // GPT가 생성한 content를 파싱하지 못한 경우
+    public void recordParseError(Throwable e) {
+        meterRegistry.counter("gpt.parse.errors", "exception", e.getClass().getSimpleName())
+            .increment();
+    }
+}
@@ -0,0 +1,146 @@
+package agilementor.chatgpt.util;
+
+import agilementor.chatgpt.dto.GPTResponse;
+import agilementor.chatgpt.dto.GPTStreamEvent;
+import agilementor.common.exception.FailedToParseException;
+import agilementor.common.exception.NotJsonResponseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+// 스트리밍으로 받은 GPT 응답 조각을 이어 붙이지 않고 바로 파싱하여,
+// stories와 sprints 배열의 원소가 완성될 때마다 이벤트로 반환 (스트림 하나당 하나씩 생성)
+public class GPTStreamParser {
+
+    private final ObjectMapper objectMapper;
+    private final JsonParser parser;
+    private final List<GPTResponse.StoryDTO> stories = new ArrayList<>();
+    private final List<GPTResponse.SprintDTO> sprints = new ArrayList<>();
+
+    private boolean started; // 루트 객체의 '{'를 받았는지 여부
+    private boolean finished; // 루트 객체가 닫혔는지 여부
+    private int depth;
+    private String fieldName;
+    private String arrayName; // 현재 읽고 있는 stories 또는 sprints 배열
+    private TokenBuffer element; // 완성되지 않은 배열 원소의 토큰
+    private int elementDepth;
+
+    public GPTStreamParser(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        try {
+            this.parser = objectMapper.getFactory().createNonBlockingByteArrayParser();
+        } catch (IOException e) {
+            throw new FailedToParseException();
+        }
+    }
+
+    public List<GPTStreamEvent> feed(String chunk) {
+        if (finished) {
+            return List.of();
+        }
+
+        // ```json 과 같이 루트 객체 앞에 오는 문자는 무시
+        if (!started) {
+            int start = chunk.indexOf('{');
+            if (start < 0) {
+                return List.of();
+            }
+            started = true;
+            chunk = chunk.substring(start);
+        }
+
+        byte[] bytes = chunk.getBytes(StandardCharsets.UTF_8);
+        try {
+            ((ByteArrayFeeder) parser.getNonBlockingInputFeeder()).feedInput(bytes, 0,
+                bytes.length);
+            return readAvailableTokens();
+        } catch (IOException e) {
+            throw new FailedToParseException();
+        }
+    }
+
+    private List<GPTStreamEvent> readAvailableTokens() throws IOException {
+        List<GPTStreamEvent> events = new ArrayList<>();
+
+        JsonToken token;
+        while (!finished && (token = parser.nextToken()) != JsonToken.NOT_AVAILABLE) {
+
+            // 배열 원소를 읽는 중이면 원소가 닫힐 때까지 토큰을 모음
+            if (element != null) {
+                element.copyCurrentEvent(parser);
+                if (token.isStructStart()) {
+                    elementDepth++;
+                } else if (token.isStructEnd() && --elementDepth == 0) {
+                    events.add(completeElement());
+                }
+                continue;
+            }
+
+            switch (token) {
+                case FIELD_NAME -> fieldName = parser.currentName();
+                case START_OBJECT -> {
+                    if (depth == 2 && arrayName != null) {
+                        element = new TokenBuffer(parser);
+                        element.copyCurrentEvent(parser);
+                        elementDepth = 1;
+                    } else {
+                        depth++;
+                    }
+                }
+                case START_ARRAY -> {
+                    if (depth == 1 && ("stories".equals(fieldName) || "sprints".equals(
+                        fieldName))) {
+                        arrayName = fieldName;
+                    }
+                    depth++;
+                }
+                case END_ARRAY -> {
+                    if (--depth == 1) {
+                        arrayName = null;
+                    }
+                }
+                case END_OBJECT -> finished = --depth == 0;
+                default -> {
+                }
+            }
+        }
+        return events;
+    }
+
+    private GPTStreamEvent completeElement() throws IOException {
+        try (JsonParser elementParser = element.asParser(objectMapper)) {
+            element = null;
+            if ("stories".equals(arrayName)) {
+                GPTResponse.StoryDTO story = objectMapper.readValue(elementParser,
+                    GPTResponse.StoryDTO.class);
+                stories.add(story);
+                return GPTStreamEvent.story(story);
+            }
+            GPTResponse.SprintDTO sprint = objectMapper.readValue(elementParser,
+                GPTResponse.SprintDTO.class);
+            sprints.add(sprint);
+            return GPTStreamEvent.sprint(sprint);
+        }
+    }
+
+    // 스트림이 끝난 뒤 지금까지 파싱한 stories와 sprints를 담은 응답 반환
+    public GPTResponse toGPTResponse() {
+        if (!started) {
+            throw new NotJsonResponseException();
+        }
+        if (!finished) {
+            throw new FailedToParseException();
+        }
+
+        GPTResponse gptResponse = new GPTResponse();
+        gptResponse.setStories(stories);
+        gptResponse.setSprints(sprints);
+        return gptResponse;
+    }
+}
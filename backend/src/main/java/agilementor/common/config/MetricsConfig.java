@@ -0,0 +1,18 @@
+package agilementor.common.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    // 서비스 메서드별 실행 시간 (@Timed("agilementor.service"), class와 method 태그로 구분)
+    public static final String SERVICE_TIMER = "agilementor.service";
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
@@ -0,0 +1,78 @@
+package agilementor.common.config;
+
+import agilementor.member.properties.OAuthHttpClientProperties;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+// 구글 OAuth 토큰 발급, id 토큰 공개키 조회에만 쓰는 RestClient(oauthRestClient)와 HTTP 클라이언트 설정
+// 다른 RestClient.Builder에는 영향을 주지 않도록 전역 RestClientCustomizer 대신 전용 RestClient를 만듦
+// 로그인이 몰려도 요청마다 TCP/TLS 연결을 새로 맺지 않도록 keep-alive 연결을 풀에서 재사용하고,
+// 구글 응답이 늦어져도 요청 스레드가 오래 묶이지 않도록 연결/풀 대기/응답 제한 시간을 둠
+// 풀 상태는 httpcomponents.httpclient.pool.* 메트릭(httpclient=oauth)으로 수집
+// 풀과 연결은 synchronized 대신 ReentrantLock으로 동기화하므로 가상 스레드 실행 모드에서도
+// 캐리어 스레드를 고정하지 않음
+@Configuration
+public class OAuthHttpClientConfig {
+
+    private static final String POOL_NAME = "oauth";
+    // 이 시간 이상 쉬었던 연결은 재사용 전에 서버가 닫지 않았는지 확인
+    private static final TimeValue VALIDATE_AFTER_INACTIVITY = TimeValue.ofSeconds(2);
+
+    @Bean
+    public PoolingHttpClientConnectionManager oauthConnectionManager(
+        OAuthHttpClientProperties properties) {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(properties.maxConnections())
+            .setMaxConnPerRoute(properties.maxConnections())
+            .setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.of(properties.connectTimeout()))
+                .setSocketTimeout(Timeout.of(properties.responseTimeout()))
+                .setTimeToLive(TimeValue.of(properties.timeToLive()))
+                .setValidateAfterInactivity(VALIDATE_AFTER_INACTIVITY)
+                .build())
+            .build();
+    }
+
+    @Bean
+    public CloseableHttpClient oauthHttpClient(
+        PoolingHttpClientConnectionManager oauthConnectionManager,
+        OAuthHttpClientProperties properties) {
+        return HttpClients.custom()
+            .setConnectionManager(oauthConnectionManager)
+            .setDefaultRequestConfig(RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.of(properties.connectionRequestTimeout()))
+                .setResponseTimeout(Timeout.of(properties.responseTimeout()))
+                .build())
+            .evictExpiredConnections()
+            .evictIdleConnections(TimeValue.of(properties.idleTimeout()))
+            .build();
+    }
+
+    @Bean
+    public MeterBinder oauthConnectionPoolMetrics(
+        PoolingHttpClientConnectionManager oauthConnectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(oauthConnectionManager,
+            POOL_NAME);
+    }
+
+    // RestClient.Builder 빈은 주입할 때마다 새로 만들어지므로 여기서 바꿔도 다른 곳의 빌더에는 반영되지 않음
+    @Bean
+    public RestClient oauthRestClient(RestClient.Builder restClientBuilder,
+        CloseableHttpClient oauthHttpClient) {
+        return restClientBuilder
+            .requestFactory(new HttpComponentsClientHttpRequestFactory(oauthHttpClient))
+            .build();
+    }
+}
@@ -0,0 +1,62 @@
+package agilementor.common.config;
+
+import agilementor.common.properties.SessionNearCacheProperties;
+import agilementor.common.session.NearCacheSessionRepository;
+import javax.sql.DataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.boot.autoconfigure.session.JdbcSessionDataSourceScriptDatabaseInitializer;
+import org.springframework.boot.autoconfigure.session.JdbcSessionProperties;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
+import org.springframework.session.config.SessionRepositoryCustomizer;
+import org.springframework.session.jdbc.JdbcIndexedSessionRepository;
+import org.springframework.session.jdbc.config.annotation.web.http.EnableJdbcHttpSession;
+
+// 로그인 세션을 DB(SPRING_SESSION 테이블)에 저장하여 여러 인스턴스가 세션을 공유하도록 하고,
+// 요청마다 DB를 조회하지 않도록 인스턴스 로컬 캐시(NearCacheSessionRepository)를 앞에 둠
+// SessionRepository 빈을 직접 등록하면 Spring Boot의 세션 자동 설정이 물러나므로
+// 스키마 생성(spring.session.jdbc.*)과 세션 만료 시간(server.servlet.session.timeout)을 여기서 연결
+@Configuration
+@ConditionalOnWebApplication(type = Type.SERVLET)
+@EnableJdbcHttpSession
+@EnableConfigurationProperties(JdbcSessionProperties.class)
+public class SessionConfig {
+
+    @Bean
+    public JdbcSessionDataSourceScriptDatabaseInitializer jdbcSessionDataSourceInitializer(
+        DataSource dataSource, JdbcSessionProperties jdbcSessionProperties) {
+        return new JdbcSessionDataSourceScriptDatabaseInitializer(dataSource,
+            jdbcSessionProperties);
+    }
+
+    @Bean
+    public SessionRepositoryCustomizer<JdbcIndexedSessionRepository> jdbcSessionCustomizer(
+        ServerProperties serverProperties, JdbcSessionProperties jdbcSessionProperties) {
+        return sessionRepository -> {
+            sessionRepository.setDefaultMaxInactiveInterval(
+                serverProperties.getServlet().getSession().getTimeout());
+            sessionRepository.setTableName(jdbcSessionProperties.getTableName());
+            sessionRepository.setCleanupCron(jdbcSessionProperties.getCleanupCron());
+            sessionRepository.setFlushMode(jdbcSessionProperties.getFlushMode());
+            sessionRepository.setSaveMode(jdbcSessionProperties.getSaveMode());
+        };
+    }
+
+    // JdbcIndexedSessionRepository의 세션 타입은 외부에 공개되지 않으므로 Session으로 다룸
+    @Bean
+    @Primary
+    @SuppressWarnings("unchecked")
+    public NearCacheSessionRepository nearCacheSessionRepository(
+        JdbcIndexedSessionRepository jdbcIndexedSessionRepository,
+        SessionNearCacheProperties properties) {
+        return new NearCacheSessionRepository(
+            (SessionRepository<Session>) (SessionRepository<?>) jdbcIndexedSessionRepository,
+            properties);
+    }
+}
@@ -0,0 +1,10 @@
+package agilementor.common.exception;
+
+public class GPTJobNotFoundException extends RuntimeException {
+
+    private static final String MESSAGE = "해당 AI 자동 생성 작업을 찾을 수 없습니다.";
+
+    public GPTJobNotFoundException() {
+        super(MESSAGE);
+    }
+}
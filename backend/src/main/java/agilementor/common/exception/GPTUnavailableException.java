@@ -0,0 +1,10 @@
+package agilementor.common.exception;
+
+public class GPTUnavailableException extends RuntimeException {
+
+    private static final String MESSAGE = "AI 서버 장애로 자동 생성을 잠시 중단했습니다. 잠시 후 다시 시도해주세요.";
+
+    public GPTUnavailableException() {
+        super(MESSAGE);
+    }
+}
@@ -1,5 +1,6 @@
 package agilementor.common.exception;
 
+import jakarta.persistence.EntityNotFoundException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -40,6 +41,15 @@ public class GlobalExceptionHandler {
             .body(new ExceptionResponse(exception.getMessage()));
     }
 
+    // 멤버십 캐시가 반환한 프로젝트 참조(프록시)의 프로젝트가 다른 서버에서 삭제된 경우
+    @ExceptionHandler
+    public ResponseEntity<ExceptionResponse> handleEntityNotFoundException(
+        EntityNotFoundException exception) {
+        return ResponseEntity
+            .status(HttpStatus.NOT_FOUND)
+            .body(new ExceptionResponse(new ProjectNotFoundException().getMessage()));
+    }
+
     @ExceptionHandler
     public ResponseEntity<ExceptionResponse> handleNotProjectAdminException(
         NotProjectAdminException exception) {
@@ -136,4 +146,28 @@ public class GlobalExceptionHandler {
             .body(new ExceptionResponse(exception.getMessage()));
     }
 
+    @ExceptionHandler
+    public ResponseEntity<ExceptionResponse> handleGPTJobNotFoundException(
+        GPTJobNotFoundException exception) {
+        return ResponseEntity
+            .status(HttpStatus.NOT_FOUND)
+            .body(new ExceptionResponse(exception.getMessage()));
+    }
+
+    @ExceptionHandler
+    public ResponseEntity<ExceptionResponse> handleTooManyGPTJobsException(
+        TooManyGPTJobsException exception) {
+        return ResponseEntity
+            .status(HttpStatus.TOO_MANY_REQUESTS)
+            .body(new ExceptionResponse(exception.getMessage()));
+    }
+
+    @ExceptionHandler
+    public ResponseEntity<ExceptionResponse> handleGPTUnavailableException(
+        GPTUnavailableException exception) {
+        return ResponseEntity
+            .status(HttpStatus.SERVICE_UNAVAILABLE)
+            .body(new ExceptionResponse(exception.getMessage()));
+    }
+
 }
@@ -0,0 +1,10 @@
+package agilementor.common.exception;
+
+public class TooManyGPTJobsException extends RuntimeException {
+
+    private static final String MESSAGE = "대기 중인 AI 자동 생성 작업이 너무 많습니다. 잠시 후 다시 시도해주세요.";
+
+    public TooManyGPTJobsException() {
+        super(MESSAGE);
+    }
+}
@@ -0,0 +1,13 @@
+package agilementor.common.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+// headerEnabled: 응답에 X-Query-Count 헤더 추가 (개발용), warnThreshold: 경고 로그를 남기는 요청당 SQL 수
+@ConfigurationProperties(prefix = "query-count")
+public record QueryCountProperties(
+    @DefaultValue("false") boolean headerEnabled,
+    @DefaultValue("30") int warnThreshold
+) {
+
+}
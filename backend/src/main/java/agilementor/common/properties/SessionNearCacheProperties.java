@@ -0,0 +1,17 @@
+package agilementor.common.properties;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+// maxSize: 인스턴스마다 캐시에 보관할 세션 수
+// ttl: 세션 저장소에서 읽은 세션을 보관하는 시간, 다른 인스턴스의 로그아웃이 반영되기까지의 최대 시간
+// touchInterval: 세션의 마지막 접근 시간을 저장소에 갱신하는 최소 간격 (세션이 이만큼 일찍 만료될 수 있음)
+@ConfigurationProperties(prefix = "session.near-cache")
+public record SessionNearCacheProperties(
+    @DefaultValue("10000") long maxSize,
+    @DefaultValue("10s") Duration ttl,
+    @DefaultValue("1m") Duration touchInterval
+) {
+
+}
@@ -0,0 +1,14 @@
+package agilementor.common.properties;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+// threshold: 이 시간보다 오래 캐리어 스레드에 고정된 경우만 기록, stackDepth: 로그에 남길 스택 프레임 수
+@ConfigurationProperties(prefix = "virtual-threads.pinning")
+public record VirtualThreadPinningProperties(
+    @DefaultValue("20ms") Duration threshold,
+    @DefaultValue("10") int stackDepth
+) {
+
+}
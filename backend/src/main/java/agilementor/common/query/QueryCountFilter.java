@@ -0,0 +1,60 @@
+package agilementor.common.query;
+
+import agilementor.common.properties.QueryCountProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+// HTTP 요청마다 실행된 SQL 수를 세어 API별 메트릭으로 기록하고, 기준을 넘으면 N+1 의심 경고를 남김
+@Component
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    // 테스트에서 요청별 SQL 수를 확인할 수 있도록 요청 속성으로도 남김
+    public static final String QUERY_COUNT_ATTRIBUTE = QueryCountFilter.class.getName() + ".COUNT";
+    private static final Logger logger = LoggerFactory.getLogger(QueryCountFilter.class);
+    private final QueryCountProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public QueryCountFilter(QueryCountProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+        FilterChain filterChain) throws ServletException, IOException {
+        QueryCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            record(request, QueryCounter.stop());
+        }
+    }
+
+    private void record(HttpServletRequest request, int count) {
+        request.setAttribute(QUERY_COUNT_ATTRIBUTE, count);
+
+        // 경로 변수가 값으로 바뀌기 전의 URI 패턴으로 기록하여 태그 수가 늘어나지 않도록 함
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+        DistributionSummary.builder("http.server.requests.queries")
+            .description("HTTP 요청 하나에서 실행된 SQL 수")
+            .tags("method", request.getMethod(), "uri", uri)
+            .register(meterRegistry)
+            .record(count);
+
+        if (count > properties.warnThreshold()) {
+            logger.warn("{} {} executed {} SQL statements (possible N+1)", request.getMethod(),
+                uri, count);
+        }
+    }
+}
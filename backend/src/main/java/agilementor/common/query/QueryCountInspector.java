@@ -0,0 +1,13 @@
+package agilementor.common.query;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Hibernate가 JDBC 문장을 준비할 때마다 호출되어 SQL 수를 셈 (SQL은 바꾸지 않음)
+public class QueryCountInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        QueryCounter.increment();
+        return sql;
+    }
+}
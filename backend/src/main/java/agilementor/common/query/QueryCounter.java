@@ -0,0 +1,33 @@
+package agilementor.common.query;
+
+// 현재 스레드에서 실행된 SQL 수를 셈 (HTTP 요청 단위로 QueryCountFilter가 시작하고 종료)
+// 요청 스레드가 아닌 곳(비동기 작업 등)에서 실행된 SQL은 세지 않음
+public final class QueryCounter {
+
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    private QueryCounter() {
+    }
+
+    public static void start() {
+        COUNT.set(new int[1]);
+    }
+
+    public static int stop() {
+        int count = current();
+        COUNT.remove();
+        return count;
+    }
+
+    public static int current() {
+        int[] count = COUNT.get();
+        return count == null ? 0 : count[0];
+    }
+
+    static void increment() {
+        int[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+    }
+}
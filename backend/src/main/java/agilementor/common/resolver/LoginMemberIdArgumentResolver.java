@@ -2,20 +2,31 @@ package agilementor.common.resolver;
 
 import agilementor.common.annotation.LoginMemberId;
 import agilementor.common.exception.InvalidSessionException;
+import agilementor.member.util.LoginTokenProvider;
+import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
+import java.util.Optional;
 import org.springframework.core.MethodParameter;
 import org.springframework.stereotype.Component;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.util.WebUtils;
 
 @Component
 public class LoginMemberIdArgumentResolver implements HandlerMethodArgumentResolver {
 
     private static final String LOGIN_MEMBER_ID = "memberId";
 
+    private final LoginTokenProvider loginTokenProvider;
+
+    // 로그인 토큰(auth.token.enabled)을 사용하지 않으면 loginTokenProvider는 null
+    public LoginMemberIdArgumentResolver(Optional<LoginTokenProvider> loginTokenProvider) {
+        this.loginTokenProvider = loginTokenProvider.orElse(null);
+    }
+
     @Override
     public boolean supportsParameter(MethodParameter parameter) {
         return parameter.hasParameterAnnotation(LoginMemberId.class);
@@ -27,6 +38,16 @@ public class LoginMemberIdArgumentResolver implements HandlerMethodArgumentResol
 
         HttpServletRequest request = (HttpServletRequest) webRequest.getNativeRequest();
 
+        // 로그인 토큰이 있으면 세션을 조회하지 않고 토큰의 서명만 검증
+        // 토큰이 없으면 토큰 사용 전에 발급된 세션으로 확인
+        if (loginTokenProvider != null) {
+            Cookie loginToken = WebUtils.getCookie(request, LoginTokenProvider.COOKIE_NAME);
+            if (loginToken != null) {
+                return loginTokenProvider.verify(loginToken.getValue())
+                    .orElseThrow(InvalidSessionException::new);
+            }
+        }
+
         HttpSession session = request.getSession(false);
 
         if (session == null) {
@@ -0,0 +1,63 @@
+package agilementor.common.sequence;
+
+import agilementor.backlog.entity.Backlog;
+import agilementor.backlog.entity.Story;
+import agilementor.sprint.entity.Sprint;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+// 시퀀스로 ID를 할당하는 엔티티의 다음 ID가 테이블의 최대 ID보다 큰지 시작 시 확인
+// IDENTITY로 만든 기존 DB에 시퀀스(MySQL은 *_seq 테이블)가 1부터 새로 만들어지면
+// 새로 저장하는 ID가 기존 행과 겹치므로, db/mysql/sequence-ids.sql로 시퀀스를 맞추기 전에는 시작하지 않음
+// (확인에 쓴 ID 하나는 사용하지 않고 버림)
+@Component
+public class IdSequenceVerifier implements ApplicationRunner {
+
+    private static final List<Class<?>> SEQUENCE_ENTITIES = List.of(
+        Sprint.class, Story.class, Backlog.class);
+
+    private final SessionFactoryImplementor sessionFactory;
+
+    public IdSequenceVerifier(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try (Session session = sessionFactory.openSession()) {
+            for (Class<?> entity : SEQUENCE_ENTITIES) {
+                verify(session, entity);
+            }
+        }
+    }
+
+    private void verify(Session session, Class<?> entity) {
+        EntityPersister persister = sessionFactory.getMappingMetamodel()
+            .getEntityDescriptor(entity);
+
+        Long maxId = session.createQuery("select max(e." + persister.getIdentifierPropertyName()
+            + ") from " + entity.getSimpleName() + " e", Long.class).getSingleResult();
+        if (maxId == null) {
+            return;
+        }
+
+        BeforeExecutionGenerator generator = (BeforeExecutionGenerator) persister.getGenerator();
+        Long nextId = (Long) generator.generate((SharedSessionContractImplementor) session, null,
+            null, EventType.INSERT);
+
+        if (nextId <= maxId) {
+            throw new IllegalStateException(entity.getSimpleName() + "의 다음 ID(" + nextId
+                + ")가 기존 최대 ID(" + maxId + ") 이하입니다. "
+                + "db/mysql/sequence-ids.sql로 시퀀스를 기존 ID 뒤로 맞춘 뒤 시작하세요.");
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package agilementor.common.session;
+
+import agilementor.common.exception.InvalidSessionException;
+import agilementor.common.properties.SessionNearCacheProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import org.springframework.session.MapSession;
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
+
+// 여러 인스턴스가 함께 쓰는 세션 저장소(JDBC) 앞에 두는 인스턴스 로컬 캐시
+// 조회: 저장소에서 읽은 세션을 ttl 동안 보관하고 요청마다 복사본을 반환하여 DB를 조회하지 않음
+// 저장: 속성이 바뀐 세션(로그인 등)만 저장소에서 다시 읽어 변경을 저장하고,
+// 마지막 접근 시간만 바뀐 경우는 touchInterval이 지났을 때만 저장소에 갱신
+public class NearCacheSessionRepository implements
+    SessionRepository<NearCacheSessionRepository.NearCacheSession> {
+
+    private final SessionRepository<Session> delegate;
+    private final Cache<String, MapSession> cache;
+    private final Duration touchInterval;
+
+    public NearCacheSessionRepository(SessionRepository<Session> delegate,
+        SessionNearCacheProperties properties) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(properties.maxSize())
+            .expireAfterWrite(properties.ttl())
+            .build();
+        this.touchInterval = properties.touchInterval();
+    }
+
+    @Override
+    public NearCacheSession createSession() {
+        return new NearCacheSession(delegate.createSession());
+    }
+
+    @Override
+    public void save(NearCacheSession session) {
+        Session stored = session.stored;
+
+        if (stored == null) {
+            if (!session.isTouchDue()) {
+                return;
+            }
+            stored = delegate.findById(session.getId());
+            if (stored == null) {
+                // 다른 인스턴스에서 로그아웃하여 삭제된 세션
+                cache.invalidate(session.getId());
+                return;
+            }
+            stored.setLastAccessedTime(session.getLastAccessedTime());
+        }
+
+        delegate.save(stored);
+        cache.put(stored.getId(), new MapSession(stored));
+        if (!stored.getId().equals(session.originalId)) {
+            cache.invalidate(session.originalId);
+        }
+    }
+
+    @Override
+    public NearCacheSession findById(String id) {
+        MapSession cached = cache.get(id, this::load);
+
+        if (cached == null) {
+            return null;
+        }
+        if (cached.isExpired()) {
+            cache.invalidate(id);
+            return null;
+        }
+        return new NearCacheSession(new MapSession(cached));
+    }
+
+    @Override
+    public void deleteById(String id) {
+        cache.invalidate(id);
+        delegate.deleteById(id);
+    }
+
+    private MapSession load(String id) {
+        Session stored = delegate.findById(id);
+        return stored == null ? null : new MapSession(stored);
+    }
+
+    // 캐시된 세션의 복사본으로 읽기를 처리하다가, 속성을 바꾸면 저장소의 세션을 읽어 그 세션에 변경을 반영
+    public final class NearCacheSession implements Session {
+
+        private final String originalId;
+        private final MapSession cached;
+        private final Instant persistedLastAccessedTime;
+        private Session stored;
+
+        private NearCacheSession(MapSession cached) {
+            this.originalId = cached.getId();
+            this.cached = cached;
+            this.persistedLastAccessedTime = cached.getLastAccessedTime();
+        }
+
+        private NearCacheSession(Session created) {
+            this.originalId = created.getId();
+            this.cached = null;
+            this.persistedLastAccessedTime = null;
+            this.stored = created;
+        }
+
+        private Session current() {
+            return stored != null ? stored : cached;
+        }
+
+        private Session writable() {
+            if (stored == null) {
+                stored = delegate.findById(cached.getId());
+                if (stored == null) {
+                    cache.invalidate(cached.getId());
+                    throw new InvalidSessionException();
+                }
+                stored.setLastAccessedTime(cached.getLastAccessedTime());
+            }
+            return stored;
+        }
+
+        private boolean isTouchDue() {
+            return Duration.between(persistedLastAccessedTime, cached.getLastAccessedTime())
+                .compareTo(touchInterval) >= 0;
+        }
+
+        @Override
+        public String getId() {
+            return current().getId();
+        }
+
+        @Override
+        public String changeSessionId() {
+            return writable().changeSessionId();
+        }
+
+        @Override
+        public <T> T getAttribute(String attributeName) {
+            return current().getAttribute(attributeName);
+        }
+
+        @Override
+        public Set<String> getAttributeNames() {
+            return current().getAttributeNames();
+        }
+
+        @Override
+        public void setAttribute(String attributeName, Object attributeValue) {
+            writable().setAttribute(attributeName, attributeValue);
+        }
+
+        @Override
+        public void removeAttribute(String attributeName) {
+            writable().removeAttribute(attributeName);
+        }
+
+        @Override
+        public Instant getCreationTime() {
+            return current().getCreationTime();
+        }
+
+        @Override
+        public void setLastAccessedTime(Instant lastAccessedTime) {
+            current().setLastAccessedTime(lastAccessedTime);
+        }
+
+        @Override
+        public Instant getLastAccessedTime() {
+            return current().getLastAccessedTime();
+        }
+
+        @Override
+        public void setMaxInactiveInterval(Duration interval) {
+            writable().setMaxInactiveInterval(interval);
+        }
+
+        @Override
+        public Duration getMaxInactiveInterval() {
+            return current().getMaxInactiveInterval();
+        }
+
+        @Override
+        public boolean isExpired() {
+            return current().isExpired();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package agilementor.member.client;
+
+import agilementor.common.exception.ExternalServerErrorException;
+import agilementor.member.dto.GoogleJwkSetResponse;
+import agilementor.member.properties.GoogleIdTokenProperties;
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.util.Base64;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+
+// 구글 id 토큰 서명 검증에 쓰는 RSA 공개키 목록(JWKS)을 받아옴
+@Component
+public class GoogleJwkSetClient {
+
+    private final GoogleIdTokenProperties properties;
+    private final RestClient restClient;
+
+    public GoogleJwkSetClient(GoogleIdTokenProperties properties, RestClient oauthRestClient) {
+        this.properties = properties;
+        this.restClient = oauthRestClient;
+    }
+
+    // kid별 공개키
+    public Map<String, RSAPublicKey> fetchKeys() {
+        GoogleJwkSetResponse response;
+        try {
+            response = restClient.get()
+                .uri(properties.jwkSetUri())
+                .retrieve()
+                .onStatus(HttpStatusCode::isError, (request, clientResponse) -> {
+                    throw new ExternalServerErrorException();
+                })
+                .body(GoogleJwkSetResponse.class);
+        } catch (ResourceAccessException e) {
+            throw new ExternalServerErrorException();
+        }
+
+        if (response == null || response.keys() == null) {
+            throw new ExternalServerErrorException();
+        }
+
+        return response.keys().stream()
+            .filter(key -> "RSA".equals(key.kty()) && key.kid() != null)
+            .collect(Collectors.toUnmodifiableMap(GoogleJwkSetResponse.Key::kid,
+                this::toPublicKey, (first, second) -> second));
+    }
+
+    private RSAPublicKey toPublicKey(GoogleJwkSetResponse.Key key) {
+        Base64.Decoder decoder = Base64.getUrlDecoder();
+        RSAPublicKeySpec spec = new RSAPublicKeySpec(
+            new BigInteger(1, decoder.decode(key.n())),
+            new BigInteger(1, decoder.decode(key.e())));
+
+        try {
+            return (RSAPublicKey) KeyFactory.getInstance("RSA").generatePublic(spec);
+        } catch (GeneralSecurityException e) {
+            throw new ExternalServerErrorException();
+        }
+    }
+}
@@ -2,7 +2,12 @@ package agilementor.member.controller;
 
 import agilementor.member.service.AuthClientService;
 import agilementor.member.service.MemberService;
+import agilementor.member.util.LoginTokenProvider;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
+import java.util.Optional;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -14,10 +19,14 @@ public class AuthController {
 
     private final AuthClientService authClientService;
     private final MemberService memberService;
+    private final LoginTokenProvider loginTokenProvider;
 
-    public AuthController(AuthClientService authClientService, MemberService memberService) {
+    // 로그인 토큰(auth.token.enabled)을 사용하지 않으면 loginTokenProvider는 null
+    public AuthController(AuthClientService authClientService, MemberService memberService,
+        Optional<LoginTokenProvider> loginTokenProvider) {
         this.authClientService = authClientService;
         this.memberService = memberService;
+        this.loginTokenProvider = loginTokenProvider.orElse(null);
     }
 
     @GetMapping("/login")
@@ -27,7 +36,7 @@ public class AuthController {
 
     @GetMapping("/login/code/google")
     public String getGoogleAuthCode(@RequestParam(name = "code") String code,
-        HttpSession httpSession) {
+        HttpServletRequest request, HttpServletResponse response) {
         String idToken;
 
         try {
@@ -38,14 +47,29 @@ public class AuthController {
         }
 
         Long memberId = memberService.registerOrUpdateMember(idToken);
-        httpSession.setAttribute("memberId", memberId);
+
+        // 로그인 토큰을 사용하면 세션을 만들지 않고 토큰을 쿠키로 발급
+        if (loginTokenProvider != null) {
+            response.addHeader(HttpHeaders.SET_COOKIE,
+                loginTokenProvider.createCookie(memberId).toString());
+        } else {
+            request.getSession().setAttribute("memberId", memberId);
+        }
 
         return "redirect:https://www.agilementor.kr/dashboard";
     }
 
     @GetMapping("/logout")
-    public String logout(HttpSession httpSession) {
-        httpSession.invalidate();
+    public String logout(HttpServletRequest request, HttpServletResponse response) {
+        HttpSession httpSession = request.getSession(false);
+        if (httpSession != null) {
+            httpSession.invalidate();
+        }
+        if (loginTokenProvider != null) {
+            response.addHeader(HttpHeaders.SET_COOKIE,
+                loginTokenProvider.createExpiredCookie().toString());
+        }
+
         return "redirect:https://www.agilementor.kr/";
     }
 }
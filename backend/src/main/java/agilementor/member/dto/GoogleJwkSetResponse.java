@@ -0,0 +1,18 @@
+package agilementor.member.dto;
+
+import java.util.List;
+
+public record GoogleJwkSetResponse(
+    List<Key> keys
+) {
+
+    // n, e: base64url로 인코딩한 RSA 공개키의 modulus, exponent
+    public record Key(
+        String kid,
+        String kty,
+        String n,
+        String e
+    ) {
+
+    }
+}
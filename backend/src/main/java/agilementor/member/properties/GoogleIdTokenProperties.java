@@ -0,0 +1,26 @@
+package agilementor.member.properties;
+
+import java.time.Duration;
+import java.util.Set;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+// jwkSetUri: id 토큰 서명을 검증할 구글 공개키(JWKS) 주소
+// issuers: 허용하는 발급자(iss)
+// refreshAfter: 공개키를 받은 뒤 이 시간이 지나면 다음 로그인 때 기존 키로 검증하면서 백그라운드에서 새로 받음
+// ttl: 새로 받지 못한 공개키를 더 이상 사용하지 않는 시간
+// minRefreshInterval: 캐시에 없는 kid(키 교체)의 토큰이 왔을 때 공개키를 다시 받는 최소 간격
+// leeway: 만료 시간(exp), 발급 시간(iat) 확인 시 허용하는 서버 간 시계 오차
+// preload: 애플리케이션 시작 시 공개키를 미리 받아 첫 로그인에서 키를 받지 않도록 함
+@ConfigurationProperties(prefix = "oauth2.provider.google.id-token")
+public record GoogleIdTokenProperties(
+    @DefaultValue("https://www.googleapis.com/oauth2/v3/certs") String jwkSetUri,
+    @DefaultValue({"https://accounts.google.com", "accounts.google.com"}) Set<String> issuers,
+    @DefaultValue("1h") Duration refreshAfter,
+    @DefaultValue("24h") Duration ttl,
+    @DefaultValue("1m") Duration minRefreshInterval,
+    @DefaultValue("60s") Duration leeway,
+    @DefaultValue("true") boolean preload
+) {
+
+}
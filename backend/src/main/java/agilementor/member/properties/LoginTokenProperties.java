@@ -0,0 +1,17 @@
+package agilementor.member.properties;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+// enabled: 로그인 시 세션 대신 서명된 로그인 토큰을 쿠키로 발급
+// secret: 토큰 서명(HMAC-SHA256) 키, 모든 인스턴스가 같은 값을 사용해야 하며 32바이트 이상
+// ttl: 토큰 유효 시간 (토큰은 서버에서 폐기할 수 없으므로 로그아웃 후에도 이 시간까지는 유효)
+@ConfigurationProperties(prefix = "auth.token")
+public record LoginTokenProperties(
+    @DefaultValue("false") boolean enabled,
+    String secret,
+    @DefaultValue("1h") Duration ttl
+) {
+
+}
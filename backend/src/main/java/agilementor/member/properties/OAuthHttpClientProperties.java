@@ -0,0 +1,21 @@
+package agilementor.member.properties;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+// maxConnections: 구글 OAuth 서버와 동시에 맺는 최대 연결 수
+// connectTimeout: 연결(TCP, TLS) 제한 시간, responseTimeout: 응답 데이터 사이의 최대 대기 시간
+// connectionRequestTimeout: 풀의 연결이 모두 사용 중일 때 연결을 기다리는 시간
+// idleTimeout: 사용하지 않는 연결을 닫는 시간, timeToLive: 연결을 재사용하는 최대 시간 (DNS 변경 반영)
+@ConfigurationProperties(prefix = "oauth2.http-client")
+public record OAuthHttpClientProperties(
+    @DefaultValue("50") int maxConnections,
+    @DefaultValue("2s") Duration connectTimeout,
+    @DefaultValue("1s") Duration connectionRequestTimeout,
+    @DefaultValue("5s") Duration responseTimeout,
+    @DefaultValue("1m") Duration idleTimeout,
+    @DefaultValue("10m") Duration timeToLive
+) {
+
+}
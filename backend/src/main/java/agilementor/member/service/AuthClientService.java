@@ -2,17 +2,21 @@ package agilementor.member.service;
 
 import static org.springframework.http.MediaType.APPLICATION_FORM_URLENCODED;
 
+import agilementor.common.config.MetricsConfig;
 import agilementor.common.exception.ExternalServerErrorException;
 import agilementor.common.exception.SocialLoginFailException;
 import agilementor.member.dto.GoogleTokenResponse;
 import agilementor.member.properties.GoogleClientProperties;
 import agilementor.member.properties.GoogleProviderProperties;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClient;
 
+@Timed(MetricsConfig.SERVICE_TIMER)
 @Service
 public class AuthClientService {
 
@@ -21,10 +25,10 @@ public class AuthClientService {
     private final RestClient restClient;
 
     public AuthClientService(GoogleClientProperties clientProperties,
-        GoogleProviderProperties providerProperties, RestClient.Builder restClientBuilder) {
+        GoogleProviderProperties providerProperties, RestClient oauthRestClient) {
         this.clientProperties = clientProperties;
         this.providerProperties = providerProperties;
-        restClient = restClientBuilder.build();
+        restClient = oauthRestClient;
     }
 
     public String getAuthUrl() {
@@ -45,20 +49,25 @@ public class AuthClientService {
         body.add("redirect_uri", clientProperties.redirectUri());
         body.add("grant_type", "authorization_code");
 
-        return restClient.post()
-            .uri(providerProperties.tokenUri())
-            .contentType(APPLICATION_FORM_URLENCODED)
-            .body(body)
-            .retrieve()
-            .onStatus(HttpStatusCode::is4xxClientError, (request, response) -> {
-                throw new SocialLoginFailException();
-            })
-            .onStatus(HttpStatusCode::is5xxServerError, (request, response) -> {
-                throw new ExternalServerErrorException();
-            })
-            .toEntity(GoogleTokenResponse.class)
-            .getBody()
-            .idToken();
+        // 연결/응답 제한 시간 초과, 연결 풀 대기 시간 초과도 구글 서버 오류로 응답
+        try {
+            return restClient.post()
+                .uri(providerProperties.tokenUri())
+                .contentType(APPLICATION_FORM_URLENCODED)
+                .body(body)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, (request, response) -> {
+                    throw new SocialLoginFailException();
+                })
+                .onStatus(HttpStatusCode::is5xxServerError, (request, response) -> {
+                    throw new ExternalServerErrorException();
+                })
+                .toEntity(GoogleTokenResponse.class)
+                .getBody()
+                .idToken();
+        } catch (ResourceAccessException e) {
+            throw new ExternalServerErrorException();
+        }
     }
 
 }
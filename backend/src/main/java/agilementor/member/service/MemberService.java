@@ -1,14 +1,17 @@
 package agilementor.member.service;
 
+import agilementor.common.config.MetricsConfig;
 import agilementor.common.exception.MemberNotFoundException;
 import agilementor.member.dto.ParsedIdToken;
 import agilementor.member.dto.response.MemberGetResponse;
 import agilementor.member.entity.Member;
 import agilementor.member.repository.MemberRepository;
 import agilementor.member.util.JwtParser;
+import io.micrometer.core.annotation.Timed;
 import jakarta.transaction.Transactional;
 import org.springframework.stereotype.Service;
 
+@Timed(MetricsConfig.SERVICE_TIMER)
 @Service
 @Transactional
 public class MemberService {
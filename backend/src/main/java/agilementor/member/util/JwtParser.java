@@ -1,28 +1,126 @@
 package agilementor.member.util;
 
 
+import agilementor.common.exception.ExternalServerErrorException;
+import agilementor.common.exception.SocialLoginFailException;
+import agilementor.member.client.GoogleJwkSetClient;
 import agilementor.member.dto.ParsedIdToken;
+import agilementor.member.properties.GoogleClientProperties;
+import agilementor.member.properties.GoogleIdTokenProperties;
 import com.auth0.jwt.JWT;
-import com.auth0.jwt.interfaces.Claim;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.interfaces.DecodedJWT;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
+// 구글 id 토큰의 서명(RS256), 발급자, 대상(client id), 만료 시간을 검증하고 사용자 정보를 꺼냄
+// 공개키마다 만든 JWTVerifier를 kid별로 캐시하고, refreshAfter가 지나면 기존 키로 검증하면서
+// 백그라운드에서 새로 받아 로그인 요청이 공개키를 받는 시간을 기다리지 않도록 함
+// (시작 직후 미리 받지 못했거나, 구글이 키를 교체하여 모르는 kid가 왔을 때만 요청 중에 받음)
 @Component
 public class JwtParser {
 
-    public Map<String, Claim> parseClaims(String token) {
-        DecodedJWT decodedJWT = JWT.decode(token);
-        return decodedJWT.getClaims();
+    private static final String JWKS = "jwks";
+
+    private final GoogleJwkSetClient jwkSetClient;
+    private final GoogleIdTokenProperties properties;
+    private final String clientId;
+    private final LoadingCache<String, Verifiers> verifiers;
+
+    public JwtParser(GoogleJwkSetClient jwkSetClient, GoogleIdTokenProperties properties,
+        GoogleClientProperties clientProperties) {
+        this.jwkSetClient = jwkSetClient;
+        this.properties = properties;
+        this.clientId = clientProperties.clientId();
+        this.verifiers = Caffeine.newBuilder()
+            .refreshAfterWrite(properties.refreshAfter())
+            .expireAfterWrite(properties.ttl())
+            .build(key -> load());
+    }
+
+    // 실패해도 첫 로그인 때 다시 받으므로 시작을 막지 않음
+    @EventListener(ApplicationReadyEvent.class)
+    public void preloadKeys() {
+        if (properties.preload()) {
+            verifiers.refresh(JWKS);
+        }
     }
 
     public ParsedIdToken parseIdToken(String token) {
-        Map<String, Claim> claims = parseClaims(token);
-        String email = claims.get("email").asString();
-        String name = claims.get("name").asString();
-        String picture = claims.get("picture").asString();
+        DecodedJWT idToken = verify(token);
+        String email = idToken.getClaim("email").asString();
+        String name = idToken.getClaim("name").asString();
+        String picture = idToken.getClaim("picture").asString();
 
         return new ParsedIdToken(email, name, picture);
     }
 
+    private DecodedJWT verify(String token) {
+        try {
+            DecodedJWT unverified = JWT.decode(token);
+            return findVerifier(unverified.getKeyId()).verify(unverified);
+        } catch (JWTVerificationException e) {
+            throw new SocialLoginFailException();
+        }
+    }
+
+    private JWTVerifier findVerifier(String keyId) {
+        if (keyId == null) {
+            throw new SocialLoginFailException();
+        }
+
+        Verifiers current = verifiers.get(JWKS);
+        JWTVerifier verifier = current.byKeyId().get(keyId);
+
+        // 구글이 키를 교체한 직후일 수 있으므로 다시 받음
+        // 임의의 kid로 요청을 반복해도 구글 서버를 계속 호출하지 않도록 최소 간격을 둠
+        if (verifier == null && current.loadedBefore(properties.minRefreshInterval())) {
+            try {
+                current = verifiers.refresh(JWKS).join();
+            } catch (CompletionException e) {
+                throw new ExternalServerErrorException();
+            }
+            verifier = current.byKeyId().get(keyId);
+        }
+
+        if (verifier == null) {
+            throw new SocialLoginFailException();
+        }
+        return verifier;
+    }
+
+    private Verifiers load() {
+        Map<String, JWTVerifier> byKeyId = jwkSetClient.fetchKeys().entrySet().stream()
+            .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey,
+                entry -> createVerifier(entry.getValue())));
+
+        return new Verifiers(byKeyId, Instant.now());
+    }
+
+    private JWTVerifier createVerifier(RSAPublicKey publicKey) {
+        return JWT.require(Algorithm.RSA256(publicKey, null))
+            .withIssuer(properties.issuers().toArray(String[]::new))
+            .withAudience(clientId)
+            .withClaimPresence("exp")
+            .acceptLeeway(properties.leeway().toSeconds())
+            .build();
+    }
+
+    private record Verifiers(Map<String, JWTVerifier> byKeyId, Instant loadedAt) {
+
+        boolean loadedBefore(Duration interval) {
+            return !loadedAt.plus(interval).isAfter(Instant.now());
+        }
+    }
 }
@@ -0,0 +1,81 @@
+package agilementor.member.util;
+
+import agilementor.member.properties.LoginTokenProperties;
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+
+// 세션 저장소 없이 로그인 상태를 확인하도록 회원 ID를 담은 서명된 토큰(JWT, HS256)을 발급하고 검증
+// 서명 키와 검증기는 한 번만 만들어 재사용 (JWTVerifier는 스레드 안전)
+@Component
+@ConditionalOnProperty(prefix = "auth.token", name = "enabled", havingValue = "true")
+public class LoginTokenProvider {
+
+    public static final String COOKIE_NAME = "LOGIN_TOKEN";
+    private static final String ISSUER = "agilementor";
+    private static final int MIN_SECRET_BYTES = 32;
+
+    private final Algorithm algorithm;
+    private final JWTVerifier verifier;
+    private final Duration ttl;
+
+    public LoginTokenProvider(LoginTokenProperties properties) {
+        String secret = properties.secret();
+        if (secret == null || secret.getBytes(StandardCharsets.UTF_8).length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("auth.token.secret은 32바이트 이상이어야 합니다.");
+        }
+
+        this.algorithm = Algorithm.HMAC256(secret);
+        this.verifier = JWT.require(algorithm)
+            .withIssuer(ISSUER)
+            .build();
+        this.ttl = properties.ttl();
+    }
+
+    public String issue(Long memberId) {
+        Instant now = Instant.now();
+
+        return JWT.create()
+            .withIssuer(ISSUER)
+            .withSubject(String.valueOf(memberId))
+            .withIssuedAt(now)
+            .withExpiresAt(now.plus(ttl))
+            .sign(algorithm);
+    }
+
+    // 서명, 발급자, 만료 시간을 확인하고 회원 ID를 반환 (유효하지 않으면 빈 값)
+    public Optional<Long> verify(String token) {
+        try {
+            return Optional.of(Long.valueOf(verifier.verify(token).getSubject()));
+        } catch (JWTVerificationException | NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    // 세션 쿠키와 같은 속성(secure, SameSite=None)으로 전송하고, 스크립트에서는 읽을 수 없도록 함
+    public ResponseCookie createCookie(Long memberId) {
+        return cookie(issue(memberId), ttl);
+    }
+
+    public ResponseCookie createExpiredCookie() {
+        return cookie("", Duration.ZERO);
+    }
+
+    private ResponseCookie cookie(String value, Duration maxAge) {
+        return ResponseCookie.from(COOKIE_NAME, value)
+            .path("/")
+            .httpOnly(true)
+            .secure(true)
+            .sameSite("None")
+            .maxAge(maxAge)
+            .build();
+    }
+}
@@ -0,0 +1,23 @@
+package agilementor.project.dto;
+
+import agilementor.member.entity.Member;
+import agilementor.project.entity.Project;
+import agilementor.project.entity.ProjectMember;
+
+// 프로젝트 멤버 권한 확인 결과
+// project, member는 조회한 엔티티이거나 현재 영속성 컨텍스트의 지연 로딩 참조
+public record ProjectMembership(
+    Project project,
+    Member member,
+    boolean admin
+) {
+
+    public static ProjectMembership from(ProjectMember projectMember) {
+        return new ProjectMembership(projectMember.getProject(), projectMember.getMember(),
+            projectMember.isAdmin());
+    }
+
+    public boolean isNotAdmin() {
+        return !admin;
+    }
+}
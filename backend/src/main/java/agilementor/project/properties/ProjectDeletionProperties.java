@@ -0,0 +1,11 @@
+package agilementor.project.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+// chunkSize가 0 이하이면 프로젝트의 모든 데이터를 하나의 트랜잭션에서 삭제
+@ConfigurationProperties(prefix = "project.deletion")
+public record ProjectDeletionProperties(
+    int chunkSize
+) {
+
+}
@@ -0,0 +1,16 @@
+package agilementor.project.properties;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+// maxSize: 캐시에 보관할 (회원, 프로젝트) 멤버십 수
+// ttl: 저장 후 멤버십을 보관하는 시간, 다른 서버에서 변경된 멤버십이 반영되기까지의 최대 시간
+// (캐시 제거는 서버마다 따로 하므로 추방된 멤버가 다른 서버에서 접근할 수 있는 시간이기도 하여 세션 캐시처럼 짧게 유지)
+@ConfigurationProperties(prefix = "project.membership-cache")
+public record ProjectMembershipCacheProperties(
+    @DefaultValue("10000") long maxSize,
+    @DefaultValue("10s") Duration ttl
+) {
+
+}
@@ -5,6 +5,7 @@ import agilementor.project.entity.Invitation;
 import agilementor.project.entity.Project;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -14,4 +15,8 @@ public interface InvitationRepository extends JpaRepository<Invitation, Long> {
 
     @Query("SELECT DISTINCT i FROM Invitation i JOIN FETCH i.project JOIN FETCH i.invitor WHERE i.invitee.memberId = :memberId")
     List<Invitation> findByInviteeId(@Param("memberId") Long memberId);
+
+    @Modifying
+    @Query("DELETE FROM Invitation i WHERE i.project.projectId = :projectId")
+    int deleteAllByProjectId(@Param("projectId") Long projectId);
 }
@@ -1,10 +1,10 @@
 package agilementor.project.repository;
 
-import agilementor.project.entity.Project;
 import agilementor.project.entity.ProjectMember;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -20,5 +20,7 @@ public interface ProjectMemberRepository extends JpaRepository<ProjectMember, Lo
     Optional<ProjectMember> findByMemberIdAndProjectId(@Param("memberId") Long memberId,
         @Param("projectId") Long projectId);
 
-    void deleteAllByProject(Project project);
+    @Modifying
+    @Query("DELETE FROM ProjectMember pm WHERE pm.project.projectId = :projectId")
+    int deleteAllByProjectId(@Param("projectId") Long projectId);
 }
@@ -1,26 +1,32 @@
 package agilementor.project.service;
 
+import agilementor.common.config.MetricsConfig;
 import agilementor.common.exception.InvalidInvitationException;
 import agilementor.project.dto.response.InvitationGetResponse;
 import agilementor.project.entity.Invitation;
 import agilementor.project.entity.ProjectMember;
 import agilementor.project.repository.InvitationRepository;
 import agilementor.project.repository.ProjectMemberRepository;
+import io.micrometer.core.annotation.Timed;
 import jakarta.transaction.Transactional;
 import java.util.List;
 import org.springframework.stereotype.Service;
 
+@Timed(MetricsConfig.SERVICE_TIMER)
 @Service
 @Transactional
 public class InvitationService {
 
     private final InvitationRepository invitationRepository;
     private final ProjectMemberRepository projectMemberRepository;
+    private final ProjectMembershipCache projectMembershipCache;
 
     public InvitationService(InvitationRepository invitationRepository,
-        ProjectMemberRepository projectMemberRepository) {
+        ProjectMemberRepository projectMemberRepository,
+        ProjectMembershipCache projectMembershipCache) {
         this.invitationRepository = invitationRepository;
         this.projectMemberRepository = projectMemberRepository;
+        this.projectMembershipCache = projectMembershipCache;
     }
 
     public List<InvitationGetResponse> getInvitationList(Long memberId) {
@@ -43,6 +49,7 @@ public class InvitationService {
             new ProjectMember(invitation.getProject(), invitation.getInvitee(), false));
 
         invitationRepository.delete(invitation);
+        projectMembershipCache.evict(memberId, invitation.getProject().getProjectId());
     }
 
     public void declineInvitation(Long memberId, Long invitationId) {
@@ -0,0 +1,85 @@
+package agilementor.project.service;
+
+import agilementor.backlog.repository.BacklogRepository;
+import agilementor.backlog.repository.StoryRepository;
+import agilementor.chatgpt.repository.GPTJobRepository;
+import agilementor.common.config.MetricsConfig;
+import agilementor.project.properties.ProjectDeletionProperties;
+import agilementor.project.repository.InvitationRepository;
+import agilementor.project.repository.ProjectMemberRepository;
+import agilementor.project.repository.ProjectRespository;
+import agilementor.sprint.repository.BurndownSnapshotRepository;
+import agilementor.sprint.repository.SprintRepository;
+import io.micrometer.core.annotation.Timed;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 프로젝트와 프로젝트에 속한 데이터를 엔티티 조회 없이 벌크 DELETE로 삭제
+// 트랜잭션 범위를 직접 관리하므로 @Transactional을 붙이지 않는다.
+@Timed(MetricsConfig.SERVICE_TIMER)
+@Service
+public class ProjectDeletionService {
+
+    private final ProjectRespository projectRespository;
+    private final ProjectMemberRepository projectMemberRepository;
+    private final InvitationRepository invitationRepository;
+    private final BacklogRepository backlogRepository;
+    private final StoryRepository storyRepository;
+    private final SprintRepository sprintRepository;
+    private final BurndownSnapshotRepository burndownSnapshotRepository;
+    private final GPTJobRepository gptJobRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public ProjectDeletionService(ProjectRespository projectRespository,
+        ProjectMemberRepository projectMemberRepository, InvitationRepository invitationRepository,
+        BacklogRepository backlogRepository, StoryRepository storyRepository,
+        SprintRepository sprintRepository, BurndownSnapshotRepository burndownSnapshotRepository,
+        GPTJobRepository gptJobRepository, PlatformTransactionManager transactionManager, ProjectDeletionProperties properties) {
+        this.projectRespository = projectRespository;
+        this.projectMemberRepository = projectMemberRepository;
+        this.invitationRepository = invitationRepository;
+        this.backlogRepository = backlogRepository;
+        this.storyRepository = storyRepository;
+        this.sprintRepository = sprintRepository;
+        this.burndownSnapshotRepository = burndownSnapshotRepository;
+        this.gptJobRepository = gptJobRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = properties.chunkSize();
+    }
+
+    public void deleteProject(Long projectId) {
+
+        // 백로그는 수가 많을 수 있으므로 chunk 단위로 나누어 각각의 트랜잭션에서 삭제
+        if (chunkSize > 0) {
+            deleteBacklogsInChunks(projectId);
+        }
+
+        // 외래 키 의존 순서대로 삭제
+        transactionTemplate.executeWithoutResult(status -> {
+            backlogRepository.deleteAllByProjectId(projectId);
+            storyRepository.deleteAllByProjectId(projectId);
+            burndownSnapshotRepository.deleteAllByProjectId(projectId);
+            sprintRepository.deleteAllByProjectId(projectId);
+            invitationRepository.deleteAllByProjectId(projectId);
+            projectMemberRepository.deleteAllByProjectId(projectId);
+            gptJobRepository.deleteAllByProjectId(projectId);
+            projectRespository.deleteAllByIdInBatch(List.of(projectId));
+        });
+    }
+
+    private void deleteBacklogsInChunks(Long projectId) {
+        int deletedCount;
+        do {
+            deletedCount = transactionTemplate.execute(status -> {
+                List<Long> backlogIds = backlogRepository.findIdsByProjectId(projectId,
+                    Limit.of(chunkSize));
+                backlogRepository.deleteAllByIdInBatch(backlogIds);
+                return backlogIds.size();
+            });
+        } while (deletedCount == chunkSize);
+    }
+}
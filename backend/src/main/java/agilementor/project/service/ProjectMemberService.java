@@ -2,6 +2,7 @@ package agilementor.project.service;
 
 import agilementor.backlog.entity.Backlog;
 import agilementor.backlog.repository.BacklogRepository;
+import agilementor.common.config.MetricsConfig;
 import agilementor.common.exception.AlreadyJoinedMemberException;
 import agilementor.common.exception.KickOneselfException;
 import agilementor.common.exception.MemberNotFoundException;
@@ -17,11 +18,13 @@ import agilementor.project.entity.ProjectMember;
 import agilementor.project.repository.InvitationRepository;
 import agilementor.project.repository.ProjectMemberRepository;
 import agilementor.project.repository.ProjectRespository;
+import io.micrometer.core.annotation.Timed;
 import jakarta.transaction.Transactional;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.stereotype.Service;
 
+@Timed(MetricsConfig.SERVICE_TIMER)
 @Service
 @Transactional
 public class ProjectMemberService {
@@ -31,15 +34,18 @@ public class ProjectMemberService {
     private final ProjectMemberRepository projectMemberRepository;
     private final InvitationRepository invitationRepository;
     private final BacklogRepository backlogRepository;
+    private final ProjectMembershipCache projectMembershipCache;
 
     public ProjectMemberService(MemberRepository memberRepository,
         ProjectRespository projectRespository, ProjectMemberRepository projectMemberRepository,
-        InvitationRepository invitationRepository, BacklogRepository backlogRepository) {
+        InvitationRepository invitationRepository, BacklogRepository backlogRepository,
+        ProjectMembershipCache projectMembershipCache) {
         this.memberRepository = memberRepository;
         this.projectRespository = projectRespository;
         this.projectMemberRepository = projectMemberRepository;
         this.invitationRepository = invitationRepository;
         this.backlogRepository = backlogRepository;
+        this.projectMembershipCache = projectMembershipCache;
     }
 
     public List<ProejctMemberResponse> getProjectMemberList(Long memberId, Long projectId) {
@@ -86,6 +92,7 @@ public class ProjectMemberService {
             .forEach(Backlog::deleteAssignee);
 
         projectMemberRepository.delete(targetProjectMember);
+        projectMembershipCache.evict(targetMemberId, projectId);
     }
 
     public void inviteMember(Long loginMemberId, Long projectId,
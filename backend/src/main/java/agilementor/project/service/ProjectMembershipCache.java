@@ -0,0 +1,86 @@
+package agilementor.project.service;
+
+import agilementor.member.entity.Member;
+import agilementor.project.dto.ProjectMembership;
+import agilementor.project.entity.Project;
+import agilementor.project.entity.ProjectMember;
+import agilementor.project.properties.ProjectMembershipCacheProperties;
+import agilementor.project.repository.ProjectMemberRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.persistence.EntityManager;
+import java.util.Optional;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// (회원 ID, 프로젝트 ID)를 키로 프로젝트 멤버 여부와 관리자 여부를 보관하는 캐시
+// 엔티티는 트랜잭션 사이에 공유하지 않도록 관리자 여부만 보관하고,
+// 캐시에 있으면 쿼리 없이 프로젝트와 회원의 참조(프록시)를 반환
+// 참조는 리포지토리의 읽기 트랜잭션이 DB 커넥션을 가져가지 않도록 EntityManager에서 얻음
+// (OSIV에서는 가져간 커넥션을 요청이 끝날 때까지 붙잡아 OpenAI 응답 대기 중 커넥션 풀이 고갈됨)
+@Component
+public class ProjectMembershipCache {
+
+    private final Cache<Key, Boolean> cache;
+    private final ProjectMemberRepository projectMemberRepository;
+    private final EntityManager entityManager;
+
+    public ProjectMembershipCache(ProjectMembershipCacheProperties properties,
+        ProjectMemberRepository projectMemberRepository, EntityManager entityManager) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(properties.maxSize())
+            .expireAfterWrite(properties.ttl())
+            .build();
+        this.projectMemberRepository = projectMemberRepository;
+        this.entityManager = entityManager;
+    }
+
+    public Optional<ProjectMembership> find(Long memberId, Long projectId) {
+        Key key = new Key(memberId, projectId);
+
+        Boolean admin = cache.getIfPresent(key);
+        if (admin != null) {
+            return Optional.of(new ProjectMembership(
+                entityManager.getReference(Project.class, projectId),
+                entityManager.getReference(Member.class, memberId), admin));
+        }
+
+        // 멤버가 아닌 경우는 캐시하지 않으므로 초대 수락 즉시 멤버로 확인됨
+        Optional<ProjectMember> projectMember = projectMemberRepository
+            .findByMemberIdAndProjectId(memberId, projectId);
+        projectMember.ifPresent(found -> cache.put(key, found.isAdmin()));
+        return projectMember.map(ProjectMembership::from);
+    }
+
+    // 멤버십이 추가, 삭제되면 호출
+    public void evict(Long memberId, Long projectId) {
+        Key key = new Key(memberId, projectId);
+        evictNowAndAfterCommit(() -> cache.invalidate(key));
+    }
+
+    // 프로젝트가 삭제되면 호출
+    public void evictProject(Long projectId) {
+        evictNowAndAfterCommit(() -> cache.asMap().keySet()
+            .removeIf(key -> key.projectId().equals(projectId)));
+    }
+
+    // 커밋 전에 다른 요청이 변경 전 멤버십을 다시 캐시할 수 있으므로 커밋 후 한 번 더 제거
+    private void evictNowAndAfterCommit(Runnable eviction) {
+        eviction.run();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        eviction.run();
+                    }
+                });
+        }
+    }
+
+    private record Key(Long memberId, Long projectId) {
+
+    }
+}
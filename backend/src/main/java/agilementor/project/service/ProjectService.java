@@ -2,12 +2,13 @@ package agilementor.project.service;
 
 import agilementor.backlog.entity.Backlog;
 import agilementor.backlog.repository.BacklogRepository;
-import agilementor.backlog.repository.StoryRepository;
+import agilementor.common.config.MetricsConfig;
 import agilementor.common.exception.MemberNotFoundException;
 import agilementor.common.exception.NotProjectAdminException;
 import agilementor.common.exception.ProjectNotFoundException;
 import agilementor.member.entity.Member;
 import agilementor.member.repository.MemberRepository;
+import agilementor.project.dto.ProjectMembership;
 import agilementor.project.dto.request.ProjectCreateRequest;
 import agilementor.project.dto.request.ProjectUpdateRequest;
 import agilementor.project.dto.response.ProjectResponse;
@@ -15,11 +16,13 @@ import agilementor.project.entity.Project;
 import agilementor.project.entity.ProjectMember;
 import agilementor.project.repository.ProjectMemberRepository;
 import agilementor.project.repository.ProjectRespository;
-import agilementor.sprint.repository.SprintRepository;
+import io.micrometer.core.annotation.Timed;
 import jakarta.transaction.Transactional;
+import jakarta.transaction.Transactional.TxType;
 import java.util.List;
 import org.springframework.stereotype.Service;
 
+@Timed(MetricsConfig.SERVICE_TIMER)
 @Service
 @Transactional
 public class ProjectService {
@@ -28,18 +31,19 @@ public class ProjectService {
     private final ProjectRespository projectRespository;
     private final ProjectMemberRepository projectMemberRepository;
     private final BacklogRepository backlogRepository;
-    private final StoryRepository storyRepository;
-    private final SprintRepository sprintRepository;
+    private final ProjectDeletionService projectDeletionService;
+    private final ProjectMembershipCache projectMembershipCache;
 
     public ProjectService(MemberRepository memberRepository, ProjectRespository projectRespository,
         ProjectMemberRepository projectMemberRepository, BacklogRepository backlogRepository,
-        StoryRepository storyRepository, SprintRepository sprintRepository) {
+        ProjectDeletionService projectDeletionService,
+        ProjectMembershipCache projectMembershipCache) {
         this.memberRepository = memberRepository;
         this.projectRespository = projectRespository;
         this.projectMemberRepository = projectMemberRepository;
         this.backlogRepository = backlogRepository;
-        this.storyRepository = storyRepository;
-        this.sprintRepository = sprintRepository;
+        this.projectDeletionService = projectDeletionService;
+        this.projectMembershipCache = projectMembershipCache;
     }
 
     public ProjectResponse createProject(Long memberId, ProjectCreateRequest projectCreateRequest) {
@@ -62,46 +66,45 @@ public class ProjectService {
 
     public ProjectResponse getProject(Long memberId, Long projectId) {
 
-        ProjectMember projectMember = getProjectMember(memberId, projectId);
+        ProjectMembership projectMembership = getProjectMembership(memberId, projectId);
 
-        return ProjectResponse.from(projectMember.getProject());
+        return ProjectResponse.from(projectMembership.project());
     }
 
     public ProjectResponse updateProject(Long memberId, Long projectId,
         ProjectUpdateRequest projectUpdateRequest) {
 
-        ProjectMember projectMember = getProjectMember(memberId, projectId);
+        ProjectMembership projectMembership = getVerifiedProjectMembership(memberId, projectId);
 
-        if (projectMember.isNotAdmin()) {
+        if (projectMembership.isNotAdmin()) {
             throw new NotProjectAdminException();
         }
 
-        Project project = projectMember.getProject();
+        Project project = projectMembership.project();
         project.update(projectUpdateRequest.title());
         return ProjectResponse.from(project);
     }
 
+    // 삭제는 ProjectDeletionService가 트랜잭션 범위를 직접 관리
+    @Transactional(TxType.NOT_SUPPORTED)
     public void deleteProject(Long memberId, Long projectId) {
 
-        ProjectMember projectMember = getProjectMember(memberId, projectId);
+        ProjectMembership projectMembership = getVerifiedProjectMembership(memberId, projectId);
 
-        if (projectMember.isNotAdmin()) {
+        if (projectMembership.isNotAdmin()) {
             throw new NotProjectAdminException();
         }
 
-        Project project = projectMember.getProject();
-
-        backlogRepository.deleteByProject(project);
-        storyRepository.deleteByProject(project);
-        sprintRepository.deleteByProject(project);
-
-        projectMemberRepository.deleteAllByProject(project);
-        projectRespository.delete(project);
+        projectDeletionService.deleteProject(projectId);
+        projectMembershipCache.evictProject(projectId);
     }
 
     public void leaveProject(Long memberId, Long projectId) {
 
-        ProjectMember projectMember = getProjectMember(memberId, projectId);
+        // 멤버십을 삭제해야 하므로 캐시를 거치지 않고 조회
+        ProjectMember projectMember = projectMemberRepository
+            .findByMemberIdAndProjectId(memberId, projectId)
+            .orElseThrow(ProjectNotFoundException::new);
 
         Member member = projectMember.getMember();
         Project project = projectMember.getProject();
@@ -112,11 +115,18 @@ public class ProjectService {
             .forEach(Backlog::deleteAssignee);
 
         projectMemberRepository.delete(projectMember);
+        projectMembershipCache.evict(memberId, projectId);
     }
 
-    private ProjectMember getProjectMember(Long memberId, Long projectId) {
-        return projectMemberRepository
-            .findByMemberIdAndProjectId(memberId, projectId)
+    private ProjectMembership getProjectMembership(Long memberId, Long projectId) {
+        return projectMembershipCache.find(memberId, projectId)
+            .orElseThrow(ProjectNotFoundException::new);
+    }
+
+    // 관리자 작업은 다른 서버에서 변경된 멤버십을 캐시 만료 전에도 반영하도록 캐시를 거치지 않고 확인
+    private ProjectMembership getVerifiedProjectMembership(Long memberId, Long projectId) {
+        return projectMemberRepository.findByMemberIdAndProjectId(memberId, projectId)
+            .map(ProjectMembership::from)
             .orElseThrow(ProjectNotFoundException::new);
     }
 }
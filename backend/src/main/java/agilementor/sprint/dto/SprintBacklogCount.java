@@ -0,0 +1,15 @@
+package agilementor.sprint.dto;
+
+import agilementor.backlog.entity.Status;
+
+// 스프린트, 상태별 백로그 개수 집계 결과 (sprintId가 null이면 스프린트에 할당되지 않은 백로그)
+public record SprintBacklogCount(
+    Long sprintId,
+    Status status,
+    Long count
+) {
+
+    public boolean isDone() {
+        return status == Status.DONE;
+    }
+}
@@ -0,0 +1,73 @@
+package agilementor.sprint.entity;
+
+import agilementor.project.entity.Project;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
+
+// 완료된 스프린트의 번다운 차트 데이터 스냅샷
+@Entity
+@Table(name = "burndown_snapshot")
+public class BurndownSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "burndown_snapshot_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "project_id", nullable = false)
+    private Project project;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "sprint_id", nullable = false, unique = true)
+    private Sprint sprint;
+
+    // 해당 스프린트에서 완료된 백로그 수
+    @Column(name = "completed_backlogs", nullable = false)
+    private long completedBacklogs;
+
+    protected BurndownSnapshot() {
+    }
+
+    public BurndownSnapshot(Project project, Sprint sprint, long completedBacklogs) {
+        this.project = project;
+        this.sprint = sprint;
+        this.completedBacklogs = completedBacklogs;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Project getProject() {
+        return project;
+    }
+
+    public Sprint getSprint() {
+        return sprint;
+    }
+
+    public long getCompletedBacklogs() {
+        return completedBacklogs;
+    }
+
+    public void record(long completedBacklogs) {
+        this.completedBacklogs = completedBacklogs;
+    }
+
+    public void increaseCompletedBacklogs() {
+        this.completedBacklogs++;
+    }
+
+    public void decreaseCompletedBacklogs() {
+        this.completedBacklogs = Math.max(completedBacklogs - 1, 0);
+    }
+}
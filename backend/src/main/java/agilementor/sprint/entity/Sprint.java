@@ -6,12 +6,14 @@ import agilementor.sprint.dto.SprintResponse;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.time.LocalDate;
 import java.util.List;
@@ -21,11 +23,13 @@ import java.util.List;
 public class Sprint {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // JDBC 배치 INSERT가 가능하도록 IDENTITY 대신 시퀀스로 ID를 미리 할당
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sprint_seq")
+    @SequenceGenerator(name = "sprint_seq", sequenceName = "sprint_seq", allocationSize = 50)
     @Column(name = "sprint_id")
     private Long id;
 
-    @ManyToOne // Many Sprints can belong to one Project
+    @ManyToOne(fetch = FetchType.LAZY) // Many Sprints can belong to one Project
     @JoinColumn(name = "project_id", nullable = false)
     private Project project; // Project 객체로 연관관계 설정
 
@@ -0,0 +1,24 @@
+package agilementor.sprint.repository;
+
+import agilementor.project.entity.Project;
+import agilementor.sprint.entity.BurndownSnapshot;
+import agilementor.sprint.entity.Sprint;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface BurndownSnapshotRepository extends JpaRepository<BurndownSnapshot, Long> {
+
+    List<BurndownSnapshot> findByProject(Project project);
+
+    Optional<BurndownSnapshot> findBySprint(Sprint sprint);
+
+    void deleteBySprint(Sprint sprint);
+
+    @Modifying
+    @Query("DELETE FROM BurndownSnapshot b WHERE b.project.projectId = :projectId")
+    int deleteAllByProjectId(@Param("projectId") Long projectId);
+}
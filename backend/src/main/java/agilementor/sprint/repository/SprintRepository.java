@@ -5,6 +5,9 @@ import agilementor.sprint.entity.Sprint;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -26,6 +29,9 @@ public interface SprintRepository extends JpaRepository<Sprint, Long> {
 
     List<Sprint> findByProject_ProjectIdAndIsDoneTrueOrderByEndDateAsc(Long projectId);
 
-    void deleteByProject(Project project);
+    // 프로젝트의 스프린트를 한 번의 DELETE로 삭제 (백로그를 먼저 삭제해야 함)
+    @Modifying
+    @Query("DELETE FROM Sprint s WHERE s.project.projectId = :projectId")
+    int deleteAllByProjectId(@Param("projectId") Long projectId);
 
 }
@@ -1,48 +1,56 @@
 package agilementor.sprint.service;
 
-import agilementor.backlog.entity.Backlog;
 import agilementor.backlog.entity.Status;
 import agilementor.backlog.repository.BacklogRepository;
+import agilementor.common.config.MetricsConfig;
 import agilementor.common.exception.EndDateNullException;
 import agilementor.common.exception.ProjectNotFoundException;
 import agilementor.common.exception.SprintNotFoundException;
 import agilementor.common.exception.TitleNullException;
 import agilementor.project.entity.Project;
-import agilementor.project.repository.ProjectMemberRepository;
-import agilementor.project.repository.ProjectRespository;
+import agilementor.project.service.ProjectMembershipCache;
 import agilementor.sprint.dto.CompletedSprintData;
+import agilementor.sprint.dto.SprintBacklogCount;
 import agilementor.sprint.dto.SprintForm;
 import agilementor.sprint.dto.SprintResponse;
+import agilementor.sprint.entity.BurndownSnapshot;
 import agilementor.sprint.entity.Sprint;
+import agilementor.sprint.repository.BurndownSnapshotRepository;
 import agilementor.sprint.repository.SprintRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.transaction.Transactional;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
 
+@Timed(MetricsConfig.SERVICE_TIMER)
 @Service
+@Transactional
 public class SprintService {
 
     private final SprintRepository sprintRepository;
     private final BacklogRepository backlogRepository;
-    private final ProjectRespository projectRepository; // 추가: ProjectRepository
-    private final ProjectMemberRepository projectMemberRepository; // 추가
+    private final ProjectMembershipCache projectMembershipCache;
+    private final BurndownSnapshotRepository burndownSnapshotRepository;
 
     public SprintService(SprintRepository sprintRepository, BacklogRepository backlogRepository,
-        ProjectRespository projectRepository,
-        ProjectMemberRepository projectMemberRepository) {
+        ProjectMembershipCache projectMembershipCache,
+        BurndownSnapshotRepository burndownSnapshotRepository) {
         this.sprintRepository = sprintRepository;
         this.backlogRepository = backlogRepository;
-        this.projectRepository = projectRepository;
-        this.projectMemberRepository = projectMemberRepository;
+        this.projectMembershipCache = projectMembershipCache;
+        this.burndownSnapshotRepository = burndownSnapshotRepository;
     }
 
-    // 프로젝트 멤버인지 확인하는 메서드
-    private void validateProjectMember(Long memberId, Long projectId) {
-        projectMemberRepository.findByMemberIdAndProjectId(memberId, projectId)
-            .orElseThrow(ProjectNotFoundException::new);
+    // 프로젝트 멤버인지 확인하고 프로젝트를 반환하는 메서드
+    private Project validateProjectMember(Long memberId, Long projectId) {
+        return projectMembershipCache.find(memberId, projectId)
+            .orElseThrow(ProjectNotFoundException::new)
+            .project();
     }
 
     // 스프린트 존재 확인 메서드
@@ -53,11 +61,7 @@ public class SprintService {
 
     public SprintResponse createSprint(Long memberId, Long projectId) {
         // 프로젝트 멤버인지 검증
-        validateProjectMember(memberId, projectId);
-
-        // Project 조회
-        Project project = projectRepository.findById(projectId)
-            .orElseThrow(ProjectNotFoundException::new);
+        Project project = validateProjectMember(memberId, projectId);
 
         // 스프린트 개수 기반으로 제목 생성
         long sprintCount = sprintRepository.countByProject_ProjectId(projectId);
@@ -71,10 +75,6 @@ public class SprintService {
         // 프로젝트 멤버인지 검증
         validateProjectMember(memberId, projectId);
 
-        // Project 조회
-        Project project = projectRepository.findById(projectId)
-            .orElseThrow(ProjectNotFoundException::new);
-
         // Fetch only sprints where isDone is false
         List<Sprint> sprints = sprintRepository.findByProject_ProjectIdAndIsDoneFalse(projectId);
         return sprints.stream()
@@ -86,10 +86,6 @@ public class SprintService {
         // 프로젝트 멤버인지 검증
         validateProjectMember(memberId, projectId);
 
-        // Project 조회
-        Project project = projectRepository.findById(projectId)
-            .orElseThrow(ProjectNotFoundException::new);
-
         // 스프린트 조회
         Sprint sprint = validateSprintExists(projectId, sprintId);
         return sprint.toSprintResponse();
@@ -99,9 +95,6 @@ public class SprintService {
         SprintForm sprintForm) {
         // 프로젝트 멤버인지 검증
         validateProjectMember(memberId, projectId);
-        // Project 조회
-        Project project = projectRepository.findById(projectId)
-            .orElseThrow(ProjectNotFoundException::new);
         // 스프린트 조회
         Sprint sprint = validateSprintExists(projectId, sprintId);
         // 제목을 입력하지 않으면 예외 발생
@@ -123,18 +116,14 @@ public class SprintService {
     public void deleteSprint(Long memberId, Long projectId, Long sprintId) {
         // 프로젝트 멤버인지 검증
         validateProjectMember(memberId, projectId);
-        // Project 조회
-        Project project = projectRepository.findById(projectId)
-            .orElseThrow(ProjectNotFoundException::new);
         // 스프린트 조회
         Sprint sprint = validateSprintExists(projectId, sprintId);
 
-        // 스프린트에 연관된 백로그 조회 및 스프린트와의 연관 해제
-        List<Backlog> backlogs = backlogRepository.findBySprint(sprint);
-        for (Backlog backlog : backlogs) {
-            backlog.setSprint(null); // Sprint와의 연관 해제
-            backlogRepository.save(backlog); // 변경사항 저장
-        }
+        // 스프린트에 연관된 백로그를 한 번에 스프린트와 연관 해제
+        backlogRepository.moveAllToProductBacklog(sprintId);
+
+        // 완료된 스프린트였다면 번다운 스냅샷도 삭제
+        burndownSnapshotRepository.deleteBySprint(sprint);
         sprintRepository.delete(sprint);
     }
 
@@ -142,9 +131,6 @@ public class SprintService {
         SprintForm sprintForm) {
         // 프로젝트 멤버인지 검증
         validateProjectMember(memberId, projectId);
-        // Project 조회
-        Project project = projectRepository.findById(projectId)
-            .orElseThrow(ProjectNotFoundException::new);
         // 스프린트 조회
         Sprint sprint = validateSprintExists(projectId, sprintId);
         // 제목을 입력하지 않으면 예외 발생
@@ -172,26 +158,25 @@ public class SprintService {
 
     public SprintResponse completeSprint(Long memberId, Long projectId, Long sprintId) {
         // 프로젝트 멤버인지 검증
-        validateProjectMember(memberId, projectId);
-        // Project 조회
-        Project project = projectRepository.findById(projectId)
-            .orElseThrow(ProjectNotFoundException::new);
+        Project project = validateProjectMember(memberId, projectId);
         // 스프린트 조회
         Sprint sprint = validateSprintExists(projectId, sprintId);
 
-        // 해당 스프린트에 할당된 백로그 중 isDone이 false인 백로그 조회
-        // status가 DONE이 아닌 백로그 조회
-        List<Backlog> incompleteBacklogs = backlogRepository.findBySprint_IdAndStatusNot(sprintId,
-            Status.DONE);
-
-        // 각 백로그의 스프린트 ID를 null로 설정하여 완료하지 않은 백로그는 백로그 목록으로 이동
-        incompleteBacklogs.forEach(backlog -> {
-            backlog.setSprint(null);
-            backlogRepository.save(backlog); // 변경 내용을 저장
-        });
+        // 완료하지 않은(status가 DONE이 아닌) 백로그는 한 번의 UPDATE로 백로그 목록으로 이동
+        backlogRepository.moveUnfinishedToProductBacklog(sprintId);
 
         sprint.complete(); // isDone 을 true 로 설정하고 종료날짜를 현재날짜로 설정
-        return sprintRepository.save(sprint).toSprintResponse();
+        Sprint completedSprint = sprintRepository.save(sprint);
+
+        // 완료 시점의 번다운 스냅샷 기록
+        long completedBacklogs = backlogRepository.countBySprint_IdAndStatus(sprintId,
+            Status.DONE);
+        BurndownSnapshot snapshot = burndownSnapshotRepository.findBySprint(completedSprint)
+            .orElseGet(() -> new BurndownSnapshot(project, completedSprint, 0));
+        snapshot.record(completedBacklogs);
+        burndownSnapshotRepository.save(snapshot);
+
+        return completedSprint.toSprintResponse();
     }
 
     public List<CompletedSprintData> getBurndownData(Long memberId, Long projectId) {
@@ -199,14 +184,10 @@ public class SprintService {
         LocalDate today = LocalDate.now();
 
         // 프로젝트 멤버 검증
-        validateProjectMember(memberId, projectId);
-
-        // Project 조회
-        Project project = projectRepository.findById(projectId)
-            .orElseThrow(ProjectNotFoundException::new);
+        Project project = validateProjectMember(memberId, projectId);
 
-        // 프로젝트 전체 백로그 조회
-        List<Backlog> projectBacklogs = backlogRepository.findByProject(project);
+        // 프로젝트 전체 백로그 수
+        long totalBacklogs = backlogRepository.countByProject(project);
 
         // 완료된 백로그 누적 계산
         AtomicLong cumulativeCompletedBacklogs = new AtomicLong();
@@ -215,21 +196,22 @@ public class SprintService {
         List<Sprint> completedSprints = sprintRepository.findByProject_ProjectIdAndIsDoneTrueOrderByEndDateAsc(
             projectId);
 
+        // 종료된 스프린트별 완료된 백로그 수 (스냅샷)
+        Map<Long, Long> completedCountBySprint = getCompletedCountBySprint(project,
+            completedSprints);
+
         // 종료된 스프린트 데이터 생성
         List<CompletedSprintData> sprintData = completedSprints.stream()
             .map(sprint -> {
-                // 해당 스프린트의 완료된 백로그 계산
-                List<Backlog> sprintBacklogs = backlogRepository.findBySprint(sprint);
-                long completedInSprint = sprintBacklogs.stream()
-                    .filter(backlog -> backlog.getStatus() == Status.DONE)
-                    .count();
+                // 해당 스프린트의 완료된 백로그 수
+                long completedInSprint = completedCountBySprint.getOrDefault(sprint.getId(), 0L);
 
                 // 누적 완료된 백로그 업데이트
                 cumulativeCompletedBacklogs.addAndGet(completedInSprint);
 
                 // 남은 백로그 계산
                 long remainingBacklogsAtEndDate = Math.max(
-                    projectBacklogs.size() - cumulativeCompletedBacklogs.get(),
+                    totalBacklogs - cumulativeCompletedBacklogs.get(),
                     0
                 );
 
@@ -250,14 +232,12 @@ public class SprintService {
 
         // 활성 스프린트 데이터 처리
         activeSprint.ifPresent(sprint -> {
-            List<Backlog> activeSprintBacklogs = backlogRepository.findBySprint(sprint);
-            long completedInActiveSprint = activeSprintBacklogs.stream()
-                .filter(backlog -> backlog.getStatus() == Status.DONE)
-                .count();
+            // 활성 스프린트는 스냅샷 없이 실시간으로 계산
+            long completedInActiveSprint = backlogRepository.countBySprint_IdAndStatus(
+                sprint.getId(), Status.DONE);
 
             long remainingBacklogsAtToday = Math.max(
-                projectBacklogs.size() - cumulativeCompletedBacklogs.get()
-                    - completedInActiveSprint,
+                totalBacklogs - cumulativeCompletedBacklogs.get() - completedInActiveSprint,
                 0
             );
 
@@ -273,4 +253,31 @@ public class SprintService {
 
         return sprintData;
     }
-}
\ No newline at end of file
+
+    // 완료된 스프린트의 스냅샷을 조회하고, 스냅샷이 없는 스프린트(스냅샷 도입 전에 완료)는 집계 쿼리로 계산
+    // 조회 중에는 저장하지 않음 (동시에 처음 조회한 요청들이 같은 스프린트의 스냅샷을 중복 저장하지 않도록)
+    // 기존 스프린트의 스냅샷은 db/mysql/burndown-snapshots.sql로 한 번 채움
+    private Map<Long, Long> getCompletedCountBySprint(Project project,
+        List<Sprint> completedSprints) {
+        Map<Long, Long> completedCountBySprint = burndownSnapshotRepository.findByProject(project)
+            .stream()
+            .collect(Collectors.toMap(snapshot -> snapshot.getSprint().getId(),
+                BurndownSnapshot::getCompletedBacklogs));
+
+        boolean hasSprintWithoutSnapshot = completedSprints.stream()
+            .anyMatch(sprint -> !completedCountBySprint.containsKey(sprint.getId()));
+
+        if (!hasSprintWithoutSnapshot) {
+            return completedCountBySprint;
+        }
+
+        Map<Long, Long> doneCountBySprint = backlogRepository.countBySprintAndStatus(
+                project.getProjectId()).stream()
+            .filter(backlogCount -> backlogCount.sprintId() != null && backlogCount.isDone())
+            .collect(Collectors.toMap(SprintBacklogCount::sprintId, SprintBacklogCount::count));
+
+        completedSprints.forEach(sprint -> completedCountBySprint.computeIfAbsent(sprint.getId(),
+            sprintId -> doneCountBySprint.getOrDefault(sprintId, 0L)));
+        return completedCountBySprint;
+    }
+}
@@ -0,0 +1,12 @@
+-- 번다운 스냅샷(burndown_snapshot) 도입 전에 완료된 스프린트의 스냅샷을 한 번 채움
+-- 완료하지 않은 백로그는 스프린트 완료 시 백로그 목록으로 이동하므로, 남아 있는 DONE 백로그 수를 기록
+-- 이미 스냅샷이 있는 스프린트는 건너뛰므로 여러 번 실행해도 됨
+
+INSERT INTO burndown_snapshot (project_id, sprint_id, completed_backlogs)
+SELECT s.project_id, s.sprint_id, COUNT(b.backlog_id)
+FROM sprint s
+         LEFT JOIN backlog b ON b.sprint_id = s.sprint_id AND b.status = 'DONE'
+         LEFT JOIN burndown_snapshot bs ON bs.sprint_id = s.sprint_id
+WHERE s.is_done = TRUE
+  AND bs.burndown_snapshot_id IS NULL
+GROUP BY s.project_id, s.sprint_id;
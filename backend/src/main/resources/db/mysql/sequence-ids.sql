@@ -0,0 +1,17 @@
+-- sprint, story, backlog의 ID를 IDENTITY에서 시퀀스(allocationSize = 50)로 바꾼 뒤
+-- IDENTITY로 만든 기존 MySQL 데이터베이스에 배포하기 전에 한 번 실행
+-- MySQL에는 시퀀스가 없어 Hibernate가 *_seq 테이블(next_val)로 시퀀스를 대신하며,
+-- 읽은 next_val에서 49를 뺀 값부터 50개의 ID를 사용하므로 next_val을 MAX(id) + 50으로 맞춤
+-- (기존 행이 없으면 1부터 사용)
+
+CREATE TABLE IF NOT EXISTS sprint_seq (next_val BIGINT) ENGINE = InnoDB;
+DELETE FROM sprint_seq;
+INSERT INTO sprint_seq (next_val) SELECT COALESCE(MAX(sprint_id), 0) + 50 FROM sprint;
+
+CREATE TABLE IF NOT EXISTS story_seq (next_val BIGINT) ENGINE = InnoDB;
+DELETE FROM story_seq;
+INSERT INTO story_seq (next_val) SELECT COALESCE(MAX(story_id), 0) + 50 FROM story;
+
+CREATE TABLE IF NOT EXISTS backlog_seq (next_val BIGINT) ENGINE = InnoDB;
+DELETE FROM backlog_seq;
+INSERT INTO backlog_seq (next_val) SELECT COALESCE(MAX(backlog_id), 0) + 50 FROM backlog;
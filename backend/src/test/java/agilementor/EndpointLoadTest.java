@@ -0,0 +1,309 @@
+package agilementor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import agilementor.backlog.entity.Backlog;
+import agilementor.backlog.entity.Priority;
+import agilementor.backlog.entity.Status;
+import agilementor.backlog.entity.Story;
+import agilementor.backlog.repository.BacklogRepository;
+import agilementor.backlog.repository.StoryRepository;
+import agilementor.member.entity.Member;
+import agilementor.member.repository.MemberRepository;
+import agilementor.project.entity.Project;
+import agilementor.project.entity.ProjectMember;
+import agilementor.project.repository.ProjectMemberRepository;
+import agilementor.project.repository.ProjectRespository;
+import agilementor.sprint.entity.BurndownSnapshot;
+import agilementor.sprint.entity.Sprint;
+import agilementor.sprint.repository.BurndownSnapshotRepository;
+import agilementor.sprint.repository.SprintRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.servlet.http.HttpSession;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+// H2 위에서 애플리케이션을 띄우고 주요 조회 API에 로그인된 세션으로 동시 요청을 보내
+// API별 p50/p99 지연 시간, 처리량, 요청당 SQL 수를 측정하는 부하 테스트 (./gradlew loadTest 로 실행)
+// 데이터 크기와 부하는 시스템 프로퍼티 loadtest.projects, loadtest.backlogs, loadtest.concurrency,
+// loadtest.requests 로 조정하며, 결과는 표준 출력과 build/reports/load-test/results.json 에 기록
+@Tag("load")
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = {
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"
+})
+@Import(EndpointLoadTest.LoadTestLoginController.class)
+class EndpointLoadTest {
+
+    private static final int PROJECTS = Integer.getInteger("loadtest.projects", 10);
+    private static final int BACKLOGS_PER_PROJECT = Integer.getInteger("loadtest.backlogs", 200);
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 16);
+    private static final int REQUESTS = Integer.getInteger("loadtest.requests", 1000);
+    private static final int WARMUP_REQUESTS = 100;
+    private static final int SPRINTS_PER_PROJECT = 5;
+    private static final int STORIES_PER_PROJECT = 10;
+    private static final Path REPORT = Path.of("build", "reports", "load-test", "results.json");
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ProjectRespository projectRespository;
+
+    @Autowired
+    private ProjectMemberRepository projectMemberRepository;
+
+    @Autowired
+    private SprintRepository sprintRepository;
+
+    @Autowired
+    private StoryRepository storyRepository;
+
+    @Autowired
+    private BacklogRepository backlogRepository;
+
+    @Autowired
+    private BurndownSnapshotRepository burndownSnapshotRepository;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final List<Long> projectIds = new ArrayList<>();
+    private final List<String> sessionCookies = new ArrayList<>();
+
+    // 부하 테스트에서만 사용하는 로그인 API (실제 로그인은 구글 OAuth를 거쳐야 하므로)
+    @RestController
+    static class LoadTestLoginController {
+
+        @PostMapping("/load-test/login/{memberId}")
+        void login(@PathVariable Long memberId, HttpSession session) {
+            session.setAttribute("memberId", memberId);
+        }
+    }
+
+    record EndpointResult(
+        String endpoint,
+        int requests,
+        int errors,
+        int warmupErrors,
+        double throughput,
+        double p50Millis,
+        double p99Millis,
+        double statementsPerRequest
+    ) {
+
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        seed();
+    }
+
+    // 프로젝트마다 관리자 한 명을 두고, 모든 멤버가 모든 프로젝트에 참여하도록 저장
+    private void seed() throws Exception {
+        List<Member> members = memberRepository.saveAll(IntStream.range(0, PROJECTS)
+            .mapToObj(i -> new Member("member" + i + "@email.com", "member" + i, "pic.jpg"))
+            .toList());
+
+        for (int p = 0; p < PROJECTS; p++) {
+            Project project = projectRespository.save(new Project("project" + p));
+            projectIds.add(project.getProjectId());
+
+            List<ProjectMember> projectMembers = new ArrayList<>();
+            for (int m = 0; m < PROJECTS; m++) {
+                projectMembers.add(new ProjectMember(project, members.get(m), m == p));
+            }
+            projectMemberRepository.saveAll(projectMembers);
+
+            List<Sprint> sprints = new ArrayList<>();
+            for (int s = 0; s < SPRINTS_PER_PROJECT; s++) {
+                Sprint sprint = new Sprint(project, "sprint" + s);
+                sprint.start();
+                if (s < SPRINTS_PER_PROJECT - 1) {
+                    sprint.complete();
+                }
+                sprints.add(sprint);
+            }
+            sprints = sprintRepository.saveAll(sprints);
+
+            List<Story> stories = new ArrayList<>();
+            for (int s = 0; s < STORIES_PER_PROJECT; s++) {
+                stories.add(new Story(project, "story" + s, "desc"));
+            }
+            stories = storyRepository.saveAll(stories);
+
+            List<Backlog> backlogs = new ArrayList<>();
+            for (int b = 0; b < BACKLOGS_PER_PROJECT; b++) {
+                Sprint sprint = b % (SPRINTS_PER_PROJECT + 1) == 0 ? null
+                    : sprints.get(b % SPRINTS_PER_PROJECT);
+                Story story = stories.get(b % STORIES_PER_PROJECT);
+                Member assignee = members.get(b % PROJECTS);
+                Backlog backlog = new Backlog("backlog" + b, "desc", Priority.MEDIUM, project,
+                    sprint, story, assignee);
+                backlog.update("backlog" + b, "desc", Status.values()[b % 3], Priority.MEDIUM,
+                    sprint, story, assignee);
+                backlogs.add(backlog);
+            }
+            backlogRepository.saveAll(backlogs);
+
+            // 스프린트 완료 시 기록하는 번다운 스냅샷 (스프린트의 DONE 백로그 수)
+            List<BurndownSnapshot> snapshots = new ArrayList<>();
+            for (Sprint sprint : sprints) {
+                if (sprint.isDone()) {
+                    snapshots.add(new BurndownSnapshot(project, sprint,
+                        backlogRepository.countBySprint_IdAndStatus(sprint.getId(),
+                            Status.DONE)));
+                }
+            }
+            burndownSnapshotRepository.saveAll(snapshots);
+        }
+
+        for (Member member : members) {
+            sessionCookies.add(login(member.getMemberId()));
+        }
+    }
+
+    private String login(Long memberId) throws IOException, InterruptedException {
+        HttpResponse<Void> response = httpClient.send(HttpRequest.newBuilder()
+            .uri(URI.create("http://localhost:" + port + "/load-test/login/" + memberId))
+            .POST(HttpRequest.BodyPublishers.noBody())
+            .build(), BodyHandlers.discarding());
+
+        // 세션 쿠키는 secure 속성이 있어 http에서 자동으로 전송되지 않으므로 직접 헤더로 전송
+        return response.headers().firstValue("Set-Cookie").orElseThrow().split(";")[0];
+    }
+
+    @Test
+    @DisplayName("주요 조회 API의 지연 시간, 처리량, 요청당 SQL 수를 측정한다.")
+    void load() throws Exception {
+        List<EndpointResult> results = List.of(
+            run("GET /api/projects/{id}/backlogs",
+                i -> "/api/projects/" + projectIds.get(i % PROJECTS) + "/backlogs"),
+            run("GET /api/projects/{id}/sprints/burndown",
+                i -> "/api/projects/" + projectIds.get(i % PROJECTS) + "/sprints/burndown"),
+            run("GET /api/projects/{id}/stories",
+                i -> "/api/projects/" + projectIds.get(i % PROJECTS) + "/stories"),
+            run("GET /api/tasks", i -> "/api/tasks")
+        );
+
+        report(results);
+        assertThat(results).allSatisfy(result -> assertThat(result.errors()).isZero());
+    }
+
+    private EndpointResult run(String endpoint, IntFunction<String> path) throws Exception {
+        // 첫 요청에서만 실행되는 경로(멤버십 캐시, 세션 캐시 채우기 등)의 오류도 놓치지 않도록 따로 기록
+        Outcome warmup = send(WARMUP_REQUESTS, path);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class)
+            .getStatistics();
+        statistics.clear();
+
+        long start = System.nanoTime();
+        Outcome outcome = send(REQUESTS, path);
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+        long[] latencies = outcome.latencies();
+        Arrays.sort(latencies);
+        return new EndpointResult(endpoint, REQUESTS, outcome.errors(), warmup.errors(),
+            REQUESTS / elapsedSeconds,
+            percentile(latencies, 0.50),
+            percentile(latencies, 0.99),
+            (double) statistics.getPrepareStatementCount() / REQUESTS);
+    }
+
+    private record Outcome(long[] latencies, int errors) {
+
+    }
+
+    // CONCURRENCY개의 스레드가 요청을 나누어 보내며, i번째 요청은 i번째 멤버 세션으로 전송
+    private Outcome send(int requests, IntFunction<String> path) throws Exception {
+        long[] latencies = new long[requests];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY)) {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < CONCURRENCY; t++) {
+                workers.add(executor.submit(() -> {
+                    int i;
+                    while ((i = next.getAndIncrement()) < requests) {
+                        HttpRequest request = HttpRequest.newBuilder()
+                            .uri(URI.create("http://localhost:" + port + path.apply(i)))
+                            .header("Cookie", sessionCookies.get(i % sessionCookies.size()))
+                            .GET()
+                            .build();
+
+                        long start = System.nanoTime();
+                        HttpResponse<Void> response = httpClient.send(request,
+                            BodyHandlers.discarding());
+                        latencies[i] = System.nanoTime() - start;
+                        if (response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        }
+        return new Outcome(latencies, errors.get());
+    }
+
+    private double percentile(long[] sortedLatencies, double percentile) {
+        int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(index, 0)] / 1e6;
+    }
+
+    private void report(List<EndpointResult> results) throws IOException {
+        System.out.printf("%nprojects=%d, backlogs/project=%d, concurrency=%d, requests=%d%n",
+            PROJECTS, BACKLOGS_PER_PROJECT, CONCURRENCY, REQUESTS);
+        System.out.printf("%-40s %10s %10s %10s %10s %8s %8s%n", "endpoint", "req/s",
+            "p50(ms)", "p99(ms)", "sql/req", "errors", "warmup");
+        for (EndpointResult result : results) {
+            System.out.printf("%-40s %10.1f %10.2f %10.2f %10.2f %8d %8d%n", result.endpoint(),
+                result.throughput(), result.p50Millis(), result.p99Millis(),
+                result.statementsPerRequest(), result.errors(), result.warmupErrors());
+        }
+
+        Files.createDirectories(REPORT.getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+            .writeValue(REPORT.toFile(), results);
+    }
+}
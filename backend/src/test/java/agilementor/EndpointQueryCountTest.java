@@ -0,0 +1,250 @@
+package agilementor;
+
+import static agilementor.LoginSession.loginSession;
+import static agilementor.common.query.QueryCountResultMatchers.queryBudget;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import agilementor.backlog.entity.Backlog;
+import agilementor.backlog.entity.Priority;
+import agilementor.backlog.entity.Status;
+import agilementor.backlog.entity.Story;
+import agilementor.backlog.repository.BacklogRepository;
+import agilementor.backlog.repository.StoryRepository;
+import agilementor.member.entity.Member;
+import agilementor.member.repository.MemberRepository;
+import agilementor.project.entity.Project;
+import agilementor.project.entity.ProjectMember;
+import agilementor.project.repository.ProjectMemberRepository;
+import agilementor.project.repository.ProjectRespository;
+import agilementor.sprint.entity.BurndownSnapshot;
+import agilementor.sprint.entity.Sprint;
+import agilementor.sprint.repository.BurndownSnapshotRepository;
+import agilementor.sprint.repository.SprintRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.session.SessionRepository;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+// API마다 실행되는 SQL 수가 예산(queryBudget)을 넘지 않는지 확인 (QueryCountFilter가 요청별로 집계)
+@SpringBootTest
+@AutoConfigureMockMvc
+class EndpointQueryCountTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SessionRepository<?> sessionRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ProjectRespository projectRespository;
+
+    @Autowired
+    private ProjectMemberRepository projectMemberRepository;
+
+    @Autowired
+    private SprintRepository sprintRepository;
+
+    @Autowired
+    private StoryRepository storyRepository;
+
+    @Autowired
+    private BacklogRepository backlogRepository;
+
+    @Autowired
+    private BurndownSnapshotRepository burndownSnapshotRepository;
+
+    private Long memberId;
+    private Long projectId;
+    private Long storyId;
+    private Long backlogId;
+    private Long activeSprintId;
+
+    @BeforeEach
+    void setUp() {
+        Member member = memberRepository.save(new Member("email@email.com", "name", "pic.jpg"));
+        Project project = projectRespository.save(new Project("project"));
+        projectMemberRepository.save(new ProjectMember(project, member, true));
+
+        Sprint doneSprint = new Sprint(project, "doneSprint");
+        doneSprint.start();
+        doneSprint.complete();
+        doneSprint = sprintRepository.save(doneSprint);
+        // 스프린트 완료 시 저장되는 번다운 스냅샷
+        burndownSnapshotRepository.save(new BurndownSnapshot(project, doneSprint, 5));
+        Sprint activeSprint = new Sprint(project, "activeSprint");
+        activeSprint.start();
+        activeSprint = sprintRepository.save(activeSprint);
+
+        for (int i = 0; i < 5; i++) {
+            Story story = storyRepository.save(new Story(project, "story" + i, "desc"));
+            for (Sprint sprint : new Sprint[]{doneSprint, activeSprint, null}) {
+                Backlog backlog = new Backlog("title", "desc", Priority.MEDIUM, project, sprint,
+                    story, member);
+                backlog.update("title", "desc", sprint == doneSprint ? Status.DONE : Status.TODO,
+                    Priority.MEDIUM, sprint, story, member);
+                backlogId = backlogRepository.save(backlog).getBacklogId();
+            }
+            storyId = story.getStoryId();
+        }
+
+        memberId = member.getMemberId();
+        projectId = project.getProjectId();
+        activeSprintId = activeSprint.getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        backlogRepository.deleteAllInBatch();
+        storyRepository.deleteAllInBatch();
+        burndownSnapshotRepository.deleteAllInBatch();
+        sprintRepository.deleteAllInBatch();
+        projectMemberRepository.deleteAllInBatch();
+        projectRespository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+    }
+
+    private ResultActions perform(MockHttpServletRequestBuilder request) throws Exception {
+        return mockMvc.perform(request.with(loginSession(sessionRepository, memberId)))
+            .andExpect(status().is2xxSuccessful());
+    }
+
+    @Test
+    @DisplayName("백로그 목록 조회 시 실행되는 쿼리 수")
+    void getBacklogList() throws Exception {
+        perform(get("/api/projects/{projectId}/backlogs", projectId))
+            .andExpect(queryBudget(2));
+    }
+
+    @Test
+    @DisplayName("프로젝트 멤버십이 캐시되면 권한 확인 쿼리 없이 백로그 목록을 조회한다.")
+    void getBacklogListWithCachedMembership() throws Exception {
+        perform(get("/api/projects/{projectId}/backlogs", projectId));
+
+        perform(get("/api/projects/{projectId}/backlogs", projectId))
+            .andExpect(queryBudget(1));
+    }
+
+    @Test
+    @DisplayName("백로그 조회 시 실행되는 쿼리 수")
+    void getBacklog() throws Exception {
+        perform(get("/api/projects/{projectId}/backlogs/{backlogId}", projectId, backlogId))
+            .andExpect(queryBudget(2));
+    }
+
+    @Test
+    @DisplayName("백로그 수정 시 실행되는 쿼리 수")
+    void updateBacklog() throws Exception {
+        String body = """
+            {"title": "new", "description": "new", "status": "IN_PROGRESS", "priority": "LOW"}
+            """;
+
+        perform(put("/api/projects/{projectId}/backlogs/{backlogId}", projectId, backlogId)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(body))
+            .andExpect(queryBudget(3));
+    }
+
+    @Test
+    @DisplayName("활성 스프린트 백로그 목록 조회 시 실행되는 쿼리 수")
+    void getActiveBacklogList() throws Exception {
+        perform(get("/api/projects/{projectId}/backlogs/active", projectId))
+            .andExpect(queryBudget(3));
+    }
+
+    @Test
+    @DisplayName("할당된 작업 목록 조회 시 실행되는 쿼리 수")
+    void getTasks() throws Exception {
+        perform(get("/api/tasks"))
+            .andExpect(queryBudget(2));
+    }
+
+    @Test
+    @DisplayName("스토리 목록 조회 시 실행되는 쿼리 수")
+    void getStoryList() throws Exception {
+        perform(get("/api/projects/{projectId}/stories", projectId))
+            .andExpect(queryBudget(3));
+    }
+
+    @Test
+    @DisplayName("스토리 조회 시 실행되는 쿼리 수")
+    void getStory() throws Exception {
+        perform(get("/api/projects/{projectId}/stories/{storyId}", projectId, storyId))
+            .andExpect(queryBudget(3));
+    }
+
+    @Test
+    @DisplayName("스프린트 목록 조회 시 실행되는 쿼리 수")
+    void getAllSprints() throws Exception {
+        perform(get("/api/projects/{projectId}/sprints", projectId))
+            .andExpect(queryBudget(2));
+    }
+
+    @Test
+    @DisplayName("번다운 차트 조회 시 실행되는 쿼리 수")
+    void getBurndownData() throws Exception {
+        // 첫 조회는 캐시를 채우는 쿼리를 포함하므로 두 번째 조회의 쿼리 수를 확인
+        perform(get("/api/projects/{projectId}/sprints/burndown", projectId));
+
+        perform(get("/api/projects/{projectId}/sprints/burndown", projectId))
+            .andExpect(queryBudget(5));
+    }
+
+    @Test
+    @DisplayName("스프린트 완료 시 백로그 수와 관계없이 실행되는 쿼리 수")
+    void completeSprint() throws Exception {
+        perform(put("/api/projects/{projectId}/sprints/{sprintId}/complete", projectId,
+            activeSprintId))
+            .andExpect(queryBudget(8));
+        assertThat(backlogRepository.countBySprint_IdAndStatus(activeSprintId, Status.TODO))
+            .isZero();
+    }
+
+    @Test
+    @DisplayName("스프린트 삭제 시 백로그 수와 관계없이 실행되는 쿼리 수")
+    void deleteSprint() throws Exception {
+        perform(delete("/api/projects/{projectId}/sprints/{sprintId}", projectId,
+            activeSprintId))
+            .andExpect(queryBudget(7));
+        assertThat(backlogRepository.count()).isEqualTo(15);
+        assertThat(sprintRepository.existsById(activeSprintId)).isFalse();
+    }
+
+    @Test
+    @DisplayName("프로젝트 목록 조회 시 실행되는 쿼리 수")
+    void getProjectList() throws Exception {
+        perform(get("/api/projects"))
+            .andExpect(queryBudget(1));
+    }
+
+    @Test
+    @DisplayName("프로젝트 삭제 시 백로그 수와 관계없이 실행되는 쿼리 수")
+    void deleteProject() throws Exception {
+        perform(delete("/api/projects/{projectId}", projectId))
+            .andExpect(queryBudget(9));
+        assertThat(backlogRepository.count()).isZero();
+        assertThat(projectRespository.existsById(projectId)).isFalse();
+    }
+
+    @Test
+    @DisplayName("프로젝트 멤버 목록 조회 시 실행되는 쿼리 수")
+    void getProjectMemberList() throws Exception {
+        perform(get("/api/projects/{projectId}/members", projectId))
+            .andExpect(queryBudget(1));
+    }
+}
@@ -0,0 +1,272 @@
+package agilementor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import agilementor.member.entity.Member;
+import agilementor.member.repository.MemberRepository;
+import agilementor.project.entity.Project;
+import agilementor.project.entity.ProjectMember;
+import agilementor.project.repository.ProjectMemberRepository;
+import agilementor.project.repository.ProjectRespository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.Banner;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+// OpenAI 응답이 느릴 때 AI 자동 생성 API(/ai/generate-task)를 동시에 몇 개까지 처리하는지
+// 플랫폼 스레드 모드와 가상 스레드 모드(spring.threads.virtual.enabled)에서 각각 측정하는 부하 테스트
+// OpenAI는 loadtest.gpt.latency(ms)만큼 늦게 응답하는 HTTP 서버로 대신하고,
+// loadtest.gpt.concurrency명의 사용자가 loadtest.gpt.requests개의 요청을 나누어 보냄
+// 플랫폼 스레드 모드의 요청 처리 스레드 수는 loadtest.gpt.tomcat-threads (기본값은 Tomcat 기본값과 같은 200)
+// 결과는 표준 출력과 build/reports/load-test/gpt-concurrency.json 에 기록 (./gradlew loadTest 로 실행)
+@Tag("load")
+class GPTConcurrencyLoadTest {
+
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.gpt.concurrency", 400);
+    private static final int LATENCY_MILLIS = Integer.getInteger("loadtest.gpt.latency", 1000);
+    private static final int REQUESTS = Integer.getInteger("loadtest.gpt.requests",
+        CONCURRENCY * 3);
+    private static final int TOMCAT_THREADS = Integer.getInteger("loadtest.gpt.tomcat-threads",
+        200);
+    private static final Path REPORT = Path.of("build", "reports", "load-test",
+        "gpt-concurrency.json");
+    private static final String GPT_CONTENT = """
+        {
+          "stories": [
+            {
+              "id": 1,
+              "title": "story",
+              "description": "desc",
+              "tasks": [
+                {"title": "task", "description": "desc", "priority": "HIGH", "sprintId": 1}
+              ]
+            }
+          ],
+          "sprints": [
+            {"id": 1, "title": "sprint", "goal": "goal"}
+          ]
+        }""";
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+        .executor(Executors.newVirtualThreadPerTaskExecutor())
+        .build();
+    private HttpServer openAiServer;
+
+    record ModeResult(
+        String mode,
+        int concurrency,
+        int requests,
+        int errors,
+        double throughput,
+        double p50Millis,
+        double p99Millis,
+        int peakPlatformThreads,
+        long pinnedEvents
+    ) {
+
+    }
+
+    // MockWebServer는 응답 지연(bodyDelay)을 연결마다 순서대로 처리하므로, 요청마다 가상 스레드에서
+    // 지연 후 응답하는 JDK HTTP 서버로 OpenAI가 동시에 느리게 응답하는 상황을 흉내 냄
+    @BeforeEach
+    void setUp() throws IOException {
+        String escaped = GPT_CONTENT.replace("\"", "\\\"").replace("\n", "\\n");
+        byte[] completion = ("{\"choices\": [{\"message\": {\"content\": \"" + escaped + "\"}}]}")
+            .getBytes(StandardCharsets.UTF_8);
+
+        openAiServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        openAiServer.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        openAiServer.createContext("/v1/chat/completions", exchange -> {
+            try (exchange) {
+                exchange.getRequestBody().readAllBytes();
+                Thread.sleep(LATENCY_MILLIS);
+                exchange.getResponseHeaders().set("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, completion.length);
+                exchange.getResponseBody().write(completion);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        openAiServer.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        openAiServer.stop(0);
+    }
+
+    @Test
+    @DisplayName("느린 OpenAI 응답에서 스레드 모드별 AI 자동 생성 API의 동시 처리량을 측정한다.")
+    void load() throws Exception {
+        List<ModeResult> results = List.of(run(false), run(true));
+
+        report(results);
+        // 플랫폼 스레드 모드는 스레드가 모자라면 요청이 밀려 실패할 수 있으므로 오류 수는 기록만 함
+        assertThat(results.get(1).errors()).isZero();
+    }
+
+    private ModeResult run(boolean virtualThreads) throws Exception {
+        // OpenAI 호출 수 제한(gpt.limit)이 아닌 요청 처리 스레드가 병목이 되도록 제한을 풀어 둠
+        // application.properties의 값보다 우선하도록 명령행 인자로 전달
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+            AgilementorApplication.class, EndpointLoadTest.LoadTestLoginController.class)
+            .bannerMode(Banner.Mode.OFF)
+            .run(
+                "--server.port=0",
+                "--management.server.port=0",
+                "--server.tomcat.threads.max=" + TOMCAT_THREADS,
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                "--openai.api.url=http://localhost:" + openAiServer.getAddress().getPort() + "/v1",
+                "--openai.api.key=load-test",
+                "--gpt.limit.global=100000",
+                "--gpt.limit.per-project=100000",
+                "--logging.level.root=WARN")) {
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            Long projectId = seed(context);
+            String sessionCookie = login(port, context.getBean(MemberRepository.class)
+                .findAll().getFirst().getMemberId());
+
+            MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+            long pinnedBefore = pinnedEvents(meterRegistry);
+            ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+            threads.resetPeakThreadCount();
+
+            long start = System.nanoTime();
+            Outcome outcome = send(port, projectId, sessionCookie);
+            double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+            long[] latencies = outcome.latencies();
+            Arrays.sort(latencies);
+            return new ModeResult(virtualThreads ? "virtual" : "platform", CONCURRENCY, REQUESTS,
+                outcome.errors(), REQUESTS / elapsedSeconds,
+                percentile(latencies, 0.50),
+                percentile(latencies, 0.99),
+                threads.getPeakThreadCount(),
+                pinnedEvents(meterRegistry) - pinnedBefore);
+        }
+    }
+
+    private Long seed(ConfigurableApplicationContext context) {
+        Member member = context.getBean(MemberRepository.class)
+            .save(new Member("load@email.com", "load", "pic.jpg"));
+        Project project = context.getBean(ProjectRespository.class).save(new Project("load"));
+        context.getBean(ProjectMemberRepository.class)
+            .save(new ProjectMember(project, member, true));
+        return project.getProjectId();
+    }
+
+    private String login(int port, Long memberId) throws IOException, InterruptedException {
+        HttpResponse<Void> response = httpClient.send(HttpRequest.newBuilder()
+            .uri(URI.create("http://localhost:" + port + "/load-test/login/" + memberId))
+            .POST(BodyPublishers.noBody())
+            .build(), BodyHandlers.discarding());
+
+        // 세션 쿠키는 secure 속성이 있어 http에서 자동으로 전송되지 않으므로 직접 헤더로 전송
+        return response.headers().firstValue("Set-Cookie").orElseThrow().split(";")[0];
+    }
+
+    private record Outcome(long[] latencies, int errors) {
+
+    }
+
+    // CONCURRENCY명의 사용자가 요청을 나누어 보내며, 같은 요청으로 합쳐지거나 캐시되지 않도록
+    // 요청마다 프로젝트 설명을 다르게 하고 캐시를 사용하지 않음
+    private Outcome send(int port, Long projectId, String sessionCookie) throws Exception {
+        long[] latencies = new long[REQUESTS];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        URI uri = URI.create(
+            "http://localhost:" + port + "/api/projects/" + projectId + "/ai/generate-task");
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> users = new ArrayList<>();
+            for (int u = 0; u < CONCURRENCY; u++) {
+                users.add(executor.submit(() -> {
+                    int i;
+                    while ((i = next.getAndIncrement()) < REQUESTS) {
+                        HttpRequest request = HttpRequest.newBuilder(uri)
+                            .header("Cookie", sessionCookie)
+                            .header("Content-Type", "application/json")
+                            .timeout(Duration.ofMinutes(2))
+                            .POST(BodyPublishers.ofString("""
+                                {"projectDescription": "project %d", "storyCount": 1,
+                                 "sprintCount": 1, "useCache": false}
+                                """.formatted(i)))
+                            .build();
+
+                        long start = System.nanoTime();
+                        HttpResponse<Void> response = httpClient.send(request,
+                            BodyHandlers.discarding());
+                        latencies[i] = System.nanoTime() - start;
+                        if (response.statusCode() != 201) {
+                            errors.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> user : users) {
+                user.get();
+            }
+        }
+        return new Outcome(latencies, errors.get());
+    }
+
+    private long pinnedEvents(MeterRegistry meterRegistry) {
+        Timer timer = meterRegistry.find("jvm.threads.virtual.pinned").timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    private double percentile(long[] sortedLatencies, double percentile) {
+        int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(index, 0)] / 1e6;
+    }
+
+    private void report(List<ModeResult> results) throws IOException {
+        System.out.printf("%nopenai latency=%dms, concurrency=%d, requests=%d%n", LATENCY_MILLIS,
+            CONCURRENCY, REQUESTS);
+        System.out.printf("%-10s %10s %10s %10s %10s %8s %8s%n", "mode", "req/s", "p50(ms)",
+            "p99(ms)", "threads", "pinned", "errors");
+        for (ModeResult result : results) {
+            System.out.printf("%-10s %10.1f %10.2f %10.2f %10d %8d %8d%n", result.mode(),
+                result.throughput(), result.p50Millis(), result.p99Millis(),
+                result.peakPlatformThreads(), result.pinnedEvents(), result.errors());
+        }
+
+        Files.createDirectories(REPORT.getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+            .writeValue(REPORT.toFile(), results);
+    }
+}
@@ -0,0 +1,36 @@
+package agilementor;
+
+import jakarta.servlet.http.Cookie;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+// 로그인 세션은 Spring Session 저장소에서 읽으므로 MockMvc의 sessionAttr 대신
+// 저장소에 memberId를 담은 세션을 만들고 요청에 세션 쿠키(SESSION, Base64 인코딩)를 붙임
+public final class LoginSession {
+
+    private LoginSession() {
+    }
+
+    public static RequestPostProcessor loginSession(SessionRepository<?> sessionRepository,
+        Long memberId) {
+        String sessionId = createSession(sessionRepository, memberId);
+        Cookie cookie = new Cookie("SESSION",
+            Base64.getEncoder().encodeToString(sessionId.getBytes(StandardCharsets.UTF_8)));
+
+        return request -> {
+            request.setCookies(cookie);
+            return request;
+        };
+    }
+
+    private static <S extends Session> String createSession(
+        SessionRepository<S> sessionRepository, Long memberId) {
+        S session = sessionRepository.createSession();
+        session.setAttribute("memberId", memberId);
+        sessionRepository.save(session);
+        return session.getId();
+    }
+}
@@ -0,0 +1,97 @@
+package agilementor;
+
+import static agilementor.LoginSession.loginSession;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import agilementor.member.entity.Member;
+import agilementor.member.repository.MemberRepository;
+import agilementor.project.entity.Project;
+import agilementor.project.entity.ProjectMember;
+import agilementor.project.repository.ProjectMemberRepository;
+import agilementor.project.repository.ProjectRespository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.session.SessionRepository;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.client.RestClient;
+
+// 메트릭은 서비스 포트가 아닌 관리 포트(management.server.port)로만 조회
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class MetricsEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @LocalManagementPort
+    private int managementPort;
+
+    @Autowired
+    private SessionRepository<?> sessionRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ProjectRespository projectRespository;
+
+    @Autowired
+    private ProjectMemberRepository projectMemberRepository;
+
+    @AfterEach
+    void tearDown() {
+        projectMemberRepository.deleteAllInBatch();
+        projectRespository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("API, 서비스 메서드, GPT, JVM, 커넥션 풀 메트릭을 Prometheus 형식으로 조회할 수 있다.")
+    void prometheus() throws Exception {
+        // given
+        Member member = memberRepository.save(new Member("email@email.com", "name", "pic.jpg"));
+        Project project = projectRespository.save(new Project("project"));
+        projectMemberRepository.save(new ProjectMember(project, member, true));
+        mockMvc.perform(get("/api/projects")
+                .with(loginSession(sessionRepository, member.getMemberId())))
+            .andExpect(status().isOk());
+
+        // when
+        String actual = RestClient.create("http://localhost:" + managementPort)
+            .get()
+            .uri("/actuator/prometheus")
+            .retrieve()
+            .body(String.class);
+
+        // then
+        assertThat(actual)
+            .contains("http_server_requests_seconds_bucket{")
+            .contains("uri=\"/api/projects\"")
+            .contains("agilementor_service_seconds_count{")
+            .contains("class=\"agilementor.project.service.ProjectService\"")
+            .contains("http_server_requests_queries_count{")
+            .contains("gpt_requests_queued")
+            .contains("hikaricp_connections_active")
+            .contains("jvm_memory_used_bytes")
+            .contains("jvm_gc_");
+    }
+
+    @Test
+    @DisplayName("서비스 포트에서는 메트릭을 조회할 수 없다.")
+    void prometheusNotExposedOnServerPort() throws Exception {
+        // when
+        // then
+        mockMvc.perform(get("/actuator/prometheus"))
+            .andExpect(status().isNotFound());
+    }
+}
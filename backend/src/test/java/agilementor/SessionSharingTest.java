@@ -0,0 +1,121 @@
+package agilementor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import agilementor.member.entity.Member;
+import agilementor.member.repository.MemberRepository;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.Banner;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+// 같은 H2 데이터베이스를 쓰는 두 인스턴스를 띄워, 한 인스턴스에서 로그인한 세션을
+// 다른 인스턴스에서도 사용할 수 있는지 확인
+class SessionSharingTest {
+
+    private static final Duration NEAR_CACHE_TTL = Duration.ofSeconds(1);
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private ConfigurableApplicationContext first;
+    private ConfigurableApplicationContext second;
+
+    @BeforeEach
+    void setUp() {
+        first = start();
+        second = start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        first.getBean(MemberRepository.class).deleteAllInBatch();
+        second.close();
+        first.close();
+    }
+
+    private ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(AgilementorApplication.class,
+            EndpointLoadTest.LoadTestLoginController.class)
+            .bannerMode(Banner.Mode.OFF)
+            .run(
+                "--server.port=0",
+                "--management.server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:session-sharing;DB_CLOSE_DELAY=-1",
+                "--spring.jpa.hibernate.ddl-auto=update",
+                "--session.near-cache.ttl=" + NEAR_CACHE_TTL.toMillis() + "ms",
+                "--logging.level.root=WARN");
+    }
+
+    @Test
+    @DisplayName("한 인스턴스에서 로그인한 세션으로 다른 인스턴스의 API를 호출할 수 있다.")
+    void shareLoginSession() throws Exception {
+        // given
+        Member member = first.getBean(MemberRepository.class)
+            .save(new Member("email@email.com", "name", "pic.jpg"));
+        String sessionCookie = login(first, member.getMemberId());
+
+        // when
+        int actual = getLoginMember(second, sessionCookie);
+
+        // then
+        assertThat(actual).isEqualTo(200);
+        assertThat(getLoginMember(first, sessionCookie)).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("한 인스턴스에서 로그아웃하면 다른 인스턴스에서도 로컬 캐시 유지 시간 안에 세션이 만료된다.")
+    void logoutOnOtherInstance() throws Exception {
+        // given
+        Member member = first.getBean(MemberRepository.class)
+            .save(new Member("email@email.com", "name", "pic.jpg"));
+        String sessionCookie = login(first, member.getMemberId());
+        assertThat(getLoginMember(second, sessionCookie)).isEqualTo(200);
+
+        // when
+        send(second, "/api/auth/logout", sessionCookie, HttpRequest.newBuilder().GET());
+
+        // then
+        assertThat(getLoginMember(second, sessionCookie)).isEqualTo(401);
+        await().atMost(NEAR_CACHE_TTL.multipliedBy(3))
+            .untilAsserted(() -> assertThat(getLoginMember(first, sessionCookie))
+                .isEqualTo(401));
+    }
+
+    private String login(ConfigurableApplicationContext context, Long memberId)
+        throws IOException, InterruptedException {
+        HttpResponse<Void> response = send(context, "/load-test/login/" + memberId, null,
+            HttpRequest.newBuilder().POST(BodyPublishers.noBody()));
+
+        // 세션 쿠키는 secure 속성이 있어 http에서 자동으로 전송되지 않으므로 직접 헤더로 전송
+        return response.headers().firstValue("Set-Cookie").orElseThrow().split(";")[0];
+    }
+
+    private int getLoginMember(ConfigurableApplicationContext context, String sessionCookie)
+        throws IOException, InterruptedException {
+        return send(context, "/api/members", sessionCookie, HttpRequest.newBuilder().GET())
+            .statusCode();
+    }
+
+    private HttpResponse<Void> send(ConfigurableApplicationContext context, String path,
+        String sessionCookie, HttpRequest.Builder request)
+        throws IOException, InterruptedException {
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        request.uri(URI.create("http://localhost:" + port + path));
+        if (sessionCookie != null) {
+            request.header("Cookie", sessionCookie);
+        }
+        return httpClient.send(request.build(), BodyHandlers.discarding());
+    }
+}
@@ -0,0 +1,287 @@
+package agilementor.backlog.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import agilementor.backlog.dto.StoryBacklogCount;
+import agilementor.backlog.dto.response.BacklogGetResponse;
+import agilementor.backlog.entity.Backlog;
+import agilementor.backlog.entity.Priority;
+import agilementor.backlog.entity.Status;
+import agilementor.backlog.entity.Story;
+import agilementor.member.entity.Member;
+import agilementor.member.repository.MemberRepository;
+import agilementor.project.entity.Project;
+import agilementor.project.entity.ProjectMember;
+import agilementor.project.repository.ProjectMemberRepository;
+import agilementor.project.repository.ProjectRespository;
+import agilementor.sprint.dto.SprintBacklogCount;
+import agilementor.sprint.entity.Sprint;
+import agilementor.sprint.repository.SprintRepository;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+@DataJpaTest
+class BacklogRepositoryTest {
+
+    @Autowired
+    private BacklogRepository backlogRepository;
+
+    @Autowired
+    private SprintRepository sprintRepository;
+
+    @Autowired
+    private ProjectRespository projectRespository;
+
+    @Autowired
+    private StoryRepository storyRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ProjectMemberRepository projectMemberRepository;
+
+    private Backlog saveBacklog(Project project, Sprint sprint, Status status) {
+        return saveBacklog(project, sprint, null, status);
+    }
+
+    private Backlog saveBacklog(Project project, Sprint sprint, Story story, Status status) {
+        Backlog backlog = new Backlog("title", "desc", Priority.MEDIUM, project, sprint, story,
+            null);
+        backlog.update("title", "desc", status, Priority.MEDIUM, sprint, story, null);
+        return backlogRepository.save(backlog);
+    }
+
+    @Test
+    @DisplayName("프로젝트의 백로그 개수를 스프린트, 상태별로 집계할 수 있다.")
+    void countBySprintAndStatus() {
+        // given
+        Project project = projectRespository.save(new Project("project"));
+        Project otherProject = projectRespository.save(new Project("other"));
+        Sprint sprint1 = sprintRepository.save(new Sprint(project, "sprint1"));
+        Sprint sprint2 = sprintRepository.save(new Sprint(project, "sprint2"));
+
+        saveBacklog(project, sprint1, Status.DONE);
+        saveBacklog(project, sprint1, Status.DONE);
+        saveBacklog(project, sprint1, Status.TODO);
+        saveBacklog(project, sprint2, Status.DONE);
+        saveBacklog(project, null, Status.TODO);
+        saveBacklog(project, null, Status.IN_PROGRESS);
+        saveBacklog(otherProject, null, Status.DONE);
+
+        // when
+        List<SprintBacklogCount> actual = backlogRepository.countBySprintAndStatus(
+            project.getProjectId());
+
+        // then
+        assertThat(actual).containsExactlyInAnyOrder(
+            new SprintBacklogCount(sprint1.getId(), Status.DONE, 2L),
+            new SprintBacklogCount(sprint1.getId(), Status.TODO, 1L),
+            new SprintBacklogCount(sprint2.getId(), Status.DONE, 1L),
+            new SprintBacklogCount(null, Status.TODO, 1L),
+            new SprintBacklogCount(null, Status.IN_PROGRESS, 1L)
+        );
+    }
+
+    @Test
+    @DisplayName("프로젝트의 스토리별 전체, 완료된 백로그 수를 집계할 수 있다.")
+    void countByStoryOfProject() {
+        // given
+        Project project = projectRespository.save(new Project("project"));
+        Story story1 = storyRepository.save(new Story(project, "story1", "desc"));
+        Story story2 = storyRepository.save(new Story(project, "story2", "desc"));
+        storyRepository.save(new Story(project, "story3", "desc"));
+
+        saveBacklog(project, null, story1, Status.DONE);
+        saveBacklog(project, null, story1, Status.TODO);
+        saveBacklog(project, null, story2, Status.DONE);
+        saveBacklog(project, null, story2, Status.DONE);
+        saveBacklog(project, null, null, Status.DONE);
+
+        // when
+        List<StoryBacklogCount> actual = backlogRepository.countByStoryOfProject(
+            project.getProjectId());
+
+        // then
+        assertThat(actual).containsExactlyInAnyOrder(
+            new StoryBacklogCount(story1.getStoryId(), 2L, 1L),
+            new StoryBacklogCount(story2.getStoryId(), 2L, 2L)
+        );
+    }
+
+    @Test
+    @DisplayName("특정 스토리의 전체, 완료된 백로그 수를 집계할 수 있다.")
+    void countByStoryIds() {
+        // given
+        Project project = projectRespository.save(new Project("project"));
+        Story story1 = storyRepository.save(new Story(project, "story1", "desc"));
+        Story story2 = storyRepository.save(new Story(project, "story2", "desc"));
+
+        saveBacklog(project, null, story1, Status.DONE);
+        saveBacklog(project, null, story2, Status.TODO);
+
+        // when
+        List<StoryBacklogCount> actual = backlogRepository.countByStoryIds(
+            List.of(story1.getStoryId()));
+
+        // then
+        assertThat(actual).containsExactly(new StoryBacklogCount(story1.getStoryId(), 1L, 1L));
+    }
+
+    @Test
+    @DisplayName("백로그 목록을 DTO로 조회하며, 완료된 백로그는 종료되지 않은 스프린트에 속한 경우에만 조회한다.")
+    void findBacklogResponsesByProjectId() {
+        // given
+        Project project = projectRespository.save(new Project("project"));
+        Sprint sprint = sprintRepository.save(new Sprint(project, "sprint"));
+        Sprint doneSprint = new Sprint(project, "doneSprint");
+        doneSprint.complete();
+        doneSprint = sprintRepository.save(doneSprint);
+        Story story = storyRepository.save(new Story(project, "story", "desc"));
+
+        Backlog todoBacklog = saveBacklog(project, null, story, Status.TODO);
+        saveBacklog(project, null, null, Status.DONE);
+        Backlog inProgressBacklog = saveBacklog(project, sprint, null, Status.IN_PROGRESS);
+        Backlog doneBacklog = saveBacklog(project, sprint, null, Status.DONE);
+        saveBacklog(project, doneSprint, null, Status.DONE);
+
+        // when
+        List<BacklogGetResponse> actual = backlogRepository.findBacklogResponsesByProjectId(
+            project.getProjectId());
+
+        // then
+        assertThat(actual).containsExactlyInAnyOrder(
+            BacklogGetResponse.from(todoBacklog),
+            BacklogGetResponse.from(inProgressBacklog),
+            BacklogGetResponse.from(doneBacklog)
+        );
+    }
+
+    @Test
+    @DisplayName("스프린트의 백로그 목록을 DTO로 조회할 수 있다.")
+    void findBacklogResponsesBySprintId() {
+        // given
+        Project project = projectRespository.save(new Project("project"));
+        Sprint sprint = sprintRepository.save(new Sprint(project, "sprint"));
+        Sprint otherSprint = sprintRepository.save(new Sprint(project, "other"));
+
+        Backlog backlog1 = saveBacklog(project, sprint, null, Status.TODO);
+        Backlog backlog2 = saveBacklog(project, sprint, null, Status.DONE);
+        saveBacklog(project, otherSprint, null, Status.TODO);
+
+        // when
+        List<BacklogGetResponse> actual = backlogRepository.findBacklogResponsesBySprintId(
+            sprint.getId());
+
+        // then
+        assertThat(actual).containsExactlyInAnyOrder(
+            BacklogGetResponse.from(backlog1),
+            BacklogGetResponse.from(backlog2)
+        );
+    }
+
+    @Test
+    @DisplayName("스프린트의 완료되지 않은 백로그만 한 번에 백로그 목록으로 이동한다.")
+    void moveUnfinishedToProductBacklog() {
+        // given
+        Project project = projectRespository.save(new Project("project"));
+        Sprint sprint = sprintRepository.save(new Sprint(project, "sprint"));
+        Sprint otherSprint = sprintRepository.save(new Sprint(project, "other"));
+
+        Backlog todoBacklog = saveBacklog(project, sprint, Status.TODO);
+        Backlog inProgressBacklog = saveBacklog(project, sprint, Status.IN_PROGRESS);
+        Backlog doneBacklog = saveBacklog(project, sprint, Status.DONE);
+        Backlog otherBacklog = saveBacklog(project, otherSprint, Status.TODO);
+
+        // when
+        int actual = backlogRepository.moveUnfinishedToProductBacklog(sprint.getId());
+
+        // then
+        assertThat(actual).isEqualTo(2);
+        assertThat(findSprintId(todoBacklog)).isNull();
+        assertThat(findSprintId(inProgressBacklog)).isNull();
+        assertThat(findSprintId(doneBacklog)).isEqualTo(sprint.getId());
+        assertThat(findSprintId(otherBacklog)).isEqualTo(otherSprint.getId());
+    }
+
+    @Test
+    @DisplayName("스프린트의 모든 백로그를 한 번에 백로그 목록으로 이동한다.")
+    void moveAllToProductBacklog() {
+        // given
+        Project project = projectRespository.save(new Project("project"));
+        Sprint sprint = sprintRepository.save(new Sprint(project, "sprint"));
+        Sprint otherSprint = sprintRepository.save(new Sprint(project, "other"));
+
+        Backlog todoBacklog = saveBacklog(project, sprint, Status.TODO);
+        Backlog doneBacklog = saveBacklog(project, sprint, Status.DONE);
+        Backlog otherBacklog = saveBacklog(project, otherSprint, Status.TODO);
+
+        // when
+        int actual = backlogRepository.moveAllToProductBacklog(sprint.getId());
+
+        // then
+        assertThat(actual).isEqualTo(2);
+        assertThat(findSprintId(todoBacklog)).isNull();
+        assertThat(findSprintId(doneBacklog)).isNull();
+        assertThat(findSprintId(otherBacklog)).isEqualTo(otherSprint.getId());
+    }
+
+    @Test
+    @DisplayName("참여 중인 프로젝트의 활성 스프린트에서 회원에게 할당된 백로그만 프로젝트 참여 순서대로 조회한다.")
+    void findTaskResponsesByMemberId() {
+        // given
+        Member member = memberRepository.save(new Member("email@email.com", "name", "pic.jpg"));
+        Member other = memberRepository.save(new Member("other@email.com", "other", "pic.jpg"));
+        Project project1 = projectRespository.save(new Project("project1"));
+        Project project2 = projectRespository.save(new Project("project2"));
+        Project leftProject = projectRespository.save(new Project("left"));
+        // 프로젝트 ID 순서와 다르게 project2에 먼저 참여
+        projectMemberRepository.save(new ProjectMember(project2, member, true));
+        projectMemberRepository.save(new ProjectMember(project1, member, false));
+
+        Sprint activeSprint1 = startedSprint(project1);
+        Sprint activeSprint2 = startedSprint(project2);
+        Sprint inactiveSprint = sprintRepository.save(new Sprint(project1, "inactive"));
+        Sprint leftSprint = startedSprint(leftProject);
+
+        Backlog task1 = saveAssignedBacklog(project1, activeSprint1, member);
+        Backlog task2 = saveAssignedBacklog(project2, activeSprint2, member);
+        Backlog task3 = saveAssignedBacklog(project1, activeSprint1, member);
+        saveAssignedBacklog(project1, activeSprint1, other);
+        saveAssignedBacklog(project1, inactiveSprint, member);
+        saveAssignedBacklog(project1, null, member);
+        saveAssignedBacklog(leftProject, leftSprint, member);
+
+        // when
+        List<BacklogGetResponse> actual = backlogRepository.findTaskResponsesByMemberId(
+            member.getMemberId());
+
+        // then
+        assertThat(actual).containsExactly(
+            BacklogGetResponse.from(task2),
+            BacklogGetResponse.from(task1),
+            BacklogGetResponse.from(task3)
+        );
+    }
+
+    private Sprint startedSprint(Project project) {
+        Sprint sprint = new Sprint(project, "active");
+        sprint.start();
+        return sprintRepository.save(sprint);
+    }
+
+    private Backlog saveAssignedBacklog(Project project, Sprint sprint, Member assignee) {
+        return backlogRepository.save(new Backlog("title", "desc", Priority.MEDIUM, project,
+            sprint, null, assignee));
+    }
+
+    // 벌크 업데이트 후 영속성 컨텍스트가 비워졌으므로 DB에서 다시 조회
+    private Long findSprintId(Backlog backlog) {
+        Sprint sprint = backlogRepository.findById(backlog.getBacklogId()).orElseThrow()
+            .getSprint();
+        return sprint == null ? null : sprint.getId();
+    }
+}
@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 
 import agilementor.backlog.dto.request.BacklogCreateRequest;
 import agilementor.backlog.dto.request.BacklogUpdateRequest;
@@ -22,10 +23,13 @@ import agilementor.common.exception.SprintNotFoundException;
 import agilementor.common.exception.StoryNotFoundException;
 import agilementor.member.entity.Member;
 import agilementor.member.repository.MemberRepository;
+import agilementor.project.dto.ProjectMembership;
 import agilementor.project.entity.Project;
 import agilementor.project.entity.ProjectMember;
-import agilementor.project.repository.ProjectMemberRepository;
+import agilementor.project.service.ProjectMembershipCache;
+import agilementor.sprint.entity.BurndownSnapshot;
 import agilementor.sprint.entity.Sprint;
+import agilementor.sprint.repository.BurndownSnapshotRepository;
 import agilementor.sprint.repository.SprintRepository;
 import java.util.List;
 import java.util.Optional;
@@ -44,7 +48,7 @@ class BacklogServiceTest {
     private MemberRepository memberRepository;
 
     @Mock
-    private ProjectMemberRepository projectMemberRepository;
+    private ProjectMembershipCache projectMembershipCache;
 
     @Mock
     private SprintRepository sprintRepository;
@@ -55,6 +59,9 @@ class BacklogServiceTest {
     @Mock
     private StoryRepository storyRepository;
 
+    @Mock
+    private BurndownSnapshotRepository burndownSnapshotRepository;
+
     @InjectMocks
     private BacklogService backlogService;
 
@@ -82,8 +89,8 @@ class BacklogServiceTest {
 
         ReflectionTestUtils.setField(project, "projectId", projectId);
 
-        given(projectMemberRepository.findByMemberIdAndProjectId(memberId, projectId))
-            .willReturn(Optional.of(projectMember));
+        given(projectMembershipCache.find(memberId, projectId))
+            .willReturn(Optional.of(ProjectMembership.from(projectMember)));
         given(backlogRepository.save(any(Backlog.class))).willAnswer(invocationOnMock -> {
             Backlog backlog = invocationOnMock.getArgument(0);
             ReflectionTestUtils.setField(backlog, "backlogId", backlogId);
@@ -137,10 +144,10 @@ class BacklogServiceTest {
         ReflectionTestUtils.setField(story, "storyId", storyId);
         ReflectionTestUtils.setField(assignee, "memberId", assigneeId);
 
-        given(projectMemberRepository.findByMemberIdAndProjectId(memberId, projectId))
-            .willReturn(Optional.of(projectMember));
-        given(projectMemberRepository.findByMemberIdAndProjectId(assigneeId, projectId))
-            .willReturn(Optional.of(assigneeProjectMember));
+        given(projectMembershipCache.find(memberId, projectId))
+            .willReturn(Optional.of(ProjectMembership.from(projectMember)));
+        given(projectMembershipCache.find(assigneeId, projectId))
+            .willReturn(Optional.of(ProjectMembership.from(assigneeProjectMember)));
         given(sprintRepository.findByIdAndProject(sprintId, project))
             .willReturn(Optional.of(sprint));
         given(storyRepository.findByStoryIdAndProject(storyId, project))
@@ -183,7 +190,7 @@ class BacklogServiceTest {
         BacklogCreateRequest backlogCreateRequest = new BacklogCreateRequest(title, description,
             priority, sprintId, storyId, assigneeId);
 
-        given(projectMemberRepository.findByMemberIdAndProjectId(memberId, projectId))
+        given(projectMembershipCache.find(memberId, projectId))
             .willReturn(Optional.empty());
 
         // when
@@ -214,8 +221,8 @@ class BacklogServiceTest {
         Member member = new Member("email@email.com", "name", "pic.jpg");
         ProjectMember projectMember = new ProjectMember(project, member, true);
 
-        given(projectMemberRepository.findByMemberIdAndProjectId(memberId, projectId))
-            .willReturn(Optional.of(projectMember));
+        given(projectMembershipCache.find(memberId, projectId))
+            .willReturn(Optional.of(ProjectMembership.from(projectMember)));
         given(sprintRepository.findByIdAndProject(sprintId, project))
             .willReturn(Optional.empty());
 
@@ -247,8 +254,8 @@ class BacklogServiceTest {
         Member member = new Member("email@email.com", "name", "pic.jpg");
         ProjectMember projectMember = new ProjectMember(project, member, true);
 
-        given(projectMemberRepository.findByMemberIdAndProjectId(memberId, projectId))
-            .willReturn(Optional.of(projectMember));
+        given(projectMembershipCache.find(memberId, projectId))
+            .willReturn(Optional.of(ProjectMembership.from(projectMember)));
         given(storyRepository.findByStoryIdAndProject(storyId, project))
             .willReturn(Optional.empty());
 
@@ -280,9 +287,9 @@ class BacklogServiceTest {
         Member member = new Member("email@email.com", "name", "pic.jpg");
         ProjectMember projectMember = new ProjectMember(project, member, true);
 
-        given(projectMemberRepository.findByMemberIdAndProjectId(memberId, projectId))
-            .willReturn(Optional.of(projectMember));
-        given(projectMemberRepository.findByMemberIdAndProjectId(assigneeId, projectId))
+        given(projectMembershipCache.find(memberId, projectId))
+            .willReturn(Optional.of(ProjectMembership.from(projectMember)));
+        given(projectMembershipCache.find(assigneeId, projectId))
             .willReturn(Optional.empty());
 
         // when
@@ -298,57 +305,28 @@ class BacklogServiceTest {
         // given
         Long projectId = 1L;
         Long memberId = 1L;
-        Long sprintId = 1L;
 
         Project project = new Project("project");
         Member member = new Member("email@email.com", "name", "pic.jpg");
         ProjectMember projectMember = new ProjectMember(project, member, true);
-        Sprint sprint = new Sprint(project, "title");
-        Sprint doneSprint = new Sprint(project, "doneSprint");
-        doneSprint.complete();
 
-        ReflectionTestUtils.setField(sprint, "id", sprintId);
-
-        Backlog backlog1 = new Backlog("title", "desc", Priority.MEDIUM, project, null, null, null);
-        Backlog backlog2 = new Backlog("title", "desc", Priority.MEDIUM, project, null, null, null);
-        Backlog backlog3 = new Backlog("title", "desc", Priority.MEDIUM, project, null, null, null);
-        Backlog backlog4 = new Backlog("title", "desc", Priority.MEDIUM, project, sprint, null,
-            null);
-        Backlog backlog5 = new Backlog("title", "desc", Priority.MEDIUM, project, sprint, null,
-            null);
-        Backlog backlog6 = new Backlog("title", "desc", Priority.MEDIUM, project, sprint, null,
-            null);
-        Backlog backlog7 = new Backlog("title", "desc", Priority.MEDIUM, project, doneSprint, null,
-            null);
+        List<BacklogGetResponse> backlogList = List.of(
+            new BacklogGetResponse(1L, projectId, null, null, null, "title", "desc", Status.TODO,
+                Priority.MEDIUM),
+            new BacklogGetResponse(2L, projectId, 1L, null, null, "title", "desc", Status.DONE,
+                Priority.MEDIUM));
 
-        backlog2.update("title", "desc", Status.IN_PROGRESS, Priority.MEDIUM, null, null, null);
-        backlog3.update("title", "desc", Status.DONE, Priority.MEDIUM, null, null, null);
-        backlog5.update("title", "desc", Status.IN_PROGRESS, Priority.MEDIUM, sprint, null, null);
-        backlog6.update("title", "desc", Status.DONE, Priority.MEDIUM, sprint, null, null);
-        backlog7.update("title", "desc", Status.DONE, Priority.MEDIUM, doneSprint, null, null);
-
-        List<Backlog> backlogList = List.of(backlog1, backlog2, backlog3, backlog4, backlog5,
-            backlog6, backlog7);
-
-        given(projectMemberRepository.findByMemberIdAndProjectId(memberId, projectId))
-            .willReturn(Optional.of(projectMember));
-        given(backlogRepository.findByProject(project))
+        given(projectMembershipCache.find(memberId, projectId))
+            .willReturn(Optional.of(ProjectMembership.from(projectMember)));
+        given(backlogRepository.findBacklogResponsesByProjectId(projectId))
             .willReturn(backlogList);
 
         // when
         List<BacklogGetResponse> actual = backlogService.getBacklogList(memberId, projectId);
 
         // then
-        assertThat(actual.size()).isEqualTo(5);
-        assertThat(actual.stream()
-            .filter(backlogGetResponse -> backlogGetResponse.sprintId() == null)
-            .toList().size()).isEqualTo(2);
-        assertThat(actual.stream()
-            .filter(backlogGetResponse -> backlogGetResponse.sprintId() != null)
-            .toList().size()).isEqualTo(3);
-        assertThat(actual.stream()
-            .filter(backlogGetResponse -> backlogGetResponse.status() == Status.DONE)
-            .toList().size()).isEqualTo(1);
+        assertThat(actual).isEqualTo(backlogList);
+        then(backlogRepository).should(never()).findByProject(any());
     }
 
     @Test
@@ -358,7 +336,7 @@ class BacklogServiceTest {
         Long projectId = 1L;
         Long memberId = 1L;
 
-        given(projectMemberRepository.findByMemberIdAndProjectId(memberId, projectId))
+        given(projectMembershipCache.find(memberId, projectId))
             .willReturn(Optional.empty());
 
         // when
@@ -395,8 +373,8 @@ class BacklogServiceTest {
 
         ReflectionTestUtils.setField(backlog, "backlogId", backlogId);
 
-        given(projectMemberRepository.findByMemberIdAndProjectId(memberId, projectId))
-            .willReturn(Optional.of(projectMember));
+        given(projectMembershipCache.find(memberId, projectId))
+            .willReturn(Optional.of(ProjectMembership.from(projectMember)));
         given(backlogRepository.findById(backlogId))
             .willReturn(Optional.of(backlog));
 
@@ -418,7 +396,7 @@ class BacklogServiceTest {
         Long memberId = 1L;
         Long backlogId = 1L;
 
-        given(projectMemberRepository.findByMemberIdAndProjectId(memberId, projectId))
+        given(projectMembershipCache.find(memberId, projectId))
             .willReturn(Optional.empty());
 
         // when
@@ -440,8 +418,8 @@ class BacklogServiceTest {
         Member member = new Member("email@email.com", "name", "pic.jpg");
         ProjectMember projectMember = new ProjectMember(project, member, true);
 
-        given(projectMemberRepository.findByMemberIdAndProjectId(memberId, projectId))
-            .willReturn(Optional.of(projectMember));
+        given(projectMembershipCache.find(memberId, projectId))
+            .willReturn(Optional.of(ProjectMembership.from(projectMember)));
         given(backlogRepository.findById(backlogId))
             .willReturn(Optional.empty());
 
@@ -479,8 +457,8 @@ class BacklogServiceTest {
         ReflectionTestUtils.setField(project, "projectId", projectId);
         ReflectionTestUtils.setField(backlog, "backlogId", backlogId);
 
-        given(projectMemberRepository.findByMemberIdAndProjectId(memberId, projectId))
-            .willReturn(Optional.of(projectMember));
+        given(projectMembershipCache.find(memberId, projectId))
+            .willReturn(Optional.of(ProjectMembership.from(projectMember)));
         given(backlogRepository.findByBacklogIdAndProject(backlogId, project))
             .willReturn(Optional.of(backlog));
 
@@ -500,6 +478,44 @@ class BacklogServiceTest {
         assertThat(actual.memberId()).isNull();
     }
 
+    @Test
+    @DisplayName("완료된 스프린트의 완료된 백로그 상태를 바꾸면 번다운 스냅샷이 갱신된다.")
+    void updateBacklogInCompletedSprint() {
+        // given
+        Long backlogId = 1L;
+        Long projectId = 1L;
+        Long memberId = 1L;
+        Long sprintId = 1L;
+
+        BacklogUpdateRequest backlogUpdateRequest = new BacklogUpdateRequest("title", "desc",
+            Status.IN_PROGRESS, Priority.MEDIUM, sprintId, null, null);
+
+        Project project = new Project("project");
+        Member member = new Member("email@email.com", "name", "pic.jpg");
+        ProjectMember projectMember = new ProjectMember(project, member, true);
+        Sprint doneSprint = new Sprint(project, "doneSprint");
+        doneSprint.complete();
+        Backlog backlog = new Backlog("title", "desc", Priority.MEDIUM, project, doneSprint, null,
+            null);
+        backlog.update("title", "desc", Status.DONE, Priority.MEDIUM, doneSprint, null, null);
+        BurndownSnapshot snapshot = new BurndownSnapshot(project, doneSprint, 3L);
+
+        given(projectMembershipCache.find(memberId, projectId))
+            .willReturn(Optional.of(ProjectMembership.from(projectMember)));
+        given(backlogRepository.findByBacklogIdAndProject(backlogId, project))
+            .willReturn(Optional.of(backlog));
+        given(sprintRepository.findByIdAndProject(sprintId, project))
+            .willReturn(Optional.of(doneSprint));
+        given(burndownSnapshotRepository.findBySprint(doneSprint))
+            .willReturn(Optional.of(snapshot));
+
+        // when
+        backlogService.updateBacklog(memberId, projectId, backlogId, backlogUpdateRequest);
+
+        // then
+        assertThat(snapshot.getCompletedBacklogs()).isEqualTo(2L);
+    }
+
     @Test
     @DisplayName("스프린트, 스토리, 담당자를 지정하여 백로그를 수정할 수 있다.")
     void updateBacklogWithSprintAndStoryAndAssignee() {
@@ -535,10 +551,10 @@ class BacklogServiceTest {
         ReflectionTestUtils.setField(assignee, "memberId", assigneeId);
         ReflectionTestUtils.setField(backlog, "backlogId", backlogId);
 
-        given(projectMemberRepository.findByMemberIdAndProjectId(memberId, projectId))
-            .willReturn(Optional.of(projectMember));
-        given(projectMemberRepository.findByMemberIdAndProjectId(assigneeId, projectId))
-            .willReturn(Optional.of(assigneeProjectMember));
+        given(projectMembershipCache.find(memberId, projectId))
+            .willReturn(Optional.of(ProjectMembership.from(projectMember)));
+        given(projectMembershipCache.find(assigneeId, projectId))
+            .willReturn(Optional.of(ProjectMembership.from(assigneeProjectMember)));
         given(sprintRepository.findByIdAndProject(sprintId, project))
             .willReturn(Optional.of(sprint));
         given(storyRepository.findByStoryIdAndProject(storyId, project))
@@ -581,7 +597,7 @@ class BacklogServiceTest {
         BacklogUpdateRequest backlogUpdateRequest = new BacklogUpdateRequest(title, description,
             status, priority, sprintId, storyId, assigneeId);
 
-        given(projectMemberRepository.findByMemberIdAndProjectId(memberId, projectId))
+        given(projectMembershipCache.find(memberId, projectId))
             .willReturn(Optional.empty());
 
         // when
@@ -615,8 +631,8 @@ class BacklogServiceTest {
         Member member = new Member("email@email.com", "name", "pic.jpg");
         ProjectMember projectMember = new ProjectMember(project, member, true);
 
-        given(projectMemberRepository.findByMemberIdAndProjectId(memberId, projectId))
-            .willReturn(Optional.of(projectMember));
+        given(projectMembershipCache.find(memberId, projectId))
+            .willReturn(Optional.of(ProjectMembership.from(projectMember)));
         given(backlogRepository.findByBacklogIdAndProject(backlogId, project))
             .willReturn(Optional.empty());
 
@@ -652,8 +668,8 @@ class BacklogServiceTest {
         ProjectMember projectMember = new ProjectMember(project, member, true);
         Backlog backlog = new Backlog("title", "desc", Priority.MEDIUM, project, null, null, null);
 
-        given(projectMemberRepository.findByMemberIdAndProjectId(memberId, projectId))
-            .willReturn(Optional.of(projectMember));
+        given(projectMembershipCache.find(memberId, projectId))
+            .willReturn(Optional.of(ProjectMembership.from(projectMember)));
         given(backlogRepository.findByBacklogIdAndProject(backlogId, project))
             .willReturn(Optional.of(backlog));
         given(sprintRepository.findByIdAndProject(sprintId, project))
@@ -692,8 +708,8 @@ class BacklogServiceTest {
         Backlog backlog = new Backlog("title", "desc", Priority.MEDIUM, project, null, null, null);
         Sprint sprint = new Sprint(project, "title");
 
-        given(projectMemberRepository.findByMemberIdAndProjectId(memberId, projectId))
-            .willReturn(Optional.of(projectMember));
+        given(projectMembershipCache.find(memberId, projectId))
+            .willReturn(Optional.of(ProjectMembership.from(projectMember)));
         given(backlogRepository.findByBacklogIdAndProject(backlogId, project))
             .willReturn(Optional.of(backlog));
         given(sprintRepository.findByIdAndProject(sprintId, project))
@@ -735,15 +751,15 @@ class BacklogServiceTest {
         Sprint sprint = new Sprint(project, "title");
         Story story = new Story(project, "title", "description");
 
-        given(projectMemberRepository.findByMemberIdAndProjectId(memberId, projectId))
-            .willReturn(Optional.of(projectMember));
+        given(projectMembershipCache.find(memberId, projectId))
+            .willReturn(Optional.of(ProjectMembership.from(projectMember)));
         given(backlogRepository.findByBacklogIdAndProject(backlogId, project))
             .willReturn(Optional.of(backlog));
         given(sprintRepository.findByIdAndProject(sprintId, project))
             .willReturn(Optional.of(sprint));
         given(storyRepository.findByStoryIdAndProject(storyId, project))
             .willReturn(Optional.of(story));
-        given(projectMemberRepository.findByMemberIdAndProjectId(assigneeId, projectId))
+        given(projectMembershipCache.find(assigneeId, projectId))
             .willReturn(Optional.empty());
 
         // when
@@ -767,8 +783,8 @@ class BacklogServiceTest {
         ProjectMember projectMember = new ProjectMember(project, member, true);
         Backlog backlog = new Backlog("title", "desc", Priority.MEDIUM, project, null, null, null);
 
-        given(projectMemberRepository.findByMemberIdAndProjectId(memberId, projectId))
-            .willReturn(Optional.of(projectMember));
+        given(projectMembershipCache.find(memberId, projectId))
+            .willReturn(Optional.of(ProjectMembership.from(projectMember)));
         given(backlogRepository.findByBacklogIdAndProject(backlogId, project))
             .willReturn(Optional.of(backlog));
 
@@ -790,7 +806,7 @@ class BacklogServiceTest {
         Project project = new Project("project");
         Member member = new Member("email@email.com", "name", "pic.jpg");
 
-        given(projectMemberRepository.findByMemberIdAndProjectId(memberId, projectId))
+        given(projectMembershipCache.find(memberId, projectId))
             .willReturn(Optional.empty());
 
         // when
@@ -811,8 +827,8 @@ class BacklogServiceTest {
         Member member = new Member("email@email.com", "name", "pic.jpg");
         ProjectMember projectMember = new ProjectMember(project, member, true);
 
-        given(projectMemberRepository.findByMemberIdAndProjectId(memberId, projectId))
-            .willReturn(Optional.of(projectMember));
+        given(projectMembershipCache.find(memberId, projectId))
+            .willReturn(Optional.of(ProjectMembership.from(projectMember)));
         given(backlogRepository.findByBacklogIdAndProject(backlogId, project))
             .willReturn(Optional.empty());
 
@@ -833,20 +849,22 @@ class BacklogServiceTest {
         Member member = new Member("email@email.com", "name", "pic.jpg");
         ProjectMember projectMember = new ProjectMember(project, member, true);
 
+        Long sprintId = 1L;
         Sprint activeSprint = new Sprint(project, "activeSprint");
-        Backlog backlog1 = new Backlog("title", "desc", Priority.MEDIUM, project, activeSprint,
-            null, null);
-        Backlog backlog2 = new Backlog("title", "desc", Priority.MEDIUM, project, activeSprint,
-            null, null);
-        Backlog backlog3 = new Backlog("title", "desc", Priority.MEDIUM, project, activeSprint,
-            null, null);
-        List<Backlog> backlogList = List.of(backlog1, backlog2, backlog3);
-
-        given(projectMemberRepository.findByMemberIdAndProjectId(memberId, projectId))
-            .willReturn(Optional.of(projectMember));
+        ReflectionTestUtils.setField(activeSprint, "id", sprintId);
+        List<BacklogGetResponse> backlogList = List.of(
+            new BacklogGetResponse(1L, projectId, sprintId, null, null, "title", "desc",
+                Status.TODO, Priority.MEDIUM),
+            new BacklogGetResponse(2L, projectId, sprintId, null, null, "title", "desc",
+                Status.TODO, Priority.MEDIUM),
+            new BacklogGetResponse(3L, projectId, sprintId, null, null, "title", "desc",
+                Status.TODO, Priority.MEDIUM));
+
+        given(projectMembershipCache.find(memberId, projectId))
+            .willReturn(Optional.of(ProjectMembership.from(projectMember)));
         given(sprintRepository.findByProjectAndIsActivateTrue(project))
             .willReturn(Optional.of(activeSprint));
-        given(backlogRepository.findBySprint(activeSprint))
+        given(backlogRepository.findBacklogResponsesBySprintId(sprintId))
             .willReturn(backlogList);
 
         // when
@@ -863,7 +881,7 @@ class BacklogServiceTest {
         Long projectId = 1L;
         Long memberId = 1L;
 
-        given(projectMemberRepository.findByMemberIdAndProjectId(memberId, projectId))
+        given(projectMembershipCache.find(memberId, projectId))
             .willReturn(Optional.empty());
 
         // when
@@ -883,8 +901,8 @@ class BacklogServiceTest {
         Member member = new Member("email@email.com", "name", "pic.jpg");
         ProjectMember projectMember = new ProjectMember(project, member, true);
 
-        given(projectMemberRepository.findByMemberIdAndProjectId(memberId, projectId))
-            .willReturn(Optional.of(projectMember));
+        given(projectMembershipCache.find(memberId, projectId))
+            .willReturn(Optional.of(ProjectMembership.from(projectMember)));
         given(sprintRepository.findByProjectAndIsActivateTrue(project))
             .willReturn(Optional.empty());
 
@@ -899,50 +917,30 @@ class BacklogServiceTest {
     void getTasks() {
         Long memberId = 1L;
 
-        Member member = new Member("email@email.com", "name", "pic.jpg");
-
         Project project1 = new Project("project");
         Project project2 = new Project("project");
-        Project project3 = new Project("project");
-
-        ProjectMember projectMember1 = new ProjectMember(project1, member, true);
-        ProjectMember projectMember2 = new ProjectMember(project2, member, false);
-        ProjectMember projectMember3 = new ProjectMember(project3, member, false);
-        List<ProjectMember> projectMemberList = List.of(projectMember1, projectMember2,
-            projectMember3);
-
         Sprint activeSprint1 = new Sprint(project1, "sprint", "goal");
         Sprint activeSprint2 = new Sprint(project2, "sprint", "goal");
 
-        Backlog backlog1 = new Backlog("title", "desc", Priority.MEDIUM, project1, activeSprint1,
-            null, null);
-        Backlog backlog2 = new Backlog("title", "desc", Priority.MEDIUM, project2, activeSprint2,
-            null, null);
-        Backlog backlog3 = new Backlog("title", "desc", Priority.MEDIUM, project2, activeSprint2,
-            null, null);
-        List<Backlog> backlogList1 = List.of(backlog1);
-        List<Backlog> backlogList2 = List.of(backlog2, backlog3);
-
-        given(memberRepository.findById(memberId))
-            .willReturn(Optional.of(member));
-        given(projectMemberRepository.findByMemberId(memberId))
-            .willReturn(projectMemberList);
-        given(sprintRepository.findByProjectAndIsActivateTrue(project1))
-            .willReturn(Optional.of(activeSprint1));
-        given(sprintRepository.findByProjectAndIsActivateTrue(project2))
-            .willReturn(Optional.of(activeSprint2));
-        given(sprintRepository.findByProjectAndIsActivateTrue(project3))
-            .willReturn(Optional.empty());
-        given(backlogRepository.findByAssigneeAndSprint(member, activeSprint1))
-            .willReturn(backlogList1);
-        given(backlogRepository.findByAssigneeAndSprint(member, activeSprint2))
-            .willReturn(backlogList2);
+        List<BacklogGetResponse> tasks = List.of(
+            BacklogGetResponse.from(new Backlog("title", "desc", Priority.MEDIUM, project1,
+                activeSprint1, null, null)),
+            BacklogGetResponse.from(new Backlog("title", "desc", Priority.MEDIUM, project2,
+                activeSprint2, null, null)),
+            BacklogGetResponse.from(new Backlog("title", "desc", Priority.MEDIUM, project2,
+                activeSprint2, null, null)));
+
+        given(memberRepository.existsById(memberId))
+            .willReturn(true);
+        given(backlogRepository.findTaskResponsesByMemberId(memberId))
+            .willReturn(tasks);
 
         // when
         List<BacklogGetResponse> actual = backlogService.getTasks(memberId);
 
         // then
         assertThat(actual.size()).isEqualTo(3);
+        then(sprintRepository).shouldHaveNoInteractions();
     }
 
     @Test
@@ -950,8 +948,8 @@ class BacklogServiceTest {
     void getTasksFailIfNotMember() {
         Long memberId = 0L;
 
-        given(memberRepository.findById(memberId))
-            .willReturn(Optional.empty());
+        given(memberRepository.existsById(memberId))
+            .willReturn(false);
 
         // when
         // then
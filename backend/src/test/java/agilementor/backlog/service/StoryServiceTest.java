@@ -5,7 +5,9 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 
+import agilementor.backlog.dto.StoryBacklogCount;
 import agilementor.backlog.dto.request.StoryCreateRequest;
 import agilementor.backlog.dto.request.StoryUpdateRequest;
 import agilementor.backlog.dto.response.StoryGetResponse;
@@ -18,9 +20,10 @@ import agilementor.backlog.repository.StoryRepository;
 import agilementor.common.exception.ProjectNotFoundException;
 import agilementor.common.exception.StoryNotFoundException;
 import agilementor.member.entity.Member;
+import agilementor.project.dto.ProjectMembership;
 import agilementor.project.entity.Project;
 import agilementor.project.entity.ProjectMember;
-import agilementor.project.repository.ProjectMemberRepository;
+import agilementor.project.service.ProjectMembershipCache;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
@@ -35,7 +38,7 @@ import org.springframework.test.util.ReflectionTestUtils;
 class StoryServiceTest {
 
     @Mock
-    private ProjectMemberRepository projectMemberRepository;
+    private ProjectMembershipCache projectMembershipCache;
 
     @Mock
     private StoryRepository storyRepository;
@@ -63,8 +66,8 @@ class StoryServiceTest {
 
         ReflectionTestUtils.setField(project, "projectId", projectId);
 
-        given(projectMemberRepository.findByMemberIdAndProjectId(memberId, projectId))
-            .willReturn(Optional.of(projectMember));
+        given(projectMembershipCache.find(memberId, projectId))
+            .willReturn(Optional.of(ProjectMembership.from(projectMember)));
         given(storyRepository.save(any()))
             .willReturn(new Story(project, title, description));
 
@@ -90,7 +93,7 @@ class StoryServiceTest {
 
         StoryCreateRequest storyCreateRequest = new StoryCreateRequest(title, description);
 
-        given(projectMemberRepository.findByMemberIdAndProjectId(memberId, projectId))
+        given(projectMembershipCache.find(memberId, projectId))
             .willReturn(Optional.empty());
 
         // when
@@ -114,31 +117,19 @@ class StoryServiceTest {
         Story story2 = new Story(project, "story2", "story1");
         Story story3 = new Story(project, "story3", "story1");
 
+        ReflectionTestUtils.setField(story1, "storyId", 1L);
+        ReflectionTestUtils.setField(story2, "storyId", 2L);
+        ReflectionTestUtils.setField(story3, "storyId", 3L);
+
         List<Story> storyList = List.of(story1, story2, story3);
 
-        Backlog todoBacklog = new Backlog("title", "desc", Priority.MEDIUM, project, null, story2,
-            null);
-        Backlog doneBacklog1 = new Backlog("title", "desc", Priority.MEDIUM, project, null, story2,
-            null);
-        Backlog doneBacklog2 = new Backlog("title", "desc", Priority.MEDIUM, project, null, story3,
-            null);
-        Backlog doneBacklog3 = new Backlog("title", "desc", Priority.MEDIUM, project, null, story3,
-            null);
-
-        doneBacklog1.update("title", "desc", Status.DONE, Priority.MEDIUM, null, story2, member);
-        doneBacklog2.update("title", "desc", Status.DONE, Priority.MEDIUM, null, story3, member);
-        doneBacklog3.update("title", "desc", Status.DONE, Priority.MEDIUM, null, story3, member);
-
-        given(projectMemberRepository.findByMemberIdAndProjectId(memberId, projectId))
-            .willReturn(Optional.of(projectMember));
+        given(projectMembershipCache.find(memberId, projectId))
+            .willReturn(Optional.of(ProjectMembership.from(projectMember)));
         given(storyRepository.findByProject(project))
             .willReturn(storyList);
-        given(backlogRepository.findByStory(story1))
-            .willReturn(List.of());
-        given(backlogRepository.findByStory(story2))
-            .willReturn(List.of(todoBacklog, doneBacklog1));
-        given(backlogRepository.findByStory(story3))
-            .willReturn(List.of(doneBacklog2, doneBacklog3));
+        given(backlogRepository.countByStoryOfProject(projectId))
+            .willReturn(List.of(new StoryBacklogCount(2L, 2L, 1L),
+                new StoryBacklogCount(3L, 2L, 2L)));
 
         // when
         List<StoryGetResponse> actual = storyService.getStoryList(memberId, projectId);
@@ -154,6 +145,7 @@ class StoryServiceTest {
 
         StoryGetResponse storyResponse3 = actual.get(2);
         assertThat(storyResponse3.status()).isEqualTo(Status.DONE);
+        then(backlogRepository).should(never()).findByStory(any());
     }
 
     @Test
@@ -163,7 +155,7 @@ class StoryServiceTest {
         long projectId = 1L;
         long memberId = 1L;
 
-        given(projectMemberRepository.findByMemberIdAndProjectId(memberId, projectId))
+        given(projectMembershipCache.find(memberId, projectId))
             .willReturn(Optional.empty());
 
         // when
@@ -190,21 +182,12 @@ class StoryServiceTest {
         Story story2 = new Story(project, "story2", "story1");
         Story story3 = new Story(project, "story3", "story1");
 
-        Backlog todoBacklog = new Backlog("title", "desc", Priority.MEDIUM, project, null, story2,
-            null);
-        Backlog doneBacklog1 = new Backlog("title", "desc", Priority.MEDIUM, project, null, story2,
-            null);
-        Backlog doneBacklog2 = new Backlog("title", "desc", Priority.MEDIUM, project, null, story3,
-            null);
-        Backlog doneBacklog3 = new Backlog("title", "desc", Priority.MEDIUM, project, null, story3,
-            null);
+        ReflectionTestUtils.setField(story1, "storyId", storyId1);
+        ReflectionTestUtils.setField(story2, "storyId", storyId2);
+        ReflectionTestUtils.setField(story3, "storyId", storyId3);
 
-        doneBacklog1.update("title", "desc", Status.DONE, Priority.MEDIUM, null, story2, member);
-        doneBacklog2.update("title", "desc", Status.DONE, Priority.MEDIUM, null, story3, member);
-        doneBacklog3.update("title", "desc", Status.DONE, Priority.MEDIUM, null, story3, member);
-
-        given(projectMemberRepository.findByMemberIdAndProjectId(memberId, projectId))
-            .willReturn(Optional.of(projectMember));
+        given(projectMembershipCache.find(memberId, projectId))
+            .willReturn(Optional.of(ProjectMembership.from(projectMember)));
 
         given(storyRepository.findByStoryIdAndProject(storyId1, project))
             .willReturn(Optional.of(story1));
@@ -213,12 +196,12 @@ class StoryServiceTest {
         given(storyRepository.findByStoryIdAndProject(storyId3, project))
             .willReturn(Optional.of(story3));
 
-        given(backlogRepository.findByStory(story1))
+        given(backlogRepository.countByStoryIds(List.of(storyId1)))
             .willReturn(List.of());
-        given(backlogRepository.findByStory(story2))
-            .willReturn(List.of(todoBacklog, doneBacklog1));
-        given(backlogRepository.findByStory(story3))
-            .willReturn(List.of(doneBacklog2, doneBacklog3));
+        given(backlogRepository.countByStoryIds(List.of(storyId2)))
+            .willReturn(List.of(new StoryBacklogCount(storyId2, 2L, 1L)));
+        given(backlogRepository.countByStoryIds(List.of(storyId3)))
+            .willReturn(List.of(new StoryBacklogCount(storyId3, 2L, 2L)));
 
         // when
         StoryGetResponse actual1 = storyService.getStory(memberId, projectId, storyId1);
@@ -239,7 +222,7 @@ class StoryServiceTest {
         long memberId = 1L;
         long storyId = 1L;
 
-        given(projectMemberRepository.findByMemberIdAndProjectId(memberId, projectId))
+        given(projectMembershipCache.find(memberId, projectId))
             .willReturn(Optional.empty());
 
         // when
@@ -260,8 +243,8 @@ class StoryServiceTest {
         Member member = new Member("email@email.com", "name", "pic.jpg");
         ProjectMember projectMember = new ProjectMember(project, member, true);
 
-        given(projectMemberRepository.findByMemberIdAndProjectId(memberId, projectId))
-            .willReturn(Optional.of(projectMember));
+        given(projectMembershipCache.find(memberId, projectId))
+            .willReturn(Optional.of(ProjectMembership.from(projectMember)));
         given(storyRepository.findByStoryIdAndProject(storyId, project))
             .willReturn(Optional.empty());
 
@@ -289,14 +272,15 @@ class StoryServiceTest {
         ProjectMember projectMember = new ProjectMember(project, member, true);
 
         Story story = new Story(project, "story", "story");
+        ReflectionTestUtils.setField(story, "storyId", storyId);
 
-        given(projectMemberRepository.findByMemberIdAndProjectId(memberId, projectId))
-            .willReturn(Optional.of(projectMember));
+        given(projectMembershipCache.find(memberId, projectId))
+            .willReturn(Optional.of(ProjectMembership.from(projectMember)));
 
         given(storyRepository.findByStoryIdAndProject(storyId, project))
             .willReturn(Optional.of(story));
 
-        given(backlogRepository.findByStory(story))
+        given(backlogRepository.countByStoryIds(List.of(storyId)))
             .willReturn(List.of());
 
         // when
@@ -320,7 +304,7 @@ class StoryServiceTest {
 
         StoryUpdateRequest storyUpdateRequest = new StoryUpdateRequest(newTitle, newDescription);
 
-        given(projectMemberRepository.findByMemberIdAndProjectId(memberId, projectId))
+        given(projectMembershipCache.find(memberId, projectId))
             .willReturn(Optional.empty());
 
         // when
@@ -347,8 +331,8 @@ class StoryServiceTest {
         Member member = new Member("email@email.com", "name", "pic.jpg");
         ProjectMember projectMember = new ProjectMember(project, member, true);
 
-        given(projectMemberRepository.findByMemberIdAndProjectId(memberId, projectId))
-            .willReturn(Optional.of(projectMember));
+        given(projectMembershipCache.find(memberId, projectId))
+            .willReturn(Optional.of(ProjectMembership.from(projectMember)));
         given(storyRepository.findByStoryIdAndProject(storyId, project))
             .willReturn(Optional.empty());
 
@@ -375,8 +359,8 @@ class StoryServiceTest {
 
         Backlog backlog = new Backlog("title", "desc", Priority.MEDIUM, project, null, story, null);
 
-        given(projectMemberRepository.findByMemberIdAndProjectId(memberId, projectId))
-            .willReturn(Optional.of(projectMember));
+        given(projectMembershipCache.find(memberId, projectId))
+            .willReturn(Optional.of(ProjectMembership.from(projectMember)));
 
         given(storyRepository.findByStoryIdAndProject(storyId, project))
             .willReturn(Optional.of(story));
@@ -400,7 +384,7 @@ class StoryServiceTest {
         long memberId = 1L;
         long storyId = 1L;
 
-        given(projectMemberRepository.findByMemberIdAndProjectId(memberId, projectId))
+        given(projectMembershipCache.find(memberId, projectId))
             .willReturn(Optional.empty());
 
         // when
@@ -422,8 +406,8 @@ class StoryServiceTest {
         Member member = new Member("email@email.com", "name", "pic.jpg");
         ProjectMember projectMember = new ProjectMember(project, member, true);
 
-        given(projectMemberRepository.findByMemberIdAndProjectId(memberId, projectId))
-            .willReturn(Optional.of(projectMember));
+        given(projectMembershipCache.find(memberId, projectId))
+            .willReturn(Optional.of(ProjectMembership.from(projectMember)));
         given(storyRepository.findByStoryIdAndProject(storyId, project))
             .willReturn(Optional.empty());
 
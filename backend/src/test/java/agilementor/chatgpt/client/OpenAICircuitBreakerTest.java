@@ -0,0 +1,87 @@
+package agilementor.chatgpt.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import agilementor.chatgpt.client.OpenAICircuitBreaker.State;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class OpenAICircuitBreakerTest {
+
+    private Instant now = Instant.parse("2024-11-01T00:00:00Z");
+
+    private final Clock clock = new Clock() {
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("UTC");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    };
+
+    @Test
+    @DisplayName("시험 요청이 진행 중이면 다른 요청은 허용하지 않고, 시험 요청이 실패하면 다시 회로를 연다.")
+    void halfOpen() {
+        // given
+        OpenAICircuitBreaker circuitBreaker = new OpenAICircuitBreaker(1, Duration.ofSeconds(30),
+            clock);
+        circuitBreaker.onFailure();
+        now = now.plusSeconds(30);
+
+        // when
+        boolean trial = circuitBreaker.tryAcquirePermission();
+        boolean other = circuitBreaker.tryAcquirePermission();
+        circuitBreaker.onFailure();
+
+        // then
+        assertThat(trial).isTrue();
+        assertThat(other).isFalse();
+        assertThat(circuitBreaker.getState()).isEqualTo(State.OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    @DisplayName("시험 요청이 취소되면 다음 요청이 다시 시험 요청이 된다.")
+    void cancelTrial() {
+        // given
+        OpenAICircuitBreaker circuitBreaker = new OpenAICircuitBreaker(1, Duration.ofSeconds(30),
+            clock);
+        circuitBreaker.onFailure();
+        now = now.plusSeconds(30);
+        circuitBreaker.tryAcquirePermission();
+
+        // when
+        circuitBreaker.onCancel();
+
+        // then
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+    }
+
+    @Test
+    @DisplayName("성공하면 연속 실패 수를 초기화한다.")
+    void resetFailuresOnSuccess() {
+        // given
+        OpenAICircuitBreaker circuitBreaker = new OpenAICircuitBreaker(2, Duration.ofSeconds(30),
+            clock);
+        circuitBreaker.onFailure();
+
+        // when
+        circuitBreaker.onSuccess();
+        circuitBreaker.onFailure();
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+    }
+}
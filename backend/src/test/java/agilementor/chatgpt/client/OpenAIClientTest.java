@@ -0,0 +1,232 @@
+package agilementor.chatgpt.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import agilementor.chatgpt.client.OpenAICircuitBreaker.State;
+import agilementor.chatgpt.dto.GPTResponse;
+import agilementor.chatgpt.properties.OpenAIClientProperties;
+import agilementor.chatgpt.util.GPTMetrics;
+import agilementor.common.exception.ExternalServerErrorException;
+import agilementor.common.exception.GPTUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+class OpenAIClientTest {
+
+    private static final Map<String, Object> PAYLOAD = Map.of("model", "gpt-4o-mini");
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private MockWebServer openAiServer;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        openAiServer = new MockWebServer();
+        openAiServer.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        openAiServer.shutdown();
+    }
+
+    private OpenAIClient createClient(int maxRetries, Duration readTimeout, Duration maxBackoff,
+        int failureThreshold, Duration openDuration) {
+        return new OpenAIClient(WebClient.builder(),
+            new OpenAIClientProperties(Duration.ofSeconds(1), readTimeout, maxRetries,
+                Duration.ofMillis(10), maxBackoff, failureThreshold, openDuration),
+            meterRegistry, new GPTMetrics(meterRegistry), openAiServer.url("/v1").toString(),
+            "key");
+    }
+
+    private OpenAIClient createClient(int maxRetries) {
+        return createClient(maxRetries, Duration.ofSeconds(1), Duration.ofMillis(50), 5,
+            Duration.ofSeconds(30));
+    }
+
+    private static MockResponse successResponse() {
+        return new MockResponse()
+            .setHeader("Content-Type", "application/json")
+            .setBody("{\"choices\": [{\"message\": {\"content\": \"{}\"}}]}");
+    }
+
+    @Test
+    @DisplayName("서버 오류가 발생하면 재시도하여 응답을 받는다.")
+    void retryOnServerError() {
+        // given
+        OpenAIClient client = createClient(2);
+        openAiServer.enqueue(new MockResponse().setResponseCode(500));
+        openAiServer.enqueue(new MockResponse().setResponseCode(503));
+        openAiServer.enqueue(successResponse());
+
+        // when
+        GPTResponse actual = client.requestChatCompletion(PAYLOAD).block();
+
+        // then
+        assertThat(actual.getChoices()[0].getMessage().getContent()).isEqualTo("{}");
+        assertThat(openAiServer.getRequestCount()).isEqualTo(3);
+        assertThat(meterRegistry.get("openai.requests")
+            .tags("type", "completion", "outcome", "success").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재시도 횟수를 모두 사용하면 ExternalServerErrorException이 발생한다.")
+    void failIfRetriesExhausted() {
+        // given
+        OpenAIClient client = createClient(2);
+        for (int i = 0; i < 3; i++) {
+            openAiServer.enqueue(new MockResponse().setResponseCode(502));
+        }
+
+        // when
+        // then
+        assertThatThrownBy(() -> client.requestChatCompletion(PAYLOAD).block())
+            .isInstanceOf(ExternalServerErrorException.class);
+        assertThat(openAiServer.getRequestCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("잘못된 요청(4xx)은 재시도하지 않는다.")
+    void noRetryOnClientError() {
+        // given
+        OpenAIClient client = createClient(2);
+        openAiServer.enqueue(new MockResponse().setResponseCode(400));
+
+        // when
+        // then
+        assertThatThrownBy(() -> client.requestChatCompletion(PAYLOAD).block())
+            .isInstanceOf(ExternalServerErrorException.class);
+        assertThat(openAiServer.getRequestCount()).isEqualTo(1);
+        assertThat(client.getCircuitState()).isEqualTo(State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("요청 한도 초과(429) 응답의 Retry-After 시간만큼 기다린 뒤 재시도한다.")
+    void retryAfter() {
+        // given
+        OpenAIClient client = createClient(1, Duration.ofSeconds(1), Duration.ofSeconds(5), 5,
+            Duration.ofSeconds(30));
+        openAiServer.enqueue(new MockResponse().setResponseCode(429)
+            .setHeader("Retry-After", "1"));
+        openAiServer.enqueue(successResponse());
+        long start = System.nanoTime();
+
+        // when
+        client.requestChatCompletion(PAYLOAD).block();
+
+        // then
+        assertThat(Duration.ofNanos(System.nanoTime() - start))
+            .isGreaterThanOrEqualTo(Duration.ofSeconds(1));
+        assertThat(openAiServer.getRequestCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("응답이 제한 시간 안에 오지 않으면 요청을 끊고 재시도한다.")
+    void retryOnReadTimeout() {
+        // given
+        OpenAIClient client = createClient(1, Duration.ofMillis(200), Duration.ofMillis(50), 5,
+            Duration.ofSeconds(30));
+        openAiServer.enqueue(successResponse().setHeadersDelay(2, TimeUnit.SECONDS));
+        openAiServer.enqueue(successResponse());
+
+        // when
+        GPTResponse actual = client.requestChatCompletion(PAYLOAD).block(Duration.ofSeconds(2));
+
+        // then
+        assertThat(actual).isNotNull();
+        assertThat(openAiServer.getRequestCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("연속 실패가 기준을 넘으면 회로가 열려 OpenAI를 호출하지 않고 즉시 실패한다.")
+    void openCircuit() {
+        // given
+        OpenAIClient client = createClient(0, Duration.ofSeconds(1), Duration.ofMillis(50), 2,
+            Duration.ofSeconds(30));
+        openAiServer.enqueue(new MockResponse().setResponseCode(500));
+        openAiServer.enqueue(new MockResponse().setResponseCode(500));
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> client.requestChatCompletion(PAYLOAD).block())
+                .isInstanceOf(ExternalServerErrorException.class);
+        }
+
+        // when
+        // then
+        assertThat(client.getCircuitState()).isEqualTo(State.OPEN);
+        assertThatThrownBy(() -> client.requestChatCompletion(PAYLOAD).block())
+            .isInstanceOf(GPTUnavailableException.class);
+        assertThat(openAiServer.getRequestCount()).isEqualTo(2);
+        assertThat(meterRegistry.get("gpt.failures").tag("reason", "upstream_error").counter()
+            .count()).isEqualTo(2);
+        assertThat(meterRegistry.get("gpt.failures").tag("reason", "circuit_open").counter()
+            .count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("회로가 열린 뒤 일정 시간이 지나면 시험 요청을 보내고, 성공하면 회로를 닫는다.")
+    void closeCircuitAfterTrialSuccess() throws InterruptedException {
+        // given
+        OpenAIClient client = createClient(0, Duration.ofSeconds(1), Duration.ofMillis(50), 1,
+            Duration.ofMillis(100));
+        openAiServer.enqueue(new MockResponse().setResponseCode(500));
+        openAiServer.enqueue(successResponse());
+        assertThatThrownBy(() -> client.requestChatCompletion(PAYLOAD).block())
+            .isInstanceOf(ExternalServerErrorException.class);
+        Thread.sleep(150);
+
+        // when
+        GPTResponse actual = client.requestChatCompletion(PAYLOAD).block();
+
+        // then
+        assertThat(actual).isNotNull();
+        assertThat(client.getCircuitState()).isEqualTo(State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("스트리밍 시작 전 서버 오류가 발생하면 재시도한다.")
+    void retryStreamBeforeFirstEvent() {
+        // given
+        OpenAIClient client = createClient(1);
+        openAiServer.enqueue(new MockResponse().setResponseCode(503));
+        openAiServer.enqueue(new MockResponse()
+            .setHeader("Content-Type", "text/event-stream")
+            .setBody("data: first\n\ndata: [DONE]\n\n"));
+
+        // when
+        var actual = client.streamChatCompletion(PAYLOAD).collectList().block();
+
+        // then
+        assertThat(actual).extracting(event -> event.data()).containsExactly("first", "[DONE]");
+        assertThat(openAiServer.getRequestCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("재시도 대기 시간은 지수적으로 늘어나며 무작위로 분산되고, 최대 대기 시간을 넘지 않는다.")
+    void backoff() {
+        // given
+        OpenAIClient client = createClient(5, Duration.ofSeconds(1), Duration.ofMillis(50), 5,
+            Duration.ofSeconds(30));
+        RuntimeException failure = new RuntimeException();
+
+        // when
+        // then
+        for (int i = 0; i < 20; i++) {
+            assertThat(client.backoff(0, failure)).isBetween(Duration.ofMillis(5),
+                Duration.ofMillis(10));
+            assertThat(client.backoff(1, failure)).isBetween(Duration.ofMillis(10),
+                Duration.ofMillis(20));
+            assertThat(client.backoff(10, failure)).isBetween(Duration.ofMillis(25),
+                Duration.ofMillis(50));
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package agilementor.chatgpt.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+
+import agilementor.backlog.entity.Status;
+import agilementor.chatgpt.dto.GPTJobResponse;
+import agilementor.chatgpt.dto.GPTRequest;
+import agilementor.chatgpt.dto.GPTResponse;
+import agilementor.chatgpt.dto.ProjectResponseDTO;
+import agilementor.chatgpt.dto.StoryResponseDTO;
+import agilementor.chatgpt.job.GPTJob;
+import agilementor.chatgpt.job.GPTJobStatus;
+import agilementor.chatgpt.properties.GPTJobProperties;
+import agilementor.chatgpt.repository.GPTJobRepository;
+import agilementor.common.exception.ExternalServerErrorException;
+import agilementor.common.exception.GPTJobNotFoundException;
+import agilementor.common.exception.TooManyGPTJobsException;
+import agilementor.project.entity.Project;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+class GPTJobServiceTest {
+
+    @Mock
+    private GPTService gptService;
+
+    @Mock
+    private GPTJobRepository gptJobRepository;
+
+    // 여러 인스턴스가 공유하는 DB 대신 작업을 저장
+    private final Map<String, GPTJob> savedJobs = new ConcurrentHashMap<>();
+
+    private GPTJobService gptJobService;
+
+    @AfterEach
+    void tearDown() {
+        gptJobService.shutdown();
+    }
+
+    private GPTJobService createGPTJobService(int maxConcurrency, int queueCapacity) {
+        return new GPTJobService(gptService, gptJobRepository,
+            Jackson2ObjectMapperBuilder.json().build(),
+            new GPTJobProperties(maxConcurrency, queueCapacity, Duration.ofSeconds(5),
+                Duration.ofMinutes(10)));
+    }
+
+    private void givenJobStore() {
+        willAnswer(invocation -> {
+            GPTJob job = invocation.getArgument(0);
+            savedJobs.put(job.getJobId(), job);
+            return job;
+        }).given(gptJobRepository).save(any());
+        willAnswer(invocation -> Optional.ofNullable(savedJobs.get(invocation.getArgument(0))))
+            .given(gptJobRepository).findById(anyString());
+    }
+
+    private Project getProject(Long projectId) {
+        Project project = new Project("title");
+        ReflectionTestUtils.setField(project, "projectId", projectId);
+        return project;
+    }
+
+    @Test
+    @DisplayName("등록한 작업은 백그라운드에서 처리되고, 완료되면 생성 결과를 조회할 수 있다.")
+    void submit() {
+        // given
+        givenJobStore();
+        gptJobService = createGPTJobService(1, 1);
+        Project project = getProject(1L);
+        GPTResponse gptResponse = new GPTResponse();
+        ProjectResponseDTO projectResponse = new ProjectResponseDTO(
+            List.of(new StoryResponseDTO(1L, 1L, "story", "desc", Status.TODO)), List.of(),
+            List.of());
+        given(gptService.requestGPTResponse(any(), any())).willReturn(Mono.just(gptResponse));
+        given(gptService.saveGPTResponse(gptResponse, project)).willReturn(projectResponse);
+
+        // when
+        GPTJobResponse job = gptJobService.submit(new GPTRequest("project", 1, 1), project);
+
+        // then
+        await().atMost(Duration.ofSeconds(5))
+            .until(() -> gptJobService.getJob(1L, job.jobId()).status()
+                == GPTJobStatus.COMPLETED);
+        assertThat(gptJobService.getJob(1L, job.jobId()).result())
+            .usingRecursiveComparison()
+            .isEqualTo(projectResponse);
+    }
+
+    @Test
+    @DisplayName("GPT 호출에 실패한 작업은 실패 상태와 오류 메시지를 가진다.")
+    void submitFailIfGPTError() {
+        // given
+        givenJobStore();
+        gptJobService = createGPTJobService(1, 1);
+        given(gptService.requestGPTResponse(any(), any()))
+            .willReturn(Mono.error(new ExternalServerErrorException()));
+
+        // when
+        GPTJobResponse job = gptJobService.submit(new GPTRequest("project", 1, 1),
+            getProject(1L));
+
+        // then
+        await().atMost(Duration.ofSeconds(5))
+            .until(() -> gptJobService.getJob(1L, job.jobId()).status() == GPTJobStatus.FAILED);
+        assertThat(gptJobService.getJob(1L, job.jobId()).errorMessage())
+            .isEqualTo(new ExternalServerErrorException().getMessage());
+    }
+
+    @Test
+    @DisplayName("처리 중인 작업과 대기 중인 작업이 가득 차면 새 작업을 거절한다.")
+    void submitFailIfQueueFull() {
+        // given
+        givenJobStore();
+        gptJobService = createGPTJobService(1, 1);
+        given(gptService.requestGPTResponse(any(), any())).willReturn(Mono.never());
+        GPTRequest request = new GPTRequest("project", 1, 1);
+        Project project = getProject(1L);
+
+        GPTJobResponse runningJob = gptJobService.submit(request, project);
+        GPTJobResponse pendingJob = gptJobService.submit(request, project);
+
+        // when
+        // then
+        assertThatThrownBy(() -> gptJobService.submit(request, project))
+            .isInstanceOf(TooManyGPTJobsException.class);
+        await().atMost(Duration.ofSeconds(5))
+            .untilAsserted(() -> then(gptService).should().requestGPTResponse(any(), any()));
+        assertThat(gptJobService.getJob(1L, runningJob.jobId()).status())
+            .isEqualTo(GPTJobStatus.RUNNING);
+        assertThat(gptJobService.getJob(1L, pendingJob.jobId()).status())
+            .isEqualTo(GPTJobStatus.PENDING);
+        // 거절한 작업은 저장하지 않음
+        then(gptJobRepository).should().delete(any());
+    }
+
+    @Test
+    @DisplayName("다른 프로젝트의 작업은 조회할 수 없다.")
+    void getJobFailIfOtherProject() {
+        // given
+        gptJobService = createGPTJobService(1, 1);
+        GPTJob job = new GPTJob(1L);
+        given(gptJobRepository.findById(job.getJobId())).willReturn(Optional.of(job));
+
+        // when
+        // then
+        assertThatThrownBy(() -> gptJobService.getJob(2L, job.getJobId()))
+            .isInstanceOf(GPTJobNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 처리한 작업도 저장된 상태와 결과를 조회할 수 있다.")
+    void getJobFromOtherInstance() {
+        // given
+        givenJobStore();
+        gptJobService = createGPTJobService(1, 1);
+        GPTJobService otherInstance = createGPTJobService(1, 1);
+        given(gptService.requestGPTResponse(any(), any()))
+            .willReturn(Mono.error(new ExternalServerErrorException()));
+
+        try {
+            // when
+            GPTJobResponse job = otherInstance.submit(new GPTRequest("project", 1, 1),
+                getProject(1L));
+
+            // then
+            await().atMost(Duration.ofSeconds(5))
+                .until(() -> gptJobService.getJob(1L, job.jobId()).status()
+                    == GPTJobStatus.FAILED);
+        } finally {
+            otherInstance.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("결과 보관 시간이 지난 작업은 조회할 때 삭제하고 찾을 수 없다는 예외를 발생시킨다.")
+    void getJobFailIfExpired() {
+        // given
+        gptJobService = createGPTJobService(1, 1);
+        GPTJob job = new GPTJob(1L);
+        job.complete("{}");
+        ReflectionTestUtils.setField(job, "finishedAt", Instant.now().minus(Duration.ofHours(1)));
+        given(gptJobRepository.findById(job.getJobId())).willReturn(Optional.of(job));
+
+        // when
+        // then
+        assertThatThrownBy(() -> gptJobService.getJob(1L, job.getJobId()))
+            .isInstanceOf(GPTJobNotFoundException.class);
+        then(gptJobRepository).should().delete(job);
+    }
+
+    @Test
+    @DisplayName("처리하던 인스턴스가 종료되어 끝나지 않은 작업은 실패 상태로 조회된다.")
+    void getJobFailIfAbandoned() {
+        // given
+        givenJobStore();
+        gptJobService = createGPTJobService(1, 1);
+        GPTJob job = new GPTJob(1L);
+        job.start();
+        ReflectionTestUtils.setField(job, "createdAt", Instant.now().minus(Duration.ofHours(1)));
+        savedJobs.put(job.getJobId(), job);
+
+        // when
+        GPTJobResponse response = gptJobService.getJob(1L, job.getJobId());
+
+        // then
+        assertThat(response.status()).isEqualTo(GPTJobStatus.FAILED);
+        assertThat(response.errorMessage()).isNotNull();
+        then(gptJobRepository).should().save(job);
+    }
+}
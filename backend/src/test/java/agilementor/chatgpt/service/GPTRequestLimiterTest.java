@@ -0,0 +1,100 @@
+package agilementor.chatgpt.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import agilementor.chatgpt.properties.GPTLimitProperties;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Sinks;
+
+class GPTRequestLimiterTest {
+
+    private final List<String> started = new ArrayList<>();
+
+    // 완료 시점을 테스트에서 제어할 수 있는 요청을 limiter를 거쳐 구독
+    private Sinks.One<String> submit(GPTRequestLimiter limiter, Long projectId, String name) {
+        Sinks.One<String> call = Sinks.one();
+        limiter.limit(projectId, call.asMono().doOnSubscribe(s -> started.add(name)))
+            .subscribe();
+        return call;
+    }
+
+    @Test
+    @DisplayName("서버 전체 허용량을 넘는 요청은 대기하고, 앞선 요청이 끝나면 실행된다.")
+    void globalLimit() {
+        // given
+        GPTRequestLimiter limiter = new GPTRequestLimiter(new GPTLimitProperties(2, 2));
+        Sinks.One<String> first = submit(limiter, 1L, "first");
+        submit(limiter, 2L, "second");
+        submit(limiter, 3L, "third");
+
+        assertThat(started).containsExactly("first", "second");
+        assertThat(limiter.getQueueDepth()).isEqualTo(1);
+
+        // when
+        first.tryEmitValue("done");
+
+        // then
+        assertThat(started).containsExactly("first", "second", "third");
+        assertThat(limiter.getQueueDepth()).isZero();
+        assertThat(limiter.getActiveCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("프로젝트 허용량을 넘는 요청은 대기하지만, 다른 프로젝트의 요청은 바로 실행된다.")
+    void projectLimit() {
+        // given
+        GPTRequestLimiter limiter = new GPTRequestLimiter(new GPTLimitProperties(4, 1));
+
+        // when
+        Sinks.One<String> first = submit(limiter, 1L, "project1-first");
+        submit(limiter, 1L, "project1-second");
+        submit(limiter, 2L, "project2");
+
+        // then
+        assertThat(started).containsExactly("project1-first", "project2");
+        assertThat(limiter.getQueueDepth()).isEqualTo(1);
+
+        first.tryEmitValue("done");
+        assertThat(started).containsExactly("project1-first", "project2", "project1-second");
+    }
+
+    @Test
+    @DisplayName("대기 중인 요청은 도착한 순서대로 실행된다.")
+    void fair() {
+        // given
+        GPTRequestLimiter limiter = new GPTRequestLimiter(new GPTLimitProperties(1, 1));
+        Sinks.One<String> first = submit(limiter, 1L, "first");
+        Sinks.One<String> second = submit(limiter, 1L, "second");
+        submit(limiter, 1L, "third");
+
+        // when
+        first.tryEmitValue("done");
+        second.tryEmitValue("done");
+
+        // then
+        assertThat(started).containsExactly("first", "second", "third");
+    }
+
+    @Test
+    @DisplayName("대기 중에 취소된 요청은 대기열에서 제거되고 허용량을 차지하지 않는다.")
+    void cancelWhileWaiting() {
+        // given
+        GPTRequestLimiter limiter = new GPTRequestLimiter(new GPTLimitProperties(1, 1));
+        Sinks.One<String> first = submit(limiter, 1L, "first");
+        Disposable waiting = limiter.limit(1L, Sinks.<String>one().asMono()).subscribe();
+        submit(limiter, 1L, "third");
+
+        // when
+        waiting.dispose();
+        first.tryEmitValue("done");
+
+        // then
+        assertThat(started).containsExactly("first", "third");
+        assertThat(limiter.getActiveCount()).isEqualTo(1);
+        assertThat(limiter.getQueueDepth()).isZero();
+    }
+}
@@ -0,0 +1,106 @@
+package agilementor.chatgpt.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import agilementor.backlog.repository.BacklogRepository;
+import agilementor.backlog.repository.StoryRepository;
+import agilementor.chatgpt.dto.GPTResponse;
+import agilementor.chatgpt.dto.ProjectResponseDTO;
+import agilementor.project.entity.Project;
+import agilementor.project.repository.ProjectRespository;
+import agilementor.sprint.repository.SprintRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class GPTServiceSaveTest {
+
+    private static final int STORY_COUNT = 10;
+    private static final int TASK_COUNT = 10;
+    private static final int SPRINT_COUNT = 3;
+
+    @Autowired
+    private GPTService gptService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ProjectRespository projectRespository;
+
+    @Autowired
+    private SprintRepository sprintRepository;
+
+    @Autowired
+    private StoryRepository storyRepository;
+
+    @Autowired
+    private BacklogRepository backlogRepository;
+
+    @AfterEach
+    void tearDown() {
+        backlogRepository.deleteAllInBatch();
+        storyRepository.deleteAllInBatch();
+        sprintRepository.deleteAllInBatch();
+        projectRespository.deleteAllInBatch();
+    }
+
+    private GPTResponse createGPTResponse() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        ObjectNode root = objectMapper.createObjectNode();
+
+        ArrayNode sprints = root.putArray("sprints");
+        for (int i = 1; i <= SPRINT_COUNT; i++) {
+            sprints.addObject().put("id", i).put("title", "sprint" + i).put("goal", "goal");
+        }
+
+        ArrayNode stories = root.putArray("stories");
+        for (int i = 1; i <= STORY_COUNT; i++) {
+            ObjectNode story = stories.addObject()
+                .put("id", i).put("title", "story" + i).put("description", "desc");
+            ArrayNode tasks = story.putArray("tasks");
+            for (int j = 0; j < TASK_COUNT; j++) {
+                tasks.addObject().put("title", "task").put("description", "desc")
+                    .put("priority", "HIGH").put("sprintId", j % SPRINT_COUNT + 1);
+            }
+        }
+        return objectMapper.convertValue(root, GPTResponse.class);
+    }
+
+    @Test
+    @DisplayName("GPT 응답을 다시 조회하지 않고 배치 INSERT로 저장한다.")
+    void saveGPTResponse() {
+        // given
+        Project project = projectRespository.save(new Project("project"));
+        GPTResponse gptResponse = createGPTResponse();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        ProjectResponseDTO actual = gptService.saveGPTResponse(gptResponse, project);
+
+        // then
+        assertThat(actual.getSprints()).hasSize(SPRINT_COUNT);
+        assertThat(actual.getStories()).hasSize(STORY_COUNT);
+        assertThat(actual.getBacklogs()).hasSize(STORY_COUNT * TASK_COUNT)
+            .allSatisfy(backlog -> {
+                assertThat(backlog.getId()).isNotNull();
+                assertThat(backlog.getSprintId()).isNotNull();
+                assertThat(backlog.getStoryId()).isNotNull();
+            });
+        assertThat(backlogRepository.count()).isEqualTo(STORY_COUNT * TASK_COUNT);
+
+        // 조회 없이 시퀀스 할당(테이블마다 최대 4번)과 배치 INSERT(Sprint, Story 1번, Backlog 2번)만 실행
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(4 * 3 + 4);
+    }
+}
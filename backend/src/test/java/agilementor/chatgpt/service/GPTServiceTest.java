@@ -0,0 +1,262 @@
+package agilementor.chatgpt.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import agilementor.backlog.entity.Priority;
+import agilementor.backlog.repository.BacklogRepository;
+import agilementor.backlog.repository.StoryRepository;
+import agilementor.chatgpt.client.OpenAIClient;
+import agilementor.chatgpt.dto.GPTRequest;
+import agilementor.chatgpt.dto.GPTResponse;
+import agilementor.chatgpt.properties.GPTCacheProperties;
+import agilementor.chatgpt.properties.GPTLimitProperties;
+import agilementor.chatgpt.properties.OpenAIClientProperties;
+import agilementor.chatgpt.util.GPTMetrics;
+import agilementor.common.exception.ExternalServerErrorException;
+import agilementor.common.exception.NotJsonResponseException;
+import agilementor.sprint.repository.SprintRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+class GPTServiceTest {
+
+    static final String GPT_CONTENT = """
+        ```json
+        {
+          "stories": [
+            {
+              "id": 1,
+              "title": "story",
+              "description": "desc",
+              "tasks": [
+                {"title": "task", "description": "desc", "priority": "HIGH", "sprintId": 1}
+              ]
+            }
+          ],
+          "sprints": [
+            {"id": 1, "title": "sprint", "goal": "goal"}
+          ]
+        }
+        ```""";
+
+    @Mock
+    private StoryRepository storyRepository;
+
+    @Mock
+    private BacklogRepository backlogRepository;
+
+    @Mock
+    private SprintRepository sprintRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private MockWebServer openAiServer;
+    private GPTService gptService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        openAiServer = new MockWebServer();
+        openAiServer.start();
+        GPTMetrics gptMetrics = new GPTMetrics(meterRegistry);
+        gptService = new GPTService(storyRepository, backlogRepository, sprintRepository,
+            new GPTResponseCache(new GPTCacheProperties(100, Duration.ofHours(1))),
+            new GPTRequestLimiter(new GPTLimitProperties(8, 2)),
+            new OpenAIClient(WebClient.builder(), new OpenAIClientProperties(Duration.ofSeconds(1),
+                Duration.ofSeconds(1), 0, Duration.ZERO, Duration.ZERO, 5, Duration.ofSeconds(30)),
+                meterRegistry, gptMetrics, openAiServer.url("/v1").toString(), "key"),
+            gptMetrics);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        openAiServer.shutdown();
+    }
+
+    static MockResponse completionResponse(String content) {
+        String escaped = content.replace("\\", "\\\\").replace("\"", "\\\"")
+            .replace("\n", "\\n");
+        return new MockResponse()
+            .setHeader("Content-Type", "application/json")
+            .setBody("{\"choices\": [{\"message\": {\"content\": \"" + escaped + "\"}}]}");
+    }
+
+    @Test
+    @DisplayName("OpenAI 응답을 받아 스토리와 스프린트로 파싱할 수 있다.")
+    void requestGPTResponse() throws InterruptedException {
+        // given
+        openAiServer.enqueue(completionResponse(GPT_CONTENT));
+
+        // when
+        GPTResponse actual = gptService.requestGPTResponse(new GPTRequest("project", 1, 1),
+            1L).block();
+
+        // then
+        RecordedRequest request = openAiServer.takeRequest();
+        assertThat(request.getPath()).isEqualTo("/v1/chat/completions");
+        assertThat(actual.getStories()).hasSize(1);
+        assertThat(actual.getStories().get(0).getTasks().get(0).getPriority())
+            .isEqualTo(Priority.HIGH);
+        assertThat(actual.getSprints()).extracting(GPTResponse.SprintDTO::getTitle)
+            .containsExactly("sprint");
+    }
+
+    @Test
+    @DisplayName("OpenAI 서버가 오류를 반환하면 ExternalServerErrorException이 발생한다.")
+    void requestGPTResponseFailIfServerError() {
+        // given
+        openAiServer.enqueue(new MockResponse().setResponseCode(500));
+
+        // when
+        // then
+        assertThatThrownBy(() -> gptService.requestGPTResponse(new GPTRequest("project", 1, 1),
+            1L).block())
+            .isInstanceOf(ExternalServerErrorException.class);
+    }
+
+    @Test
+    @DisplayName("stream 옵션으로 OpenAI를 호출하여 응답 조각을 도착하는 순서대로 받을 수 있다.")
+    void streamGPTContent() throws InterruptedException {
+        // given
+        openAiServer.enqueue(new MockResponse()
+            .setHeader("Content-Type", "text/event-stream")
+            .setBody("""
+                data: {"choices": [{"delta": {"role": "assistant"}}]}
+
+                data: {"choices": [{"delta": {"content": "{\\"stories\\""}}]}
+
+                data: {"choices": [{"delta": {"content": ": []}"}}]}
+
+                data: [DONE]
+
+                """));
+
+        // when
+        List<String> actual = gptService.streamGPTContent(new GPTRequest("project", 1, 1), 1L)
+            .collectList().block();
+
+        // then
+        assertThat(actual).containsExactly("{\"stories\"", ": []}");
+        assertThat(openAiServer.takeRequest().getBody().readUtf8()).contains("\"stream\":true");
+    }
+
+    @Test
+    @DisplayName("같은 요청을 다시 보내면 OpenAI를 호출하지 않고 캐시된 응답을 반환한다.")
+    void requestGPTResponseCacheHit() {
+        // given
+        openAiServer.enqueue(completionResponse(GPT_CONTENT));
+        GPTResponse first = gptService.requestGPTResponse(new GPTRequest("project", 1, 1),
+            1L).block();
+
+        // when
+        GPTResponse actual = gptService.requestGPTResponse(new GPTRequest("project", 1, 1),
+            1L).block();
+
+        // then
+        assertThat(actual).isSameAs(first);
+        assertThat(openAiServer.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("요청 내용이 다르면 캐시된 응답을 사용하지 않는다.")
+    void requestGPTResponseCacheMissIfDifferentRequest() {
+        // given
+        openAiServer.enqueue(completionResponse(GPT_CONTENT));
+        openAiServer.enqueue(completionResponse(GPT_CONTENT));
+        gptService.requestGPTResponse(new GPTRequest("project", 1, 1), 1L).block();
+
+        // when
+        gptService.requestGPTResponse(new GPTRequest("project", 2, 1), 1L).block();
+
+        // then
+        assertThat(openAiServer.getRequestCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("캐시를 사용하지 않는 요청은 항상 OpenAI를 호출한다.")
+    void requestGPTResponseWithoutCache() {
+        // given
+        openAiServer.enqueue(completionResponse(GPT_CONTENT));
+        openAiServer.enqueue(completionResponse(GPT_CONTENT));
+        gptService.requestGPTResponse(new GPTRequest("project", 1, 1), 1L).block();
+        GPTRequest request = new GPTRequest("project", 1, 1);
+        request.setUseCache(false);
+
+        // when
+        gptService.requestGPTResponse(request, 1L).block();
+
+        // then
+        assertThat(openAiServer.getRequestCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("같은 요청이 동시에 들어오면 OpenAI를 한 번만 호출하고 결과를 함께 받는다.")
+    void requestGPTResponseCoalesce() {
+        // given
+        openAiServer.enqueue(completionResponse(GPT_CONTENT)
+            .setBodyDelay(300, TimeUnit.MILLISECONDS));
+        GPTRequest request = new GPTRequest("project", 1, 1);
+        request.setUseCache(false);
+
+        // when
+        var actual = Mono.zip(
+            gptService.requestGPTResponse(request, 1L),
+            gptService.requestGPTResponse(request, 2L)
+        ).block();
+
+        // then
+        assertThat(actual.getT1()).isSameAs(actual.getT2());
+        assertThat(openAiServer.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("OpenAI 응답의 토큰 사용량을 메트릭으로 기록한다.")
+    void recordTokenUsage() {
+        // given
+        String escaped = GPT_CONTENT.replace("\"", "\\\"").replace("\n", "\\n");
+        openAiServer.enqueue(new MockResponse()
+            .setHeader("Content-Type", "application/json")
+            .setBody("{\"choices\": [{\"message\": {\"content\": \"" + escaped + "\"}}],"
+                + " \"usage\": {\"prompt_tokens\": 120, \"completion_tokens\": 80}}"));
+
+        // when
+        gptService.requestGPTResponse(new GPTRequest("project", 1, 1), 1L).block();
+
+        // then
+        assertThat(meterRegistry.get("gpt.tokens").tag("type", "prompt").counter().count())
+            .isEqualTo(120);
+        assertThat(meterRegistry.get("gpt.tokens").tag("type", "completion").counter().count())
+            .isEqualTo(80);
+    }
+
+    @Test
+    @DisplayName("GPT가 JSON이 아닌 content를 반환하면 파싱 실패 메트릭을 기록한다.")
+    void recordParseError() {
+        // given
+        openAiServer.enqueue(completionResponse("죄송합니다."));
+
+        // when
+        assertThatThrownBy(() -> gptService.requestGPTResponse(new GPTRequest("project", 1, 1),
+            1L).block())
+            .isInstanceOf(NotJsonResponseException.class);
+
+        // then
+        assertThat(meterRegistry.get("gpt.parse.errors")
+            .tag("exception", "NotJsonResponseException").counter().count()).isEqualTo(1);
+    }
+}
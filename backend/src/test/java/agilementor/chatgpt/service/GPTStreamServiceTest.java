@@ -0,0 +1,89 @@
+package agilementor.chatgpt.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import agilementor.chatgpt.dto.GPTRequest;
+import agilementor.chatgpt.dto.GPTResponse;
+import agilementor.chatgpt.dto.GPTStreamEvent;
+import agilementor.chatgpt.dto.ProjectResponseDTO;
+import agilementor.chatgpt.util.GPTMetrics;
+import agilementor.project.entity.Project;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+
+@ExtendWith(MockitoExtension.class)
+class GPTStreamServiceTest {
+
+    @Mock
+    private GPTService gptService;
+
+    @Test
+    @DisplayName("스토리와 스프린트 이벤트를 전달한 뒤, 저장된 결과를 마지막 이벤트로 전달한다.")
+    void streamGeneration() {
+        // given
+        GPTStreamService gptStreamService = new GPTStreamService(gptService, new ObjectMapper(),
+            new GPTMetrics(new SimpleMeterRegistry()));
+        Project project = new Project("project");
+        ProjectResponseDTO projectResponse = new ProjectResponseDTO(List.of(), List.of(),
+            List.of());
+        given(gptService.streamGPTContent(any(), any())).willReturn(Flux.just(
+            "```json\n{\"stories\": [{\"id\": 1, \"title\": \"st", "ory\", \"tasks\": []}],",
+            " \"sprints\": [{\"id\": 1, \"title\": \"sprint\"}]}\n```"));
+        given(gptService.saveGPTResponse(argThat(response -> response.getStories().size() == 1
+            && response.getSprints().size() == 1), eq(project))).willReturn(projectResponse);
+
+        // when
+        List<GPTStreamEvent> actual = gptStreamService
+            .streamGeneration(new GPTRequest("project", 1, 1), project)
+            .collectList()
+            .block();
+
+        // then
+        assertThat(actual).extracting(GPTStreamEvent::name)
+            .containsExactly("story", "sprint", "complete");
+        assertThat(actual.get(2).data()).isSameAs(projectResponse);
+    }
+
+    @Test
+    @DisplayName("캐시된 응답이 있으면 OpenAI를 호출하지 않고 캐시된 스토리와 스프린트를 전달한다.")
+    void streamGenerationCacheHit() throws JsonProcessingException {
+        // given
+        GPTStreamService gptStreamService = new GPTStreamService(gptService, new ObjectMapper(),
+            new GPTMetrics(new SimpleMeterRegistry()));
+        Project project = new Project("project");
+        GPTResponse cachedResponse = new ObjectMapper().readValue("""
+            {"stories": [{"id": 1, "title": "story", "tasks": []}],
+             "sprints": [{"id": 1, "title": "sprint1"}, {"id": 2, "title": "sprint2"}]}
+            """, GPTResponse.class);
+        ProjectResponseDTO projectResponse = new ProjectResponseDTO(List.of(), List.of(),
+            List.of());
+        given(gptService.findCachedGPTResponse(any())).willReturn(Optional.of(cachedResponse));
+        given(gptService.saveGPTResponse(cachedResponse, project)).willReturn(projectResponse);
+
+        // when
+        List<GPTStreamEvent> actual = gptStreamService
+            .streamGeneration(new GPTRequest("project", 1, 2), project)
+            .collectList()
+            .block();
+
+        // then
+        assertThat(actual).extracting(GPTStreamEvent::name)
+            .containsExactly("story", "sprint", "sprint", "complete");
+        then(gptService).should(never()).streamGPTContent(any(), any());
+    }
+}
@@ -0,0 +1,90 @@
+package agilementor.chatgpt.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import agilementor.backlog.entity.Priority;
+import agilementor.chatgpt.dto.GPTResponse;
+import agilementor.common.exception.FailedToParseException;
+import agilementor.common.exception.NotJsonResponseException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class GPTContentParserTest {
+
+    private static final String JSON = """
+        {
+          "stories": [
+            {
+              "id": 1,
+              "title": "검색",
+              "description": "desc",
+              "unknown": "ignored",
+              "tasks": [
+                {"title": "task", "description": "desc", "priority": "HIGH", "sprintId": 1}
+              ]
+            }
+          ],
+          "sprints": [
+            {"id": 1, "title": "sprint", "goal": "goal"}
+          ]
+        }""";
+
+    @Test
+    @DisplayName("코드 블록으로 감싸진 content를 stories와 sprints로 파싱할 수 있다.")
+    void parseFencedContent() {
+        // given
+        String content = "  ```json\n" + JSON + "\n```  ";
+
+        // when
+        GPTResponse actual = GPTContentParser.parse(content, new GPTResponse());
+
+        // then
+        assertThat(actual.getStories()).extracting(GPTResponse.StoryDTO::getTitle)
+            .containsExactly("검색");
+        assertThat(actual.getStories().get(0).getTasks().get(0).getPriority())
+            .isEqualTo(Priority.HIGH);
+        assertThat(actual.getSprints()).extracting(GPTResponse.SprintDTO::getGoal)
+            .containsExactly("goal");
+    }
+
+    @Test
+    @DisplayName("코드 블록 없는 JSON content도 파싱할 수 있으며, 기존 응답의 다른 필드는 유지된다.")
+    void parsePlainContent() {
+        // given
+        GPTResponse gptResponse = new GPTResponse();
+        gptResponse.setChoices(new GPTResponse.Choice[]{new GPTResponse.Choice()});
+
+        // when
+        GPTResponse actual = GPTContentParser.parse(JSON, gptResponse);
+
+        // then
+        assertThat(actual).isSameAs(gptResponse);
+        assertThat(actual.getChoices()).hasSize(1);
+        assertThat(actual.getStories()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("JSON 객체로 시작하지 않는 content는 NotJsonResponseException이 발생한다.")
+    void parseFailIfNotJson() {
+        // given
+        String content = "```\n죄송합니다. 요청을 처리할 수 없습니다.\n```";
+
+        // when
+        // then
+        assertThatThrownBy(() -> GPTContentParser.parse(content, new GPTResponse()))
+            .isInstanceOf(NotJsonResponseException.class);
+    }
+
+    @Test
+    @DisplayName("JSON 형식이 잘못된 content는 FailedToParseException이 발생한다.")
+    void parseFailIfMalformed() {
+        // given
+        String content = "```json\n{\"stories\": [{\"id\": 1,\n```";
+
+        // when
+        // then
+        assertThatThrownBy(() -> GPTContentParser.parse(content, new GPTResponse()))
+            .isInstanceOf(FailedToParseException.class);
+    }
+}
@@ -0,0 +1,96 @@
+package agilementor.chatgpt.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import agilementor.chatgpt.dto.GPTResponse;
+import agilementor.chatgpt.dto.GPTStreamEvent;
+import agilementor.common.exception.FailedToParseException;
+import agilementor.common.exception.NotJsonResponseException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class GPTStreamParserTest {
+
+    private static final String CONTENT = """
+        ```json
+        {
+          "stories": [
+            {
+              "id": 1,
+              "title": "검색",
+              "description": "desc",
+              "tasks": [
+                {"title": "task1", "description": "desc", "priority": "HIGH", "sprintId": 1},
+                {"title": "task2", "description": "desc", "priority": "LOW", "sprintId": 2}
+              ]
+            },
+            {"id": 2, "title": "결제", "description": "desc", "tasks": []}
+          ],
+          "sprints": [
+            {"id": 1, "title": "sprint1", "goal": "goal"},
+            {"id": 2, "title": "sprint2", "goal": "goal"}
+          ]
+        }
+        ```""";
+
+    private final GPTStreamParser parser = new GPTStreamParser(new ObjectMapper());
+
+    @Test
+    @DisplayName("응답 조각을 받는 대로 파싱하여 스토리와 스프린트가 완성될 때마다 이벤트를 반환한다.")
+    void feed() {
+        // given
+        int firstStoryEnd = CONTENT.indexOf("},\n    {\"id\": 2");
+        List<GPTStreamEvent> events = new ArrayList<>();
+        int firstEventOffset = -1;
+
+        // when
+        for (int offset = 0; offset < CONTENT.length(); offset += 5) {
+            String chunk = CONTENT.substring(offset, Math.min(offset + 5, CONTENT.length()));
+            events.addAll(parser.feed(chunk));
+            if (firstEventOffset < 0 && !events.isEmpty()) {
+                firstEventOffset = offset;
+            }
+        }
+
+        // then
+        // 첫 번째 스토리는 응답이 모두 도착하기 전, 스토리가 닫히자마자 반환
+        assertThat(firstEventOffset).isBetween(firstStoryEnd - 5, firstStoryEnd);
+        assertThat(events).extracting(GPTStreamEvent::name)
+            .containsExactly("story", "story", "sprint", "sprint");
+
+        GPTResponse actual = parser.toGPTResponse();
+        assertThat(actual.getStories()).extracting(GPTResponse.StoryDTO::getTitle)
+            .containsExactly("검색", "결제");
+        assertThat(actual.getStories().get(0).getTasks()).hasSize(2);
+        assertThat(actual.getSprints()).extracting(GPTResponse.SprintDTO::getTitle)
+            .containsExactly("sprint1", "sprint2");
+    }
+
+    @Test
+    @DisplayName("JSON이 아닌 응답이면 NotJsonResponseException이 발생한다.")
+    void toGPTResponseFailIfNotJson() {
+        // given
+        parser.feed("죄송합니다. 요청을 처리할 수 없습니다.");
+
+        // when
+        // then
+        assertThatThrownBy(parser::toGPTResponse)
+            .isInstanceOf(NotJsonResponseException.class);
+    }
+
+    @Test
+    @DisplayName("응답이 중간에 끊기면 FailedToParseException이 발생한다.")
+    void toGPTResponseFailIfIncomplete() {
+        // given
+        parser.feed(CONTENT.substring(0, CONTENT.indexOf("\"sprints\"")));
+
+        // when
+        // then
+        assertThatThrownBy(parser::toGPTResponse)
+            .isInstanceOf(FailedToParseException.class);
+    }
+}
@@ -0,0 +1,150 @@
+package agilementor.common.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import agilementor.common.exception.ExternalServerErrorException;
+import agilementor.member.properties.GoogleClientProperties;
+import agilementor.member.properties.GoogleProviderProperties;
+import agilementor.member.properties.OAuthHttpClientProperties;
+import agilementor.member.service.AuthClientService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.RestClient;
+
+// 로컬 토큰 엔드포인트(MockWebServer)로 구글 OAuth 요청의 연결 재사용, 제한 시간, 풀 메트릭을 확인
+class OAuthHttpClientConfigTest {
+
+    private static final String TOKEN_RESPONSE = """
+        {"access_token": "access-token", "expires_in": 3599, "id_token": "id.token"}
+        """;
+
+    private final OAuthHttpClientConfig config = new OAuthHttpClientConfig();
+    private MockWebServer tokenServer;
+    private PoolingHttpClientConnectionManager connectionManager;
+    private CloseableHttpClient httpClient;
+    private AuthClientService authClientService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        tokenServer = new MockWebServer();
+        tokenServer.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        httpClient.close();
+        tokenServer.shutdown();
+    }
+
+    private void createAuthClientService(OAuthHttpClientProperties properties) {
+        connectionManager = config.oauthConnectionManager(properties);
+        httpClient = config.oauthHttpClient(connectionManager, properties);
+
+        authClientService = new AuthClientService(
+            new GoogleClientProperties("CLIENT_ID", "CLIENT_SECRET", "redirect-uri.com",
+                Set.of("email")),
+            new GoogleProviderProperties("https://authorization-uri.com",
+                tokenServer.url("/token").toString()),
+            config.oauthRestClient(RestClient.builder(), httpClient));
+    }
+
+    private OAuthHttpClientProperties properties(int maxConnections, Duration responseTimeout) {
+        return new OAuthHttpClientProperties(maxConnections, Duration.ofSeconds(1),
+            Duration.ofMillis(200), responseTimeout, Duration.ofMinutes(1),
+            Duration.ofMinutes(10));
+    }
+
+    private MockResponse tokenResponse() {
+        return new MockResponse()
+            .setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+            .setBody(TOKEN_RESPONSE);
+    }
+
+    @Test
+    @DisplayName("id토큰 발급 요청은 연결을 새로 맺지 않고 풀의 연결을 재사용한다.")
+    void reuseConnection() throws InterruptedException {
+        // given
+        createAuthClientService(properties(10, Duration.ofSeconds(5)));
+        for (int i = 0; i < 3; i++) {
+            tokenServer.enqueue(tokenResponse());
+        }
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            assertThat(authClientService.requestIdToken("code")).isEqualTo("id.token");
+        }
+
+        // then
+        // sequenceNumber: 같은 연결에서 받은 요청의 순번
+        for (int i = 0; i < 3; i++) {
+            assertThat(tokenServer.takeRequest().getSequenceNumber()).isEqualTo(i);
+        }
+        assertThat(tokenServer.getRequestCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("응답 시간이 초과되면 ExternalServerErrorException을 발생시킨다.")
+    void responseTimeout() {
+        // given
+        createAuthClientService(properties(10, Duration.ofMillis(200)));
+        tokenServer.enqueue(tokenResponse().setHeadersDelay(2, TimeUnit.SECONDS));
+
+        // when
+        // then
+        assertThatThrownBy(() -> authClientService.requestIdToken("code"))
+            .isInstanceOf(ExternalServerErrorException.class);
+    }
+
+    @Test
+    @DisplayName("풀의 연결이 모두 사용 중이면 기다리다가 ExternalServerErrorException을 발생시킨다.")
+    void connectionRequestTimeout() {
+        // given
+        createAuthClientService(properties(1, Duration.ofSeconds(5)));
+        tokenServer.enqueue(tokenResponse().setHeadersDelay(1, TimeUnit.SECONDS));
+        CompletableFuture<String> slowRequest = CompletableFuture.supplyAsync(
+            () -> authClientService.requestIdToken("code"));
+        await().until(() -> connectionManager.getTotalStats().getLeased() == 1);
+
+        // when
+        // then
+        assertThatThrownBy(() -> authClientService.requestIdToken("code"))
+            .isInstanceOf(ExternalServerErrorException.class);
+        assertThat(slowRequest.join()).isEqualTo("id.token");
+    }
+
+    @Test
+    @DisplayName("연결 풀 상태를 httpclient=oauth 메트릭으로 수집한다.")
+    void poolMetrics() {
+        // given
+        createAuthClientService(properties(10, Duration.ofSeconds(5)));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        config.oauthConnectionPoolMetrics(connectionManager).bindTo(registry);
+        tokenServer.enqueue(tokenResponse());
+
+        // when
+        authClientService.requestIdToken("code");
+
+        // then
+        assertThat(registry.get("httpcomponents.httpclient.pool.total.max")
+            .tag("httpclient", "oauth").gauge().value()).isEqualTo(10);
+        assertThat(registry.get("httpcomponents.httpclient.pool.total.connections")
+            .tag("httpclient", "oauth").tag("state", "available").gauge().value())
+            .isEqualTo(1);
+    }
+}
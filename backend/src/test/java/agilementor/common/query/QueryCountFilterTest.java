@@ -0,0 +1,112 @@
+package agilementor.common.query;
+
+import static agilementor.LoginSession.loginSession;
+import static agilementor.common.query.QueryCountResultMatchers.queryBudget;
+import static agilementor.common.query.QueryCountResultMatchers.queryCount;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import agilementor.member.entity.Member;
+import agilementor.member.repository.MemberRepository;
+import agilementor.project.entity.Project;
+import agilementor.project.entity.ProjectMember;
+import agilementor.project.repository.ProjectMemberRepository;
+import agilementor.project.repository.ProjectRespository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.session.SessionRepository;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@SpringBootTest(properties = "query-count.header-enabled=true")
+@AutoConfigureMockMvc
+class QueryCountFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SessionRepository<?> sessionRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ProjectRespository projectRespository;
+
+    @Autowired
+    private ProjectMemberRepository projectMemberRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Long memberId;
+
+    @BeforeEach
+    void setUp() {
+        Member member = memberRepository.save(new Member("email@email.com", "name", "pic.jpg"));
+        for (int i = 0; i < 3; i++) {
+            Project project = projectRespository.save(new Project("project" + i));
+            projectMemberRepository.save(new ProjectMember(project, member, true));
+        }
+        memberId = member.getMemberId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        projectMemberRepository.deleteAllInBatch();
+        projectRespository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+    }
+
+    private DistributionSummary projectListSummary() {
+        return meterRegistry.summary("http.server.requests.queries",
+            "method", "GET", "uri", "/api/projects");
+    }
+
+    @Test
+    @DisplayName("요청에서 실행된 SQL 수를 응답 헤더와 API별 메트릭으로 남긴다.")
+    void countQueries() throws Exception {
+        // given
+        // 같은 컨텍스트의 다른 테스트가 남긴 기록을 제외하기 위해 요청 전 값을 기준으로 비교
+        long countBefore = projectListSummary().count();
+        double totalBefore = projectListSummary().totalAmount();
+
+        // when
+        MvcResult result = mockMvc.perform(get("/api/projects")
+                .with(loginSession(sessionRepository, memberId)))
+            .andExpect(status().isOk())
+            .andReturn();
+
+        // then
+        assertThat(queryCount(result)).isEqualTo(1);
+        assertThat(result.getResponse().getHeader(QueryCountHeaderAdvice.QUERY_COUNT_HEADER))
+            .isEqualTo("1");
+        assertThat(projectListSummary().count() - countBefore).isEqualTo(1);
+        assertThat(projectListSummary().totalAmount() - totalBefore).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실행된 SQL 수가 쿼리 예산을 넘으면 테스트가 실패한다.")
+    void queryBudgetExceeded() throws Exception {
+        // given
+        // when
+        // then
+        mockMvc.perform(get("/api/projects").with(loginSession(sessionRepository, memberId)))
+            .andExpect(queryBudget(1));
+        assertThatThrownBy(() -> mockMvc.perform(
+                get("/api/projects").with(loginSession(sessionRepository, memberId)))
+            .andExpect(queryBudget(0)))
+            .isInstanceOf(AssertionError.class)
+            .hasMessageContaining("GET /api/projects 쿼리 예산");
+    }
+}
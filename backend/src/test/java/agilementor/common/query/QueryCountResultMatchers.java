@@ -0,0 +1,28 @@
+package agilementor.common.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+// MockMvc 통합 테스트에서 API 하나가 실행한 SQL 수를 검증 (QueryCountFilter가 남긴 요청 속성 사용)
+// 예: mockMvc.perform(get("/api/tasks")).andExpect(queryBudget(4))
+public final class QueryCountResultMatchers {
+
+    private QueryCountResultMatchers() {
+    }
+
+    // 실행된 SQL 수가 maxQueries를 넘으면 실패
+    public static ResultMatcher queryBudget(int maxQueries) {
+        return result -> assertThat(queryCount(result))
+            .as("%s %s 쿼리 예산", result.getRequest().getMethod(),
+                result.getRequest().getRequestURI())
+            .isLessThanOrEqualTo(maxQueries);
+    }
+
+    public static int queryCount(MvcResult result) {
+        Object count = result.getRequest().getAttribute(QueryCountFilter.QUERY_COUNT_ATTRIBUTE);
+        assertThat(count).as("QueryCountFilter가 적용되지 않은 요청").isNotNull();
+        return (int) count;
+    }
+}
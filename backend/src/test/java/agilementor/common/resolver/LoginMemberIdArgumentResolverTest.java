@@ -0,0 +1,102 @@
+package agilementor.common.resolver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import agilementor.common.exception.InvalidSessionException;
+import agilementor.member.properties.LoginTokenProperties;
+import agilementor.member.util.LoginTokenProvider;
+import jakarta.servlet.http.Cookie;
+import java.time.Duration;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.web.context.request.ServletWebRequest;
+
+class LoginMemberIdArgumentResolverTest {
+
+    private final LoginTokenProvider loginTokenProvider = new LoginTokenProvider(
+        new LoginTokenProperties(true, "login-token-secret-for-test-0123456789",
+            Duration.ofHours(1)));
+
+    private MockHttpServletRequest request;
+
+    @BeforeEach
+    void setUp() {
+        request = new MockHttpServletRequest();
+    }
+
+    private Object resolve(LoginMemberIdArgumentResolver resolver) throws Exception {
+        return resolver.resolveArgument(null, null, new ServletWebRequest(request), null);
+    }
+
+    @Test
+    @DisplayName("세션에 저장된 회원 ID를 반환한다.")
+    void resolveFromSession() throws Exception {
+        // given
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute("memberId", 1L);
+        request.setSession(session);
+
+        // when
+        Object actual = resolve(new LoginMemberIdArgumentResolver(Optional.empty()));
+
+        // then
+        assertThat(actual).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("세션이 없으면 InvalidSessionException이 발생한다.")
+    void resolveFailIfNoSession() {
+        assertThatThrownBy(() -> resolve(new LoginMemberIdArgumentResolver(Optional.empty())))
+            .isInstanceOf(InvalidSessionException.class);
+    }
+
+    @Test
+    @DisplayName("로그인 토큰을 사용하면 세션 없이 토큰의 회원 ID를 반환한다.")
+    void resolveFromLoginToken() throws Exception {
+        // given
+        request.setCookies(
+            new Cookie(LoginTokenProvider.COOKIE_NAME, loginTokenProvider.issue(1L)));
+
+        // when
+        Object actual = resolve(
+            new LoginMemberIdArgumentResolver(Optional.of(loginTokenProvider)));
+
+        // then
+        assertThat(actual).isEqualTo(1L);
+        assertThat(request.getSession(false)).isNull();
+    }
+
+    @Test
+    @DisplayName("로그인 토큰이 유효하지 않으면 InvalidSessionException이 발생한다.")
+    void resolveFailIfInvalidLoginToken() {
+        // given
+        request.setCookies(new Cookie(LoginTokenProvider.COOKIE_NAME, "invalid"));
+
+        // when
+        // then
+        assertThatThrownBy(() -> resolve(
+            new LoginMemberIdArgumentResolver(Optional.of(loginTokenProvider))))
+            .isInstanceOf(InvalidSessionException.class);
+    }
+
+    @Test
+    @DisplayName("로그인 토큰을 사용해도 토큰이 없으면 세션으로 확인한다.")
+    void resolveFromSessionIfNoLoginToken() throws Exception {
+        // given
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute("memberId", 1L);
+        request.setSession(session);
+
+        // when
+        Object actual = resolve(
+            new LoginMemberIdArgumentResolver(Optional.of(loginTokenProvider)));
+
+        // then
+        assertThat(actual).isEqualTo(1L);
+    }
+}
@@ -0,0 +1,87 @@
+package agilementor.common.sequence;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import agilementor.AgilementorApplication;
+import agilementor.project.entity.Project;
+import agilementor.project.repository.ProjectRespository;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+// IDENTITY로 ID를 저장한 기존 DB에 시퀀스가 뒤처진 채로 시작하는 경우를 재현
+class IdSequenceVerifierTest {
+
+    private static final String URL = "jdbc:h2:mem:id-sequence;DB_CLOSE_DELAY=-1";
+
+    @BeforeEach
+    void setUp() {
+        // 시퀀스 ID 전환 전에 저장된 스프린트
+        try (ConfigurableApplicationContext context = start()) {
+            Project project = context.getBean(ProjectRespository.class)
+                .save(new Project("project"));
+            context.getBean(JdbcTemplate.class).update("insert into sprint "
+                    + "(sprint_id, project_id, title, is_done, is_activate) "
+                    + "values (1000, ?, 'legacy', false, false)",
+                project.getProjectId());
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "")) {
+            connection.createStatement().execute("drop all objects");
+        }
+    }
+
+    private ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(AgilementorApplication.class)
+            .web(WebApplicationType.NONE)
+            .bannerMode(Banner.Mode.OFF)
+            .run(
+                "--spring.datasource.url=" + URL,
+                "--spring.jpa.hibernate.ddl-auto=update",
+                "--logging.level.root=WARN");
+    }
+
+    private void restartSprintSequence(long value) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "")) {
+            connection.createStatement()
+                .execute("alter sequence sprint_seq restart with " + value);
+        }
+    }
+
+    @Test
+    @DisplayName("시퀀스의 다음 ID가 기존 최대 ID 이하이면 애플리케이션이 시작하지 않는다.")
+    void failIfSequenceBehindTable() throws SQLException {
+        // given
+        restartSprintSequence(1);
+
+        // when
+        // then
+        assertThatThrownBy(this::start)
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("Sprint");
+    }
+
+    @Test
+    @DisplayName("시퀀스를 기존 최대 ID 뒤로 맞추면 애플리케이션이 시작한다.")
+    void startIfSequenceAheadOfTable() throws SQLException {
+        // given
+        restartSprintSequence(1000 + 50);
+
+        // when
+        // then
+        assertThatCode(() -> start().close()).doesNotThrowAnyException();
+    }
+}
@@ -0,0 +1,164 @@
+package agilementor.common.session;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import agilementor.common.properties.SessionNearCacheProperties;
+import agilementor.common.session.NearCacheSessionRepository.NearCacheSession;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.session.MapSession;
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
+
+@ExtendWith(MockitoExtension.class)
+class NearCacheSessionRepositoryTest {
+
+    private static final Duration TOUCH_INTERVAL = Duration.ofMinutes(1);
+
+    @Mock
+    private SessionRepository<Session> delegate;
+
+    private NearCacheSessionRepository nearCacheSessionRepository;
+    private MapSession stored;
+
+    @BeforeEach
+    void setUp() {
+        nearCacheSessionRepository = new NearCacheSessionRepository(delegate,
+            new SessionNearCacheProperties(100, Duration.ofMinutes(1), TOUCH_INTERVAL));
+        stored = new MapSession("session-id");
+        stored.setAttribute("memberId", 1L);
+    }
+
+    @Test
+    @DisplayName("한 번 조회한 세션은 저장소를 다시 조회하지 않는다.")
+    void findByIdCachesSession() {
+        // given
+        given(delegate.findById("session-id")).willReturn(new MapSession(stored));
+        nearCacheSessionRepository.findById("session-id");
+
+        // when
+        NearCacheSession actual = nearCacheSessionRepository.findById("session-id");
+
+        // then
+        assertThat(actual.<Long>getAttribute("memberId")).isEqualTo(1L);
+        then(delegate).should(times(1)).findById("session-id");
+    }
+
+    @Test
+    @DisplayName("저장소에 없는 세션은 캐시하지 않는다.")
+    void findByIdDoesNotCacheMissingSession() {
+        // given
+        given(delegate.findById("session-id")).willReturn(null);
+        nearCacheSessionRepository.findById("session-id");
+
+        // when
+        NearCacheSession actual = nearCacheSessionRepository.findById("session-id");
+
+        // then
+        assertThat(actual).isNull();
+        then(delegate).should(times(2)).findById("session-id");
+    }
+
+    @Test
+    @DisplayName("마지막 접근 시간만 바뀐 세션은 갱신 간격 전에는 저장소에 저장하지 않는다.")
+    void saveSkipsTouchWithinInterval() {
+        // given
+        given(delegate.findById("session-id")).willReturn(new MapSession(stored));
+        NearCacheSession session = nearCacheSessionRepository.findById("session-id");
+        session.setLastAccessedTime(stored.getLastAccessedTime().plusSeconds(10));
+
+        // when
+        nearCacheSessionRepository.save(session);
+
+        // then
+        then(delegate).should(never()).save(any());
+    }
+
+    @Test
+    @DisplayName("갱신 간격이 지나면 마지막 접근 시간을 저장소에 저장한다.")
+    void saveTouchesAfterInterval() {
+        // given
+        given(delegate.findById("session-id"))
+            .willReturn(new MapSession(stored))
+            .willReturn(new MapSession(stored));
+        NearCacheSession session = nearCacheSessionRepository.findById("session-id");
+        session.setLastAccessedTime(stored.getLastAccessedTime().plus(TOUCH_INTERVAL));
+
+        // when
+        nearCacheSessionRepository.save(session);
+
+        // then
+        ArgumentCaptor<Session> saved = ArgumentCaptor.forClass(Session.class);
+        then(delegate).should().save(saved.capture());
+        assertThat(saved.getValue().getLastAccessedTime())
+            .isEqualTo(stored.getLastAccessedTime().plus(TOUCH_INTERVAL));
+    }
+
+    @Test
+    @DisplayName("속성을 바꾸면 저장소의 세션에 반영하여 저장하고 캐시도 갱신한다.")
+    void saveAttributeChange() {
+        // given
+        given(delegate.findById("session-id"))
+            .willReturn(new MapSession(stored))
+            .willReturn(new MapSession(stored));
+        NearCacheSession session = nearCacheSessionRepository.findById("session-id");
+        session.setAttribute("memberId", 2L);
+
+        // when
+        nearCacheSessionRepository.save(session);
+
+        // then
+        ArgumentCaptor<Session> saved = ArgumentCaptor.forClass(Session.class);
+        then(delegate).should().save(saved.capture());
+        assertThat(saved.getValue().<Long>getAttribute("memberId")).isEqualTo(2L);
+        assertThat(nearCacheSessionRepository.findById("session-id").<Long>getAttribute(
+            "memberId")).isEqualTo(2L);
+        then(delegate).should(times(2)).findById("session-id");
+    }
+
+    @Test
+    @DisplayName("새 세션은 저장소에 저장하고 이후 조회는 캐시에서 처리한다.")
+    void saveCreatedSession() {
+        // given
+        given(delegate.createSession()).willReturn(new MapSession("new-session-id"));
+        NearCacheSession session = nearCacheSessionRepository.createSession();
+        session.setAttribute("memberId", 1L);
+
+        // when
+        nearCacheSessionRepository.save(session);
+
+        // then
+        then(delegate).should().save(any());
+        assertThat(nearCacheSessionRepository.findById("new-session-id").<Long>getAttribute(
+            "memberId")).isEqualTo(1L);
+        then(delegate).should(never()).findById("new-session-id");
+    }
+
+    @Test
+    @DisplayName("세션을 삭제하면 캐시에서도 제거한다.")
+    void deleteById() {
+        // given
+        given(delegate.findById("session-id"))
+            .willReturn(new MapSession(stored))
+            .willReturn(null);
+        nearCacheSessionRepository.findById("session-id");
+
+        // when
+        nearCacheSessionRepository.deleteById("session-id");
+
+        // then
+        then(delegate).should().deleteById("session-id");
+        assertThat(nearCacheSessionRepository.findById("session-id")).isNull();
+    }
+}
@@ -0,0 +1,64 @@
+package agilementor.common.thread;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import agilementor.common.properties.VirtualThreadPinningProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class VirtualThreadPinningMonitorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private VirtualThreadPinningMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        monitor = new VirtualThreadPinningMonitor(
+            new VirtualThreadPinningProperties(Duration.ofMillis(1), 10), meterRegistry);
+        monitor.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        monitor.stop();
+    }
+
+    @Test
+    @DisplayName("synchronized 블록 안에서 대기한 가상 스레드의 고정 시간을 메트릭으로 기록한다.")
+    void recordPinnedVirtualThread() throws InterruptedException {
+        // given
+        Object lock = new Object();
+
+        // when
+        Thread.ofVirtual().start(() -> {
+            synchronized (lock) {
+                sleep(50);
+            }
+        }).join();
+
+        // then
+        // JFR 이벤트는 비동기로 전달되므로 기록될 때까지 대기
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (pinnedCount() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+        }
+        assertThat(pinnedCount()).isPositive();
+        assertThat(monitor.isRunning()).isTrue();
+    }
+
+    private long pinnedCount() {
+        return meterRegistry.get("jvm.threads.virtual.pinned").timer().count();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package agilementor.member.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import agilementor.common.exception.ExternalServerErrorException;
+import agilementor.member.properties.GoogleIdTokenProperties;
+import java.math.BigInteger;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+
+class GoogleJwkSetClientTest {
+
+    private static final String JWK_SET_URI = "https://www.googleapis.com/oauth2/v3/certs";
+
+    private GoogleJwkSetClient jwkSetClient;
+    private MockRestServiceServer server;
+
+    @BeforeEach
+    void setUp() {
+        RestClient.Builder restClientBuilder = RestClient.builder();
+        server = MockRestServiceServer.bindTo(restClientBuilder).build();
+        GoogleIdTokenProperties properties = new GoogleIdTokenProperties(JWK_SET_URI,
+            Set.of("https://accounts.google.com"), Duration.ofHours(1), Duration.ofDays(1),
+            Duration.ofMinutes(1), Duration.ofSeconds(60), false);
+        jwkSetClient = new GoogleJwkSetClient(properties, restClientBuilder.build());
+    }
+
+    private String encode(BigInteger value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.toByteArray());
+    }
+
+    @Test
+    @DisplayName("구글 공개키 목록을 kid별 RSA 공개키로 받을 수 있다")
+    void fetchKeys() throws NoSuchAlgorithmException {
+        // given
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        RSAPublicKey publicKey = (RSAPublicKey) generator.generateKeyPair().getPublic();
+        String response = """
+            {
+              "keys": [
+                {"kid": "kid", "kty": "RSA", "alg": "RS256", "use": "sig", "n": "%s", "e": "%s"},
+                {"kid": "ec", "kty": "EC", "crv": "P-256", "x": "x", "y": "y"}
+              ]
+            }
+            """.formatted(encode(publicKey.getModulus()), encode(publicKey.getPublicExponent()));
+        server.expect(requestTo(JWK_SET_URI))
+            .andExpect(method(HttpMethod.GET))
+            .andRespond(withSuccess(response, MediaType.APPLICATION_JSON));
+
+        // when
+        Map<String, RSAPublicKey> keys = jwkSetClient.fetchKeys();
+
+        // then
+        assertThat(keys).containsOnlyKeys("kid");
+        assertThat(keys.get("kid").getModulus()).isEqualTo(publicKey.getModulus());
+        assertThat(keys.get("kid").getPublicExponent()).isEqualTo(publicKey.getPublicExponent());
+        server.verify();
+    }
+
+    @Test
+    @DisplayName("구글 서버 오류 시 ExternalServerErrorException이 발생한다")
+    void fetchKeysFailIfServerError() {
+        // given
+        server.expect(requestTo(JWK_SET_URI))
+            .andRespond(withServerError());
+
+        // when
+        // then
+        assertThatThrownBy(() -> jwkSetClient.fetchKeys())
+            .isInstanceOf(ExternalServerErrorException.class);
+    }
+}
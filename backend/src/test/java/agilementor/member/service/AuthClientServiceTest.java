@@ -7,6 +7,7 @@ import static org.springframework.test.web.client.match.MockRestRequestMatchers.
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
 import static org.springframework.test.web.client.response.MockRestResponseCreators.withBadRequest;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withException;
 import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
 import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
 
@@ -14,6 +15,7 @@ import agilementor.common.exception.ExternalServerErrorException;
 import agilementor.common.exception.SocialLoginFailException;
 import agilementor.member.properties.GoogleClientProperties;
 import agilementor.member.properties.GoogleProviderProperties;
+import java.net.SocketTimeoutException;
 import java.net.URISyntaxException;
 import java.util.Map;
 import java.util.Set;
@@ -58,7 +60,7 @@ class AuthClientServiceTest {
     void setup() {
         server = MockRestServiceServer.bindTo(restClientBuilder).build();
         authClientService = new AuthClientService(clientProperties, providerProperties,
-            restClientBuilder);
+            restClientBuilder.build());
     }
 
     @Test
@@ -148,5 +150,22 @@ class AuthClientServiceTest {
             .isInstanceOf(ExternalServerErrorException.class);
     }
 
+    @Test
+    @DisplayName("id토큰 발급요청 응답 시간이 초과되면 ExternalServerErrorException을 발생시킨다.")
+    void requestIdTokenTimeout() {
+        // given
+        given(clientProperties.clientId()).willReturn(CLIENT_ID);
+        given(clientProperties.clientSecret()).willReturn(CLIENT_SECRET);
+        given(clientProperties.redirectUri()).willReturn(REDIRECT_URI);
+        given(providerProperties.tokenUri()).willReturn(TOKEN_URI);
+
+        server.expect(requestTo(TOKEN_URI))
+            .andExpect(method(HttpMethod.POST))
+            .andRespond(withException(new SocketTimeoutException()));
 
+        // when
+        // then
+        assertThatThrownBy(() -> authClientService.requestIdToken(CODE))
+            .isInstanceOf(ExternalServerErrorException.class);
+    }
 }
\ No newline at end of file
@@ -1,60 +1,252 @@
 package agilementor.member.util;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
 
+import agilementor.common.exception.SocialLoginFailException;
+import agilementor.member.client.GoogleJwkSetClient;
 import agilementor.member.dto.ParsedIdToken;
+import agilementor.member.properties.GoogleClientProperties;
+import agilementor.member.properties.GoogleIdTokenProperties;
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTCreator;
 import com.auth0.jwt.algorithms.Algorithm;
-import com.auth0.jwt.interfaces.Claim;
-import java.util.HashMap;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
 
+@ExtendWith(MockitoExtension.class)
 class JwtParserTest {
 
-    private final JwtParser jwtParser = new JwtParser();
+    private static final String CLIENT_ID = "CLIENT_ID";
+    private static final String ISSUER = "https://accounts.google.com";
 
-    private String makeTestToken(Map<String, String> claims) {
-        Algorithm algorithm = Algorithm.none();
-        return JWT.create().withPayload(claims).sign(algorithm);
+    private static KeyPair keyPair;
+    private static KeyPair otherKeyPair;
+
+    @Mock
+    private GoogleJwkSetClient jwkSetClient;
+
+    @BeforeAll
+    static void generateKeys() throws NoSuchAlgorithmException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        keyPair = generator.generateKeyPair();
+        otherKeyPair = generator.generateKeyPair();
+    }
+
+    private JwtParser createJwtParser(Duration refreshAfter, Duration minRefreshInterval) {
+        GoogleIdTokenProperties properties = new GoogleIdTokenProperties(
+            "https://www.googleapis.com/oauth2/v3/certs", Set.of(ISSUER, "accounts.google.com"),
+            refreshAfter, Duration.ofDays(1), minRefreshInterval, Duration.ofSeconds(60), false);
+
+        return new JwtParser(jwkSetClient, properties,
+            new GoogleClientProperties(CLIENT_ID, "CLIENT_SECRET", "REDIRECT_URI", Set.of()));
+    }
+
+    private JwtParser createJwtParser() {
+        return createJwtParser(Duration.ofHours(1), Duration.ofMinutes(1));
+    }
+
+    private JWTCreator.Builder idToken(String keyId) {
+        Instant now = Instant.now();
+
+        return JWT.create()
+            .withKeyId(keyId)
+            .withIssuer(ISSUER)
+            .withAudience(CLIENT_ID)
+            .withSubject("1234567890")
+            .withIssuedAt(now)
+            .withExpiresAt(now.plus(Duration.ofHours(1)))
+            .withPayload(Map.of("email", "email@email.com", "name", "name",
+                "picture", "picture.jpg"));
+    }
+
+    private String sign(JWTCreator.Builder idToken, KeyPair signingKeyPair) {
+        return idToken.sign(Algorithm.RSA256((RSAPublicKey) signingKeyPair.getPublic(),
+            (RSAPrivateKey) signingKeyPair.getPrivate()));
+    }
+
+    private Map<String, RSAPublicKey> publicKeys(String keyId, KeyPair publicKeyPair) {
+        return Map.of(keyId, (RSAPublicKey) publicKeyPair.getPublic());
+    }
+
+    @Test
+    @DisplayName("구글 id토큰을 검증하고 파싱할 수 있다")
+    void parseIdToken() {
+        // given
+        given(jwkSetClient.fetchKeys()).willReturn(publicKeys("kid", keyPair));
+        String idToken = sign(idToken("kid"), keyPair);
+
+        // when
+        ParsedIdToken parsedIdToken = createJwtParser().parseIdToken(idToken);
+
+        // then
+        assertThat(parsedIdToken.email()).isEqualTo("email@email.com");
+        assertThat(parsedIdToken.name()).isEqualTo("name");
+        assertThat(parsedIdToken.picture()).isEqualTo("picture.jpg");
     }
 
     @Test
-    @DisplayName("jwt토큰을 파싱할 수 있다")
-    void parseClaims() {
+    @DisplayName("구글 공개키로 서명되지 않은 토큰은 SocialLoginFailException이 발생한다")
+    void parseIdTokenFailIfSignedWithOtherKey() {
         // given
-        Map<String, String> claims = new HashMap<>();
-        claims.put("key1", "value1");
-        claims.put("key2", "value2");
-        claims.put("key3", "value3");
-        String testToken = makeTestToken(claims);
+        given(jwkSetClient.fetchKeys()).willReturn(publicKeys("kid", keyPair));
+        String idToken = sign(idToken("kid"), otherKeyPair);
 
         // when
-        Map<String, Claim> parsedClaims = jwtParser.parseClaims(testToken);
+        // then
+        assertThatThrownBy(() -> createJwtParser().parseIdToken(idToken))
+            .isInstanceOf(SocialLoginFailException.class);
+    }
 
+    @Test
+    @DisplayName("서명이 없는 토큰은 SocialLoginFailException이 발생한다")
+    void parseIdTokenFailIfNotSigned() {
+        // given
+        given(jwkSetClient.fetchKeys()).willReturn(publicKeys("kid", keyPair));
+        String idToken = idToken("kid").sign(Algorithm.none());
+
+        // when
         // then
-        for(String key : claims.keySet()) {
-            assertThat(parsedClaims.get(key).asString()).isEqualTo(claims.get(key));
+        assertThatThrownBy(() -> createJwtParser().parseIdToken(idToken))
+            .isInstanceOf(SocialLoginFailException.class);
+    }
+
+    @Test
+    @DisplayName("다른 클라이언트에 발급된 토큰은 SocialLoginFailException이 발생한다")
+    void parseIdTokenFailIfOtherAudience() {
+        // given
+        given(jwkSetClient.fetchKeys()).willReturn(publicKeys("kid", keyPair));
+        String idToken = sign(idToken("kid").withAudience("OTHER_CLIENT_ID"), keyPair);
+
+        // when
+        // then
+        assertThatThrownBy(() -> createJwtParser().parseIdToken(idToken))
+            .isInstanceOf(SocialLoginFailException.class);
+    }
+
+    @Test
+    @DisplayName("구글이 발급하지 않은 토큰은 SocialLoginFailException이 발생한다")
+    void parseIdTokenFailIfOtherIssuer() {
+        // given
+        given(jwkSetClient.fetchKeys()).willReturn(publicKeys("kid", keyPair));
+        String idToken = sign(idToken("kid").withIssuer("https://issuer.com"), keyPair);
+
+        // when
+        // then
+        assertThatThrownBy(() -> createJwtParser().parseIdToken(idToken))
+            .isInstanceOf(SocialLoginFailException.class);
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 SocialLoginFailException이 발생한다")
+    void parseIdTokenFailIfExpired() {
+        // given
+        given(jwkSetClient.fetchKeys()).willReturn(publicKeys("kid", keyPair));
+        Instant issuedAt = Instant.now().minus(Duration.ofHours(2));
+        String idToken = sign(idToken("kid")
+            .withIssuedAt(issuedAt)
+            .withExpiresAt(issuedAt.plus(Duration.ofHours(1))), keyPair);
+
+        // when
+        // then
+        assertThatThrownBy(() -> createJwtParser().parseIdToken(idToken))
+            .isInstanceOf(SocialLoginFailException.class);
+    }
+
+    @Test
+    @DisplayName("공개키는 한 번 받아 이후 로그인에서 재사용한다")
+    void reuseKeys() {
+        // given
+        given(jwkSetClient.fetchKeys()).willReturn(publicKeys("kid", keyPair));
+        JwtParser jwtParser = createJwtParser();
+
+        // when
+        jwtParser.parseIdToken(sign(idToken("kid"), keyPair));
+        jwtParser.parseIdToken(sign(idToken("kid"), keyPair));
+
+        // then
+        then(jwkSetClient).should(times(1)).fetchKeys();
+    }
+
+    @Test
+    @DisplayName("구글이 키를 교체하여 모르는 kid의 토큰이 오면 공개키를 다시 받는다")
+    void refreshKeysIfUnknownKeyId() {
+        // given
+        given(jwkSetClient.fetchKeys())
+            .willReturn(publicKeys("old", keyPair))
+            .willReturn(publicKeys("new", otherKeyPair));
+        JwtParser jwtParser = createJwtParser(Duration.ofHours(1), Duration.ZERO);
+        jwtParser.parseIdToken(sign(idToken("old"), keyPair));
+
+        // when
+        ParsedIdToken parsedIdToken = jwtParser.parseIdToken(
+            sign(idToken("new"), otherKeyPair));
+
+        // then
+        assertThat(parsedIdToken.email()).isEqualTo("email@email.com");
+        then(jwkSetClient).should(times(2)).fetchKeys();
+    }
+
+    @Test
+    @DisplayName("모르는 kid의 토큰이 반복되어도 최소 간격 안에는 공개키를 다시 받지 않는다")
+    void notRefreshKeysWithinMinRefreshInterval() {
+        // given
+        given(jwkSetClient.fetchKeys()).willReturn(publicKeys("kid", keyPair));
+        JwtParser jwtParser = createJwtParser();
+        jwtParser.parseIdToken(sign(idToken("kid"), keyPair));
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            String idToken = sign(idToken("unknown"), otherKeyPair);
+            assertThatThrownBy(() -> jwtParser.parseIdToken(idToken))
+                .isInstanceOf(SocialLoginFailException.class);
         }
+
+        // then
+        then(jwkSetClient).should(times(1)).fetchKeys();
     }
 
     @Test
-    @DisplayName("구글 id토큰을 파싱할 수 있다")
-    void parseIdToken() {
+    @DisplayName("갱신 시간이 지나면 기존 공개키로 검증하면서 백그라운드에서 새로 받는다")
+    void refreshKeysInBackground() throws InterruptedException {
         // given
-        Map<String, String> claims = new HashMap<>();
-        claims.put("email", "email@email.com");
-        claims.put("name", "name");
-        claims.put("picture", "picture.jpg");
-        String testToken = makeTestToken(claims);
+        CountDownLatch refreshing = new CountDownLatch(1);
+        given(jwkSetClient.fetchKeys())
+            .willReturn(publicKeys("kid", keyPair))
+            .willAnswer(invocation -> {
+                refreshing.await();
+                return publicKeys("kid", keyPair);
+            });
+        Duration refreshAfter = Duration.ofMillis(100);
+        JwtParser jwtParser = createJwtParser(refreshAfter, Duration.ofMinutes(1));
+        jwtParser.parseIdToken(sign(idToken("kid"), keyPair));
+        Thread.sleep(refreshAfter.multipliedBy(2).toMillis());
 
         // when
-        ParsedIdToken parsedIdToken = jwtParser.parseIdToken(testToken);
+        ParsedIdToken parsedIdToken = jwtParser.parseIdToken(sign(idToken("kid"), keyPair));
 
         // then
-        assertThat(parsedIdToken.email()).isEqualTo(claims.get("email"));
-        assertThat(parsedIdToken.name()).isEqualTo(claims.get("name"));
-        assertThat(parsedIdToken.picture()).isEqualTo(claims.get("picture"));
+        assertThat(parsedIdToken.email()).isEqualTo("email@email.com");
+        await().untilAsserted(() -> then(jwkSetClient).should(times(2)).fetchKeys());
+        refreshing.countDown();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,90 @@
+package agilementor.member.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import agilementor.member.properties.LoginTokenProperties;
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseCookie;
+
+class LoginTokenProviderTest {
+
+    private static final String SECRET = "login-token-secret-for-test-0123456789";
+
+    private final LoginTokenProvider loginTokenProvider = new LoginTokenProvider(
+        new LoginTokenProperties(true, SECRET, Duration.ofHours(1)));
+
+    @Test
+    @DisplayName("발급한 로그인 토큰을 검증하여 회원 ID를 얻을 수 있다.")
+    void issueAndVerify() {
+        // given
+        String token = loginTokenProvider.issue(1L);
+
+        // when
+        // then
+        assertThat(loginTokenProvider.verify(token)).contains(1L);
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명된 토큰은 검증에 실패한다.")
+    void verifyFailIfSignedWithOtherSecret() {
+        // given
+        String token = new LoginTokenProvider(new LoginTokenProperties(true,
+            "other-login-token-secret-0123456789", Duration.ofHours(1))).issue(1L);
+
+        // when
+        // then
+        assertThat(loginTokenProvider.verify(token)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 검증에 실패한다.")
+    void verifyFailIfExpired() {
+        // given
+        Instant issuedAt = Instant.now().minus(Duration.ofHours(2));
+        String token = JWT.create()
+            .withIssuer("agilementor")
+            .withSubject("1")
+            .withIssuedAt(issuedAt)
+            .withExpiresAt(issuedAt.plus(Duration.ofHours(1)))
+            .sign(Algorithm.HMAC256(SECRET));
+
+        // when
+        // then
+        assertThat(loginTokenProvider.verify(token)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 토큰은 검증에 실패한다.")
+    void verifyFailIfMalformed() {
+        assertThat(loginTokenProvider.verify("not-a-token")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("로그인 토큰은 스크립트에서 읽을 수 없는 secure 쿠키로 발급한다.")
+    void createCookie() {
+        // given
+        // when
+        ResponseCookie cookie = loginTokenProvider.createCookie(1L);
+
+        // then
+        assertThat(cookie.getName()).isEqualTo(LoginTokenProvider.COOKIE_NAME);
+        assertThat(cookie.isHttpOnly()).isTrue();
+        assertThat(cookie.isSecure()).isTrue();
+        assertThat(cookie.getMaxAge()).isEqualTo(Duration.ofHours(1));
+        assertThat(loginTokenProvider.verify(cookie.getValue())).contains(1L);
+    }
+
+    @Test
+    @DisplayName("서명 키가 32바이트보다 짧으면 생성할 수 없다.")
+    void createFailIfShortSecret() {
+        assertThatThrownBy(() -> new LoginTokenProvider(
+            new LoginTokenProperties(true, "short", Duration.ofHours(1))))
+            .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -32,6 +32,9 @@ class InvitationServiceTest {
     @Mock
     private ProjectMemberRepository projectMemberRepository;
 
+    @Mock
+    private ProjectMembershipCache projectMembershipCache;
+
     @InjectMocks
     private InvitationService invitationService;
 
@@ -85,6 +88,7 @@ class InvitationServiceTest {
         // then
         then(projectMemberRepository).should().save(any());
         then(invitationRepository).should().delete(any());
+        then(projectMembershipCache).should().evict(inviteeId, project.getProjectId());
     }
 
     @Test
@@ -0,0 +1,168 @@
+package agilementor.project.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import agilementor.backlog.entity.Backlog;
+import agilementor.backlog.entity.Priority;
+import agilementor.backlog.entity.Story;
+import agilementor.backlog.repository.BacklogRepository;
+import agilementor.backlog.repository.StoryRepository;
+import agilementor.chatgpt.job.GPTJob;
+import agilementor.chatgpt.repository.GPTJobRepository;
+import agilementor.member.entity.Member;
+import agilementor.member.repository.MemberRepository;
+import agilementor.project.entity.Invitation;
+import agilementor.project.entity.Project;
+import agilementor.project.entity.ProjectMember;
+import agilementor.project.properties.ProjectDeletionProperties;
+import agilementor.project.repository.InvitationRepository;
+import agilementor.project.repository.ProjectMemberRepository;
+import agilementor.project.repository.ProjectRespository;
+import agilementor.sprint.entity.BurndownSnapshot;
+import agilementor.sprint.entity.Sprint;
+import agilementor.sprint.repository.BurndownSnapshotRepository;
+import agilementor.sprint.repository.SprintRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ProjectDeletionServiceTest {
+
+    private static final int BACKLOG_COUNT = 30;
+
+    @Autowired
+    private ProjectDeletionService projectDeletionService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ProjectRespository projectRespository;
+
+    @Autowired
+    private ProjectMemberRepository projectMemberRepository;
+
+    @Autowired
+    private InvitationRepository invitationRepository;
+
+    @Autowired
+    private SprintRepository sprintRepository;
+
+    @Autowired
+    private StoryRepository storyRepository;
+
+    @Autowired
+    private BacklogRepository backlogRepository;
+
+    @Autowired
+    private BurndownSnapshotRepository burndownSnapshotRepository;
+
+    @Autowired
+    private GPTJobRepository gptJobRepository;
+
+    private Statistics statistics;
+    private Long projectId;
+    private Long otherProjectId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Member member = memberRepository.save(new Member("email@email.com", "name", "pic.jpg"));
+        Member invitee = memberRepository.save(new Member("other@email.com", "other", "pic.jpg"));
+        projectId = saveProject(member, invitee, "project", BACKLOG_COUNT);
+        otherProjectId = saveProject(member, invitee, "other", 1);
+    }
+
+    private Long saveProject(Member member, Member invitee, String title, int backlogCount) {
+        Project project = projectRespository.save(new Project(title));
+        projectMemberRepository.save(new ProjectMember(project, member, true));
+        invitationRepository.save(new Invitation(project, invitee, member));
+
+        Sprint sprint = new Sprint(project, "sprint");
+        sprint.complete();
+        sprint = sprintRepository.save(sprint);
+        burndownSnapshotRepository.save(new BurndownSnapshot(project, sprint, 0));
+        Story story = storyRepository.save(new Story(project, "story", "desc"));
+        gptJobRepository.save(new GPTJob(project.getProjectId()));
+
+        for (int i = 0; i < backlogCount; i++) {
+            backlogRepository.save(
+                new Backlog("title", "desc", Priority.MEDIUM, project, sprint, story, member));
+        }
+        return project.getProjectId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        backlogRepository.deleteAllInBatch();
+        storyRepository.deleteAllInBatch();
+        burndownSnapshotRepository.deleteAllInBatch();
+        sprintRepository.deleteAllInBatch();
+        invitationRepository.deleteAllInBatch();
+        projectMemberRepository.deleteAllInBatch();
+        projectRespository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+        gptJobRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("백로그 수와 관계없이 테이블마다 한 번의 DELETE로 프로젝트를 삭제한다.")
+    void deleteProject() {
+        // given
+        statistics.clear();
+
+        // when
+        projectDeletionService.deleteProject(projectId);
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(8);
+        assertProjectDeleted();
+    }
+
+    @Test
+    @DisplayName("chunk 크기가 설정되면 백로그를 chunk 단위로 나누어 삭제한다.")
+    void deleteProjectInChunks() {
+        // given
+        ProjectDeletionService chunkedDeletionService = new ProjectDeletionService(
+            projectRespository, projectMemberRepository, invitationRepository, backlogRepository,
+            storyRepository, sprintRepository, burndownSnapshotRepository, gptJobRepository,
+            transactionManager, new ProjectDeletionProperties(8));
+        statistics.clear();
+
+        // when
+        chunkedDeletionService.deleteProject(projectId);
+
+        // then
+        // chunk마다 ID 조회와 DELETE 2번씩 (8, 8, 8, 6개) + 테이블별 DELETE 8번
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4 * 2 + 8);
+        assertProjectDeleted();
+    }
+
+    private void assertProjectDeleted() {
+        assertThat(projectRespository.findAll())
+            .extracting(Project::getProjectId)
+            .containsExactly(otherProjectId);
+        assertThat(backlogRepository.count()).isEqualTo(1);
+        assertThat(storyRepository.count()).isEqualTo(1);
+        assertThat(sprintRepository.count()).isEqualTo(1);
+        assertThat(burndownSnapshotRepository.count()).isEqualTo(1);
+        assertThat(invitationRepository.count()).isEqualTo(1);
+        assertThat(projectMemberRepository.count()).isEqualTo(1);
+        assertThat(gptJobRepository.count()).isEqualTo(1);
+    }
+}
@@ -52,6 +52,9 @@ class ProjectMemberServiceTest {
     @Mock
     private BacklogRepository backlogRepository;
 
+    @Mock
+    private ProjectMembershipCache projectMembershipCache;
+
     @InjectMocks
     private ProjectMemberService projectMemberService;
 
@@ -139,6 +142,7 @@ class ProjectMemberServiceTest {
 
         // then
         then(projectMemberRepository).should().delete(any());
+        then(projectMembershipCache).should().evict(targetMemberId, PROJECT_ID);
         assertThat(backlog1.getStatus()).isEqualTo(Status.TODO);
         assertThat(backlog1.getAssignee()).isNull();
         assertThat(backlog2.getStatus()).isEqualTo(Status.TODO);
@@ -0,0 +1,143 @@
+package agilementor.project.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+import agilementor.member.entity.Member;
+import agilementor.project.dto.ProjectMembership;
+import agilementor.project.entity.Project;
+import agilementor.project.entity.ProjectMember;
+import agilementor.project.properties.ProjectMembershipCacheProperties;
+import agilementor.project.repository.ProjectMemberRepository;
+import jakarta.persistence.EntityManager;
+import java.time.Duration;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectMembershipCacheTest {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final Long PROJECT_ID = 2L;
+
+    @Mock
+    private ProjectMemberRepository projectMemberRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private ProjectMembershipCache projectMembershipCache;
+    private Project project;
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        projectMembershipCache = new ProjectMembershipCache(
+            new ProjectMembershipCacheProperties(100, Duration.ofMinutes(5)),
+            projectMemberRepository, entityManager);
+        project = new Project("project");
+        member = new Member("email@email.com", "name", "pic.jpg");
+    }
+
+    @Test
+    @DisplayName("처음 조회한 멤버십은 DB에서 조회한 엔티티를 반환한다.")
+    void findLoadsMembership() {
+        // given
+        given(projectMemberRepository.findByMemberIdAndProjectId(MEMBER_ID, PROJECT_ID))
+            .willReturn(Optional.of(new ProjectMember(project, member, true)));
+
+        // when
+        Optional<ProjectMembership> actual = projectMembershipCache.find(MEMBER_ID, PROJECT_ID);
+
+        // then
+        assertThat(actual).contains(new ProjectMembership(project, member, true));
+    }
+
+    @Test
+    @DisplayName("캐시된 멤버십은 멤버십을 다시 조회하지 않고 프로젝트와 회원의 참조를 반환한다.")
+    void findHitReturnsReferences() {
+        // given
+        given(projectMemberRepository.findByMemberIdAndProjectId(MEMBER_ID, PROJECT_ID))
+            .willReturn(Optional.of(new ProjectMember(project, member, false)));
+        given(entityManager.getReference(Project.class, PROJECT_ID)).willReturn(project);
+        given(entityManager.getReference(Member.class, MEMBER_ID)).willReturn(member);
+        projectMembershipCache.find(MEMBER_ID, PROJECT_ID);
+
+        // when
+        Optional<ProjectMembership> actual = projectMembershipCache.find(MEMBER_ID, PROJECT_ID);
+
+        // then
+        assertThat(actual).contains(new ProjectMembership(project, member, false));
+        then(projectMemberRepository).should(times(1))
+            .findByMemberIdAndProjectId(MEMBER_ID, PROJECT_ID);
+    }
+
+    @Test
+    @DisplayName("프로젝트 멤버가 아니면 캐시하지 않는다.")
+    void findDoesNotCacheNonMember() {
+        // given
+        given(projectMemberRepository.findByMemberIdAndProjectId(MEMBER_ID, PROJECT_ID))
+            .willReturn(Optional.empty());
+        projectMembershipCache.find(MEMBER_ID, PROJECT_ID);
+
+        // when
+        Optional<ProjectMembership> actual = projectMembershipCache.find(MEMBER_ID, PROJECT_ID);
+
+        // then
+        assertThat(actual).isEmpty();
+        then(projectMemberRepository).should(times(2))
+            .findByMemberIdAndProjectId(MEMBER_ID, PROJECT_ID);
+    }
+
+    @Test
+    @DisplayName("멤버십을 제거하면 다음 조회에서 DB를 다시 조회한다.")
+    void evict() {
+        // given
+        given(projectMemberRepository.findByMemberIdAndProjectId(MEMBER_ID, PROJECT_ID))
+            .willReturn(Optional.of(new ProjectMember(project, member, true)))
+            .willReturn(Optional.empty());
+        projectMembershipCache.find(MEMBER_ID, PROJECT_ID);
+
+        // when
+        projectMembershipCache.evict(MEMBER_ID, PROJECT_ID);
+
+        // then
+        assertThat(projectMembershipCache.find(MEMBER_ID, PROJECT_ID)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("프로젝트의 멤버십을 제거하면 해당 프로젝트의 모든 멤버십을 다시 조회한다.")
+    void evictProject() {
+        // given
+        Long otherMemberId = 3L;
+        Long otherProjectId = 4L;
+        given(projectMemberRepository.findByMemberIdAndProjectId(MEMBER_ID, PROJECT_ID))
+            .willReturn(Optional.of(new ProjectMember(project, member, true)))
+            .willReturn(Optional.empty());
+        given(projectMemberRepository.findByMemberIdAndProjectId(otherMemberId, PROJECT_ID))
+            .willReturn(Optional.of(new ProjectMember(project, member, false)))
+            .willReturn(Optional.empty());
+        given(projectMemberRepository.findByMemberIdAndProjectId(MEMBER_ID, otherProjectId))
+            .willReturn(Optional.of(new ProjectMember(project, member, false)));
+        given(entityManager.getReference(Project.class, otherProjectId)).willReturn(project);
+        given(entityManager.getReference(Member.class, MEMBER_ID)).willReturn(member);
+        projectMembershipCache.find(MEMBER_ID, PROJECT_ID);
+        projectMembershipCache.find(otherMemberId, PROJECT_ID);
+        projectMembershipCache.find(MEMBER_ID, otherProjectId);
+
+        // when
+        projectMembershipCache.evictProject(PROJECT_ID);
+
+        // then
+        assertThat(projectMembershipCache.find(MEMBER_ID, PROJECT_ID)).isEmpty();
+        assertThat(projectMembershipCache.find(otherMemberId, PROJECT_ID)).isEmpty();
+        assertThat(projectMembershipCache.find(MEMBER_ID, otherProjectId)).isPresent();
+    }
+}
@@ -10,11 +10,11 @@ import agilementor.backlog.entity.Backlog;
 import agilementor.backlog.entity.Priority;
 import agilementor.backlog.entity.Status;
 import agilementor.backlog.repository.BacklogRepository;
-import agilementor.backlog.repository.StoryRepository;
 import agilementor.common.exception.NotProjectAdminException;
 import agilementor.common.exception.ProjectNotFoundException;
 import agilementor.member.entity.Member;
 import agilementor.member.repository.MemberRepository;
+import agilementor.project.dto.ProjectMembership;
 import agilementor.project.dto.request.ProjectCreateRequest;
 import agilementor.project.dto.request.ProjectUpdateRequest;
 import agilementor.project.dto.response.ProjectResponse;
@@ -22,7 +22,6 @@ import agilementor.project.entity.Project;
 import agilementor.project.entity.ProjectMember;
 import agilementor.project.repository.ProjectMemberRepository;
 import agilementor.project.repository.ProjectRespository;
-import agilementor.sprint.repository.SprintRepository;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
@@ -48,10 +47,10 @@ class ProjectServiceTest {
     private BacklogRepository backlogRepository;
 
     @Mock
-    private StoryRepository storyRepository;
+    private ProjectDeletionService projectDeletionService;
 
     @Mock
-    private SprintRepository sprintRepository;
+    private ProjectMembershipCache projectMembershipCache;
 
     @InjectMocks
     private ProjectService projectService;
@@ -106,8 +105,8 @@ class ProjectServiceTest {
         Project project = new Project(projectTitle);
         ProjectMember projectMember = new ProjectMember(project, member, true);
 
-        given(projectMemberRepository.findByMemberIdAndProjectId(any(), any()))
-            .willReturn(Optional.of(projectMember));
+        given(projectMembershipCache.find(any(), any()))
+            .willReturn(Optional.of(ProjectMembership.from(projectMember)));
 
         // when
         ProjectResponse actual = projectService.getProject(1L, 1L);
@@ -120,7 +119,7 @@ class ProjectServiceTest {
     @DisplayName("존재하지 않는 프로젝트 정보는 조회할 수 없다.")
     void getProjectFailIfNotExisting() {
         // given
-        given(projectMemberRepository.findByMemberIdAndProjectId(any(), any()))
+        given(projectMembershipCache.find(any(), any()))
             .willReturn(Optional.empty());
 
         // when
@@ -133,7 +132,7 @@ class ProjectServiceTest {
     @DisplayName("참가하지 않은 프로젝트 정보는 조회할 수 없다.")
     void getProjectFailIfNotParticipating() {
         // given
-        given(projectMemberRepository.findByMemberIdAndProjectId(any(), any()))
+        given(projectMembershipCache.find(any(), any()))
             .willReturn(Optional.empty());
 
         // when
@@ -223,14 +222,11 @@ class ProjectServiceTest {
             .willReturn(Optional.of(projectMember));
 
         // when
-        projectService.deleteProject(1L, 1L);
+        projectService.deleteProject(1L, 2L);
 
         // then
-        then(projectMemberRepository).should().deleteAllByProject(project);
-        then(backlogRepository).should().deleteByProject(project);
-        then(storyRepository).should().deleteByProject(project);
-        then(sprintRepository).should().deleteByProject(project);
-        then(projectRespository).should().delete(project);
+        then(projectDeletionService).should().deleteProject(2L);
+        then(projectMembershipCache).should().evictProject(2L);
     }
 
     @Test
@@ -305,6 +301,7 @@ class ProjectServiceTest {
 
         // then
         then(projectMemberRepository).should().delete(projectMember);
+        then(projectMembershipCache).should().evict(any(), any());
         assertThat(backlog1.getStatus()).isEqualTo(Status.TODO);
         assertThat(backlog1.getAssignee()).isNull();
         assertThat(backlog2.getStatus()).isEqualTo(Status.TODO);
@@ -1,24 +1,28 @@
 package agilementor.sprint.service;
 
 import agilementor.backlog.entity.Backlog;
-import agilementor.backlog.entity.Priority;
 import agilementor.backlog.entity.Status;
+import agilementor.backlog.repository.BacklogRepository;
 import agilementor.common.exception.EndDateNullException;
 import agilementor.common.exception.ProjectNotFoundException;
 import agilementor.common.exception.SprintNotFoundException;
 import agilementor.common.exception.TitleNullException;
 import agilementor.member.entity.Member;
+import agilementor.project.dto.ProjectMembership;
 import agilementor.project.entity.Project;
 import agilementor.project.entity.ProjectMember;
-import agilementor.project.repository.ProjectMemberRepository;
-import agilementor.project.repository.ProjectRespository;
+import agilementor.project.service.ProjectMembershipCache;
 import agilementor.sprint.dto.CompletedSprintData;
+import agilementor.sprint.dto.SprintBacklogCount;
 import agilementor.sprint.dto.SprintForm;
 import agilementor.sprint.dto.SprintResponse;
+import agilementor.sprint.entity.BurndownSnapshot;
 import agilementor.sprint.entity.Sprint;
+import agilementor.sprint.repository.BurndownSnapshotRepository;
 import agilementor.sprint.repository.SprintRepository;
-import agilementor.backlog.repository.BacklogRepository;
-import java.util.Collections;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -27,12 +31,7 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.test.util.ReflectionTestUtils;
 
-import java.time.LocalDate;
-import java.util.List;
-import java.util.Optional;
-
 import static org.assertj.core.api.Assertions.*;
-import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.*;
@@ -46,10 +45,10 @@ class SprintServiceTest {
     private BacklogRepository backlogRepository;
 
     @Mock
-    private ProjectRespository projectRepository;
+    private ProjectMembershipCache projectMembershipCache;
 
     @Mock
-    private ProjectMemberRepository projectMemberRepository;
+    private BurndownSnapshotRepository burndownSnapshotRepository;
 
     @InjectMocks
     private SprintService sprintService;
@@ -82,10 +81,8 @@ class SprintServiceTest {
         projectMember = new ProjectMember(project, mockedMember, true);
 
         // Mock 리포지토리 동작
-        given(projectMemberRepository.findByMemberIdAndProjectId(any(), any()))
-            .willReturn(Optional.of(projectMember));
-        given(projectRepository.findById(any()))
-            .willReturn(Optional.of(project));
+        given(projectMembershipCache.find(any(), any()))
+            .willReturn(Optional.of(ProjectMembership.from(projectMember)));
 
         // 완료된 스프린트 설정
         Sprint completedSprint = new Sprint(project, "Completed Sprint");
@@ -100,39 +97,24 @@ class SprintServiceTest {
         ReflectionTestUtils.setField(activeSprint, "endDate", LocalDate.now()); // 오늘 날짜로 설정
 
         // Mock 데이터 저장
-        given(projectRepository.findById(any())).willReturn(Optional.of(project));
         given(sprintRepository.findByProject_ProjectIdAndIsDoneTrueOrderByEndDateAsc(any()))
             .willReturn(List.of(completedSprint));
         given(sprintRepository.findByProjectAndIsActivateTrue(any()))
             .willReturn(Optional.of(activeSprint));
 
-        // 백로그 설정
-        Backlog completedBacklog = new Backlog("Task 1", "Description", Priority.HIGH, project, sprint, null, null);
-        ReflectionTestUtils.setField(completedBacklog, "status", Status.DONE);
-
-        Backlog incompleteBacklog = new Backlog("Task 1", "Description", Priority.HIGH, project, sprint, null, null);
-        ReflectionTestUtils.setField(incompleteBacklog, "status", Status.IN_PROGRESS);
-
-        given(backlogRepository.findBySprint(completedSprint))
-            .willReturn(List.of(completedBacklog));
-        given(backlogRepository.findBySprint(activeSprint))
-            .willReturn(List.of(completedBacklog, incompleteBacklog));
-
-        List<Backlog> projectBacklogs = List.of(
-            new Backlog("Task 1", "Description", Priority.HIGH, project, sprint, null, null),
-            new Backlog("Task 2", "Description", Priority.MEDIUM, project, sprint, null, null)
-        );
-
-        given(backlogRepository.findByProject(any()))
-            .willReturn(projectBacklogs);
+        // 번다운 데이터 설정 (완료된 스프린트: 완료 1개, 활성 스프린트: 완료 1개, 프로젝트 전체 2개)
+        given(backlogRepository.countByProject(any())).willReturn(2L);
+        given(burndownSnapshotRepository.findByProject(any()))
+            .willReturn(List.of(new BurndownSnapshot(project, completedSprint, 1L)));
+        given(backlogRepository.countBySprint_IdAndStatus(2L, Status.DONE)).willReturn(1L);
     }
 
     @Test
     @DisplayName("스프린트를 생성한다.")
     void createSprint() {
         // given
-        given(projectMemberRepository.findByMemberIdAndProjectId(any(), any())).willReturn(Optional.of(projectMember));
-        given(projectRepository.findById(any())).willReturn(Optional.of(project));
+        given(projectMembershipCache.find(any(), any()))
+            .willReturn(Optional.of(ProjectMembership.from(projectMember)));
         given(sprintRepository.countByProject_ProjectId(any())).willReturn(0L);
         given(sprintRepository.save(any(Sprint.class))).willReturn(sprint);
 
@@ -148,8 +130,8 @@ class SprintServiceTest {
     @DisplayName("프로젝트 ID로 isDone이 false인 모든 스프린트를 조회한다.")
     void getAllSprints() {
         // given
-        given(projectMemberRepository.findByMemberIdAndProjectId(any(), any()))
-            .willReturn(Optional.of(projectMember));
+        given(projectMembershipCache.find(any(), any()))
+            .willReturn(Optional.of(ProjectMembership.from(projectMember)));
         given(sprintRepository.findByProject_ProjectIdAndIsDoneFalse(any()))
             .willReturn(List.of(sprint));
 
@@ -161,7 +143,7 @@ class SprintServiceTest {
         assertThat(responseList.get(0).title()).isEqualTo(sprint.getTitle());
         assertThat(responseList.get(0).isDone()).isFalse();
         then(sprintRepository).should().findByProject_ProjectIdAndIsDoneFalse(projectId);
-        then(projectMemberRepository).should().findByMemberIdAndProjectId(memberId, projectId);
+        then(projectMembershipCache).should().find(memberId, projectId);
     }
 
 
@@ -169,7 +151,8 @@ class SprintServiceTest {
     @DisplayName("스프린트 ID로 스프린트를 조회한다.")
     void getSprintById() {
         // given
-        given(projectMemberRepository.findByMemberIdAndProjectId(any(), any())).willReturn(Optional.of(projectMember));
+        given(projectMembershipCache.find(any(), any()))
+            .willReturn(Optional.of(ProjectMembership.from(projectMember)));
         given(sprintRepository.findByProject_ProjectIdAndId(any(), any())).willReturn(Optional.of(sprint));
 
         // when
@@ -184,7 +167,8 @@ class SprintServiceTest {
     void updateSprint() {
         // given
         SprintForm form = new SprintForm("Updated Title", "Updated Goal", LocalDate.now(), LocalDate.now().plusDays(7), false, false);
-        given(projectMemberRepository.findByMemberIdAndProjectId(any(), any())).willReturn(Optional.of(projectMember));
+        given(projectMembershipCache.find(any(), any()))
+            .willReturn(Optional.of(ProjectMembership.from(projectMember)));
         given(sprintRepository.findByProject_ProjectIdAndId(any(), any())).willReturn(Optional.of(sprint));
         given(sprintRepository.save(any(Sprint.class))).willReturn(sprint);
 
@@ -200,7 +184,8 @@ class SprintServiceTest {
     @DisplayName("스프린트를 삭제한다.")
     void deleteSprint() {
         // given
-        given(projectMemberRepository.findByMemberIdAndProjectId(any(), any())).willReturn(Optional.of(projectMember));
+        given(projectMembershipCache.find(any(), any()))
+            .willReturn(Optional.of(ProjectMembership.from(projectMember)));
         given(sprintRepository.findByProject_ProjectIdAndId(any(), any())).willReturn(Optional.of(sprint));
 
         // when
@@ -211,57 +196,31 @@ class SprintServiceTest {
     }
 
     @Test
-    @DisplayName("스프린트를 삭제하기 전에 연관된 백로그의 sprintId를 null로 설정한다.")
-    void deleteSprint_shouldSetSprintIdToNullInBacklogs() {
-        // given
-        List<Backlog> backlogs = List.of(
-            new Backlog("Task 1", "Description", Priority.HIGH, project, sprint, null, null),
-            new Backlog("Task 2", "Description", Priority.HIGH, project, sprint, null, null)
-        );
-        given(projectMemberRepository.findByMemberIdAndProjectId(any(), any())).willReturn(Optional.of(projectMember));
-        given(sprintRepository.findByProject_ProjectIdAndId(any(), any())).willReturn(Optional.of(sprint));
-        given(backlogRepository.findBySprint(sprint)).willReturn(backlogs);
-
-        // when
-        sprintService.deleteSprint(memberId, projectId, sprintId);
-
-        // then
-        for (Backlog backlog : backlogs) {
-            assertNull(backlog.getSprint(), "Backlog's sprint should be null after deletion.");
-        }
-        then(backlogRepository).should(times(backlogs.size())).save(any(Backlog.class));
-    }
-
-    @Test
-    @DisplayName("백로그 저장을 호출한다.")
-    void deleteSprint_shouldCallBacklogSave() {
+    @DisplayName("스프린트를 삭제하기 전에 연관된 백로그를 한 번의 벌크 업데이트로 백로그 목록으로 이동한다.")
+    void deleteSprint_shouldMoveBacklogsToProductBacklog() {
         // given
-        List<Backlog> backlogs = List.of(
-            new Backlog("Task 1", "Description", Priority.HIGH, project, sprint, null, null),
-            new Backlog("Task 2", "Description", Priority.HIGH, project, sprint, null, null)
-        );
-        given(projectMemberRepository.findByMemberIdAndProjectId(any(), any())).willReturn(Optional.of(projectMember));
+        given(projectMembershipCache.find(any(), any()))
+            .willReturn(Optional.of(ProjectMembership.from(projectMember)));
         given(sprintRepository.findByProject_ProjectIdAndId(any(), any())).willReturn(Optional.of(sprint));
-        given(backlogRepository.findBySprint(sprint)).willReturn(backlogs);
+        given(backlogRepository.moveAllToProductBacklog(sprintId)).willReturn(2);
 
         // when
         sprintService.deleteSprint(memberId, projectId, sprintId);
 
         // then
-        then(backlogRepository).should(times(backlogs.size())).save(any(Backlog.class));
+        then(backlogRepository).should().moveAllToProductBacklog(sprintId);
+        then(backlogRepository).should(never()).findBySprint(any());
+        then(backlogRepository).should(never()).save(any(Backlog.class));
     }
 
     @Test
     @DisplayName("스프린트를 삭제한다.")
     void deleteSprint_shouldDeleteSprint() {
         // given
-        List<Backlog> backlogs = List.of(
-            new Backlog("Task 1", "Description", Priority.HIGH, project, sprint, null, null),
-            new Backlog("Task 2", "Description", Priority.HIGH, project, sprint, null, null)
-        );
-        given(projectMemberRepository.findByMemberIdAndProjectId(any(), any())).willReturn(Optional.of(projectMember));
+        given(projectMembershipCache.find(any(), any()))
+            .willReturn(Optional.of(ProjectMembership.from(projectMember)));
         given(sprintRepository.findByProject_ProjectIdAndId(any(), any())).willReturn(Optional.of(sprint));
-        given(backlogRepository.findBySprint(sprint)).willReturn(backlogs);
+        given(backlogRepository.moveAllToProductBacklog(sprintId)).willReturn(2);
 
         // when
         sprintService.deleteSprint(memberId, projectId, sprintId);
@@ -274,9 +233,10 @@ class SprintServiceTest {
     @DisplayName("연결된 백로그가 없는 경우에도 스프린트를 정상적으로 삭제한다.")
     void deleteSprint_shouldHandleNoBacklogs() {
         // given
-        given(projectMemberRepository.findByMemberIdAndProjectId(any(), any())).willReturn(Optional.of(projectMember));
+        given(projectMembershipCache.find(any(), any()))
+            .willReturn(Optional.of(ProjectMembership.from(projectMember)));
         given(sprintRepository.findByProject_ProjectIdAndId(any(), any())).willReturn(Optional.of(sprint));
-        given(backlogRepository.findBySprint(sprint)).willReturn(Collections.emptyList());
+        given(backlogRepository.moveAllToProductBacklog(sprintId)).willReturn(0);
 
         // when
         sprintService.deleteSprint(memberId, projectId, sprintId);
@@ -290,7 +250,8 @@ class SprintServiceTest {
     @DisplayName("스프린트를 찾을 수 없을 때 예외를 발생시킨다.")
     void deleteSprint_shouldThrowExceptionIfSprintNotFound() {
         // given
-        given(projectMemberRepository.findByMemberIdAndProjectId(any(), any())).willReturn(Optional.of(projectMember));
+        given(projectMembershipCache.find(any(), any()))
+            .willReturn(Optional.of(ProjectMembership.from(projectMember)));
         given(sprintRepository.findByProject_ProjectIdAndId(any(), any())).willReturn(Optional.empty());
 
         // when & then
@@ -304,7 +265,8 @@ class SprintServiceTest {
     void startSprint() {
         // given
         SprintForm form = new SprintForm("Sprint 1", "Goal", LocalDate.now(), LocalDate.now().plusDays(7), false, true);
-        given(projectMemberRepository.findByMemberIdAndProjectId(any(), any())).willReturn(Optional.of(projectMember));
+        given(projectMembershipCache.find(any(), any()))
+            .willReturn(Optional.of(ProjectMembership.from(projectMember)));
         given(sprintRepository.findByProject_ProjectIdAndId(any(), any())).willReturn(Optional.of(sprint));
         given(sprintRepository.save(any(Sprint.class))).willReturn(sprint);
 
@@ -321,7 +283,8 @@ class SprintServiceTest {
     void startSprintThrowsExceptionWhenEndDateIsNull() {
         // given
         SprintForm form = new SprintForm("Sprint 1", "Goal", LocalDate.now(), null, false, true);
-        given(projectMemberRepository.findByMemberIdAndProjectId(any(), any())).willReturn(Optional.of(projectMember));
+        given(projectMembershipCache.find(any(), any()))
+            .willReturn(Optional.of(ProjectMembership.from(projectMember)));
         given(sprintRepository.findByProject_ProjectIdAndId(any(), any())).willReturn(Optional.of(sprint));
 
         // when & then
@@ -334,7 +297,8 @@ class SprintServiceTest {
     void updateSprintThrowsExceptionWhenTitleIsNull() {
         // given
         SprintForm form = new SprintForm(null, "Goal", LocalDate.now(), LocalDate.now().plusDays(7), false, false);
-        given(projectMemberRepository.findByMemberIdAndProjectId(any(), any())).willReturn(Optional.of(projectMember));
+        given(projectMembershipCache.find(any(), any()))
+            .willReturn(Optional.of(ProjectMembership.from(projectMember)));
         given(sprintRepository.findByProject_ProjectIdAndId(any(), any())).willReturn(Optional.of(sprint));
 
         // when & then
@@ -347,7 +311,8 @@ class SprintServiceTest {
     void startSprintThrowsExceptionWhenTitleIsNull() {
         // given
         SprintForm form = new SprintForm(null, "Goal", LocalDate.now(), LocalDate.now().plusDays(7), false, true);
-        given(projectMemberRepository.findByMemberIdAndProjectId(any(), any())).willReturn(Optional.of(projectMember));
+        given(projectMembershipCache.find(any(), any()))
+            .willReturn(Optional.of(ProjectMembership.from(projectMember)));
         given(sprintRepository.findByProject_ProjectIdAndId(any(), any())).willReturn(Optional.of(sprint));
 
         // when & then
@@ -359,16 +324,12 @@ class SprintServiceTest {
     @DisplayName("스프린트를 완료한다.")
     void completeSprint() {
         // given
-        // Mock 데이터 생성
-        Backlog backlog = new Backlog("Task 1", "Description", Priority.HIGH, project, sprint, null, null);
-
-        // given
-        given(projectMemberRepository.findByMemberIdAndProjectId(any(), any()))
-            .willReturn(Optional.of(projectMember));
+        given(projectMembershipCache.find(any(), any()))
+            .willReturn(Optional.of(ProjectMembership.from(projectMember)));
         given(sprintRepository.findByProject_ProjectIdAndId(any(), any()))
             .willReturn(Optional.of(sprint));
-        given(backlogRepository.findBySprint_IdAndStatusNot(any(), eq(Status.DONE)))
-            .willReturn(List.of(backlog)); // isDone이 false인 백로그를 반환
+        given(backlogRepository.moveUnfinishedToProductBacklog(sprintId))
+            .willReturn(1); // 완료되지 않은 백로그 1개를 백로그 목록으로 이동
         given(sprintRepository.save(any(Sprint.class))).willReturn(sprint);
 
         // when
@@ -376,11 +337,31 @@ class SprintServiceTest {
 
         // then
         assertThat(response.isDone()).isTrue();
-        then(projectMemberRepository).should().findByMemberIdAndProjectId(memberId, projectId);
+        then(projectMembershipCache).should().find(memberId, projectId);
         then(sprintRepository).should().findByProject_ProjectIdAndId(projectId, sprintId);
-        then(backlogRepository).should().findBySprint_IdAndStatusNot(sprintId, Status.DONE);
-        then(backlogRepository).should().save(any(Backlog.class)); // 변경된 백로그 저장 검증
+        then(backlogRepository).should().moveUnfinishedToProductBacklog(sprintId); // 벌크 업데이트 검증
+        then(backlogRepository).should(never()).save(any(Backlog.class)); // 백로그를 하나씩 저장하지 않음
         then(sprintRepository).should().save(any(Sprint.class)); // 스프린트 완료 상태 저장 검증
+        then(burndownSnapshotRepository).should().save(any(BurndownSnapshot.class)); // 번다운 스냅샷 저장 검증
+    }
+
+    @Test
+    @DisplayName("스프린트를 완료하면 완료된 백로그 수를 번다운 스냅샷에 기록한다.")
+    void completeSprint_shouldRecordBurndownSnapshot() {
+        // given
+        given(sprintRepository.findByProject_ProjectIdAndId(any(), any()))
+            .willReturn(Optional.of(sprint));
+        given(backlogRepository.moveUnfinishedToProductBacklog(sprintId)).willReturn(0);
+        given(sprintRepository.save(any(Sprint.class))).willReturn(sprint);
+        given(backlogRepository.countBySprint_IdAndStatus(sprintId, Status.DONE)).willReturn(3L);
+        given(burndownSnapshotRepository.findBySprint(sprint)).willReturn(Optional.empty());
+
+        // when
+        sprintService.completeSprint(memberId, projectId, sprintId);
+
+        // then
+        then(burndownSnapshotRepository).should().save(argThat(snapshot ->
+            snapshot.getSprint() == sprint && snapshot.getCompletedBacklogs() == 3L));
     }
 
 
@@ -388,7 +369,7 @@ class SprintServiceTest {
     @DisplayName("프로젝트가 없으면 예외를 발생시킨다.")
     void validateProjectThrowsExceptionWhenNotFound() {
         // given
-        given(projectMemberRepository.findByMemberIdAndProjectId(any(), any())).willReturn(Optional.empty());
+        given(projectMembershipCache.find(any(), any())).willReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> sprintService.getAllSprints(memberId, projectId))
@@ -399,7 +380,8 @@ class SprintServiceTest {
     @DisplayName("스프린트가 없으면 예외를 발생시킨다.")
     void validateSprintThrowsExceptionWhenNotFound() {
         // given
-        given(projectMemberRepository.findByMemberIdAndProjectId(any(), any())).willReturn(Optional.of(projectMember));
+        given(projectMembershipCache.find(any(), any()))
+            .willReturn(Optional.of(ProjectMembership.from(projectMember)));
         given(sprintRepository.findByProject_ProjectIdAndId(any(), any())).willReturn(Optional.empty());
 
         // when & then
@@ -433,6 +415,28 @@ class SprintServiceTest {
         assertThat(activeSprint.getRemainingBacklogs()).isEqualTo(0);
     }
 
+    @Test
+    @DisplayName("스냅샷이 없는 완료된 스프린트는 집계 쿼리로 계산하고, 조회 중에는 스냅샷을 저장하지 않는다.")
+    void getBurndownData_WithoutSnapshot() {
+        // given
+        given(burndownSnapshotRepository.findByProject(any())).willReturn(List.of());
+        given(backlogRepository.countBySprintAndStatus(projectId))
+            .willReturn(List.of(
+                new SprintBacklogCount(1L, Status.DONE, 1L),
+                new SprintBacklogCount(2L, Status.DONE, 1L),
+                new SprintBacklogCount(null, Status.TODO, 1L)
+            ));
+
+        // when
+        List<CompletedSprintData> response = sprintService.getBurndownData(memberId, projectId);
+
+        // then
+        assertThat(response.get(0).getCompletedInSprint()).isEqualTo(1);
+        assertThat(response.get(0).getRemainingBacklogs()).isEqualTo(1);
+        then(burndownSnapshotRepository).should(never()).saveAll(any());
+        then(burndownSnapshotRepository).should(never()).save(any());
+    }
+
     @Test
     @DisplayName("활성 스프린트가 없을 때 번다운 데이터를 반환한다.")
     void getBurndownData_NoActiveSprint() {
@@ -475,8 +479,8 @@ class SprintServiceTest {
     @DisplayName("프로젝트가 없을 때 ProjectNotFoundException을 반환한다.")
     void getBurndownData_ProjectNotFound() {
         // given
-        given(projectRepository.findById(any()))
-            .willThrow(new ProjectNotFoundException());
+        given(projectMembershipCache.find(any(), any()))
+            .willReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> sprintService.getBurndownData(memberId, projectId))